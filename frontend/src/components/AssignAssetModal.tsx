@@ -3,13 +3,13 @@ import { X, UserPlus, Loader2, User } from 'lucide-react';
 import toast from 'react-hot-toast';
 import { userService } from '../services/userService';
 import { assetService } from '../services/assetService';
-import { Asset, UserSummary } from '../types/asset';
+import { AssetSummary, UserSummary } from '../types/asset';
 
 interface AssignAssetModalProps {
     isOpen: boolean;
     onClose: () => void;
     onSuccess: () => void;
-    asset: Asset | null;
+    asset: AssetSummary | null;
 }
 
 /**
@@ -4,7 +4,7 @@ import {
     Search, Filter, Trash2, Edit, UserPlus
 } from 'lucide-react';
 import { useDashboardStats } from '../hooks/useDashboardStats';
-import { AssetStatus, Asset, Page } from '../types/asset';
+import { AssetStatus, Asset, AssetSummary, Page } from '../types/asset';
 import { assetService } from '../services/assetService';
 import AddAssetModal from '../components/AddAssetModal';
 import AssignAssetModal from '../components/AssignAssetModal';
@@ -87,7 +87,7 @@ const Dashboard: React.FC = () => {
     const { stats, isLoading: statsLoading, error: statsError, refetch: refetchStats } = useDashboardStats();
 
     // 2. Manage page data
-    const [pageData, setPageData] = useState<Page<Asset> | null>(null);
+    const [pageData, setPageData] = useState<Page<AssetSummary> | null>(null);
     const [isTableLoading, setIsTableLoading] = useState(false);
 
     // Manage query params
@@ -104,7 +104,7 @@ const Dashboard: React.FC = () => {
     const [isAddModalOpen, setIsAddModalOpen] = useState(false);
     const [editingAsset, setEditingAsset] = useState<Asset | null>(null);
     const [isAssignModalOpen, setIsAssignModalOpen] = useState(false);
-    const [assigningAsset, setAssigningAsset] = useState<Asset | null>(null);
+    const [assigningAsset, setAssigningAsset] = useState<AssetSummary | null>(null);
 
     // 3. Asset fetching method
     const fetchAssets = async () => {
@@ -153,9 +153,15 @@ const Dashboard: React.FC = () => {
     };
 
     // Modal handlers
-    const handleEditClick = (asset: Asset) => {
-        setEditingAsset(asset);
-        setIsAddModalOpen(true);
+    const handleEditClick = async (asset: AssetSummary) => {
+        // The listing only carries summaries; the form needs every field
+        try {
+            setEditingAsset(await assetService.getAsset(asset.id));
+            setIsAddModalOpen(true);
+        } catch (err) {
+            console.error(err);
+            alert('Failed to load asset');
+        }
     };
 
     const handleAddClick = () => {
@@ -163,7 +169,7 @@ const Dashboard: React.FC = () => {
         setIsAddModalOpen(true);
     };
 
-    const handleAssignClick = (asset: Asset) => {
+    const handleAssignClick = (asset: AssetSummary) => {
         setAssigningAsset(asset);
         setIsAssignModalOpen(true);
     };
@@ -323,26 +329,26 @@ const Dashboard: React.FC = () => {
                                             <div className="flex flex-col">
                                                 <span className="text-sm font-medium text-gray-900">{asset.name}</span>
                                                 <span className="text-xs text-gray-500">
-                                                    {'serialNumber' in asset ? `SN: ${(asset as any).serialNumber}` : 'Software License'}
+                                                    {asset.type === 'HARDWARE' ? 'Hardware' : 'Software License'}
                                                 </span>
                                             </div>
                                         </td>
                                         <td className="px-6 py-4 whitespace-nowrap">
                                             <span className={`inline-flex items-center px-2.5 py-0.5 rounded-full text-xs font-medium 
-                                                ${('serialNumber' in asset) ? 'bg-orange-100 text-orange-800' : 'bg-indigo-100 text-indigo-800'}`}>
-                                                {('serialNumber' in asset) ? 'HARDWARE' : 'SOFTWARE'}
+                                                ${(asset.type === 'HARDWARE') ? 'bg-orange-100 text-orange-800' : 'bg-indigo-100 text-indigo-800'}`}>
+                                                {asset.type}
                                             </span>
                                         </td>
                                         <td className="px-6 py-4 whitespace-nowrap">
                                             <StatusBadge status={asset.status} />
                                         </td>
                                         <td className="px-6 py-4 whitespace-nowrap">
-                                            {asset.assignedTo ? (
+                                            {asset.assignedToUsername ? (
                                                 <div className="flex items-center gap-2">
                                                     <div className="w-6 h-6 rounded-full bg-blue-100 text-blue-600 flex items-center justify-center text-xs font-bold">
-                                                        {asset.assignedTo.username.charAt(0).toUpperCase()}
+                                                        {asset.assignedToUsername.charAt(0).toUpperCase()}
                                                     </div>
-                                                    <span className="text-sm text-gray-700">{asset.assignedTo.username}</span>
+                                                    <span className="text-sm text-gray-700">{asset.assignedToUsername}</span>
                                                 </div>
                                             ) : (
                                                 <span className="text-sm text-gray-400 italic">Unassigned</span>
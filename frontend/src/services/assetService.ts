@@ -1,5 +1,5 @@
 import api from '../lib/api';
-import { DashboardStats, Asset, HardwareAsset, SoftwareAsset, RecentAsset, AssetStatus, Page, AssetSearchParams } from '../types/asset';
+import { DashboardStats, Asset, AnyAsset, AssetSummary, HardwareAsset, SoftwareAsset, RecentAsset, AssetStatus, Page, AssetSearchParams, AssetWindow, AssetFacetedSearchResult, AssetSuggestion } from '../types/asset';
 
 /**
  * Interface for batch software creation request.
@@ -56,12 +56,12 @@ export const assetService = {
      * @returns {Promise<RecentAsset[]>} A promise resolving to a list of recent assets.
      */
     getRecentAssets: async (): Promise<RecentAsset[]> => {
-        const response = await api.get<Asset[]>('/assets/recent');
-        // Transform backend Asset to frontend RecentAsset
+        const response = await api.get<AssetSummary[]>('/assets/recent');
+        // Transform backend AssetSummaryDto to frontend RecentAsset
         return response.data.map(asset => ({
             id: asset.id,
             name: asset.name,
-            type: 'serialNumber' in asset ? 'HARDWARE' : 'SOFTWARE',
+            type: asset.type,
             status: asset.status,
             currentValue: asset.purchasePrice, // TODO: use calculated value
             createdAt: asset.createdAt,
@@ -73,23 +73,59 @@ export const assetService = {
      * 
      * @param {number} [page=0] - The page number (0-indexed).
      * @param {number} [size=10] - The number of items per page.
-     * @returns {Promise<Page<Asset>>} A promise resolving to a page of assets.
+     * @returns {Promise<Page<AssetSummary>>} A promise resolving to a page of asset summaries.
      */
-    getAllAssets: async (page = 0, size = 10): Promise<Page<Asset>> => {
-        const response = await api.get<Page<Asset>>('/assets', {
+    getAllAssets: async (page = 0, size = 10): Promise<Page<AssetSummary>> => {
+        const response = await api.get<Page<AssetSummary>>('/assets', {
             params: { page, size }
         });
         return response.data;
     },
 
+    /**
+     * Retrieves a single asset with all its fields (listings only return summaries).
+     * 
+     * @param {number} id - The ID of the asset.
+     * @returns {Promise<AnyAsset>} A promise resolving to the asset; rejects with 404 if there is none.
+     */
+    getAsset: async (id: number): Promise<AnyAsset> => {
+        const response = await api.get<AnyAsset>(`/assets/${id}`);
+        return response.data;
+    },
+
+    /**
+     * Looks up a hardware asset by its exact serial number (e.g. from a barcode scanner).
+     * 
+     * @param {string} serialNumber - The serial number.
+     * @returns {Promise<HardwareAsset>} A promise resolving to the asset; rejects with 404 if there is none.
+     */
+    getAssetBySerialNumber: async (serialNumber: string): Promise<HardwareAsset> => {
+        const response = await api.get<HardwareAsset>(`/assets/serial/${encodeURIComponent(serialNumber)}`);
+        return response.data;
+    },
+
+    /**
+     * Fetches typeahead completions for the search box (served from memory, cheap enough per keystroke).
+     * 
+     * @param {string} prefix - The typed text.
+     * @param {number} [limit=10] - The maximum number of completions (at most 50).
+     * @returns {Promise<AssetSuggestion[]>} A promise resolving to the completions.
+     */
+    suggestAssets: async (prefix: string, limit = 10): Promise<AssetSuggestion[]> => {
+        const response = await api.get<AssetSuggestion[]>('/assets/suggest', {
+            params: { prefix, limit }
+        });
+        return response.data;
+    },
+
     /**
      * Searches for assets using dynamic criteria.
      * 
      * @param {AssetSearchParams} params - The search parameters including query string and filters.
-     * @returns {Promise<Page<Asset>>} A promise resolving to a page of matching assets.
+     * @returns {Promise<Page<AssetSummary>>} A promise resolving to a page of matching asset summaries.
      */
-    searchAssets: async (params: AssetSearchParams): Promise<Page<Asset>> => {
-        const response = await api.get<Page<Asset>>('/assets/search', {
+    searchAssets: async (params: AssetSearchParams): Promise<Page<AssetSummary>> => {
+        const response = await api.get<Page<AssetSummary>>('/assets/search', {
             params: {
                 ...params,
                 // Ensure pagination defaults
@@ -102,6 +138,46 @@ export const assetService = {
         return response.data;
     },
 
+    /**
+     * Searches for assets and fetches the facet counts of the search in the same request.
+     * 
+     * @param {AssetSearchParams} params - The search parameters including query string and filters.
+     * @returns {Promise<AssetFacetedSearchResult>} A promise resolving to the page and the facet counts.
+     */
+    searchAssetsWithFacets: async (params: AssetSearchParams): Promise<AssetFacetedSearchResult> => {
+        const response = await api.get<AssetFacetedSearchResult>('/assets/search/faceted', {
+            params: {
+                ...params,
+                page: params.page ?? 0,
+                size: params.size ?? 10,
+                sortBy: params.sortBy ?? 'id',
+                sortDir: params.sortDir ?? 'asc'
+            }
+        });
+        return response.data;
+    },
+
+    /**
+     * Fetches one window of assets with cursor-based pagination.
+     * 
+     * @param {AssetSearchParams} params - The search filters and sort (page is ignored).
+     * @param {string} [cursor] - The nextCursor of the previous window; omit for the first window.
+     * @returns {Promise<AssetWindow>} A promise resolving to the window and the next cursor.
+     */
+    scrollAssets: async (params: AssetSearchParams, cursor?: string): Promise<AssetWindow> => {
+        const response = await api.get<AssetWindow>('/assets/scroll', {
+            params: {
+                ...params,
+                page: undefined,
+                cursor,
+                size: params.size ?? 50,
+                sortBy: params.sortBy ?? 'id',
+                sortDir: params.sortDir ?? 'asc'
+            }
+        });
+        return response.data;
+    },
+
     /**
      * Updates an existing asset.
      * 
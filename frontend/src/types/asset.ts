@@ -9,6 +9,11 @@ export enum AssetStatus {
     DISPOSED = 'DISPOSED',     // Scrapped
 }
 
+/**
+ * Depreciation method matching backend DepreciationMethod.java
+ */
+export type DepreciationMethod = 'STRAIGHT_LINE' | 'DECLINING_BALANCE' | 'SUM_OF_YEARS_DIGITS';
+
 /**
  * Base Asset interface mirroring backend Asset.java
  */
@@ -20,6 +25,9 @@ export interface Asset {
     status: AssetStatus;
     residualValue: number;
     usefulLifeYears: number;
+    depreciationMethod?: DepreciationMethod;
+    currentBookValue?: number | null;
+    bookValueAsOf?: string | null; // ISO date string (LocalDate)
     createdBy: string;
     createdAt: string; // ISO datetime string (LocalDateTime)
     lastModifiedBy?: string;
@@ -69,6 +77,23 @@ export interface DashboardStats {
     availableAssets: number;
 }
 
+/**
+ * Lean asset row returned by the listing endpoints (list, search, scroll, recent).
+ * The full asset is fetched with GET /assets/{id}.
+ */
+export interface AssetSummary {
+    id: number;
+    name: string;
+    type: 'HARDWARE' | 'SOFTWARE';
+    status: AssetStatus;
+    purchasePrice: number;
+    purchaseDate: string; // ISO date string (LocalDate)
+    currentBookValue?: number | null;
+    createdAt: string; // ISO datetime string (LocalDateTime)
+    assignedToId?: number | null;
+    assignedToUsername?: string | null;
+}
+
 /**
  * Recent asset display type (simplified for table view)
  */
@@ -117,11 +142,21 @@ export interface AssetSearchParams {
     query?: string;
     /** Filter by status. */
     status?: AssetStatus | '';
+    /** Filter by asset type; a single type is searched without joining the other subtype table. */
+    type?: 'HARDWARE' | 'SOFTWARE' | '';
 
     /** Exact match for serial number. */
     serialNumber?: string;
     /** Filter by assigned user ID. */
     assignedToUserId?: number;
+    /** Minimum purchase price (inclusive). */
+    minPrice?: number;
+    /** Maximum purchase price (inclusive). */
+    maxPrice?: number;
+    /** Earliest purchase date (inclusive), ISO format (YYYY-MM-DD). */
+    purchasedFrom?: string;
+    /** Latest purchase date (inclusive), ISO format (YYYY-MM-DD). */
+    purchasedTo?: string;
 
     /** Page number (0-indexed). */
     page?: number;
@@ -131,4 +166,56 @@ export interface AssetSearchParams {
     sortBy?: string;
     /** Sort direction ('asc' or 'desc'). */
     sortDir?: 'asc' | 'desc';
+    /** How the total is determined ('exact' by default; 'none' skips it, 'estimated' approximates it). */
+    countMode?: 'exact' | 'none' | 'estimated';
+}
+
+/**
+ * One window of a keyset-paginated asset listing (GET /assets/scroll).
+ */
+export interface AssetWindow {
+    /** Assets in this window. */
+    content: AssetSummary[];
+    /** Opaque token for the next window, or null on the last one. */
+    nextCursor: string | null;
+    /** Whether more assets follow. */
+    hasNext: boolean;
+}
+
+/**
+ * One typeahead completion (GET /assets/suggest).
+ */
+export interface AssetSuggestion {
+    /** The completed value. */
+    text: string;
+    /** The field the value was found in. */
+    field: 'NAME' | 'SERIAL_NUMBER' | 'LICENSE_KEY' | 'USERNAME';
+    /** Number of active assets carrying this value. */
+    assetCount: number;
+}
+
+/**
+ * Facet counts over all assets matching a search.
+ */
+export interface AssetFacets {
+    /** Matching assets per status. */
+    status: Partial<Record<AssetStatus, number>>;
+    /** Matching assets per type. */
+    type: Partial<Record<'HARDWARE' | 'SOFTWARE', number>>;
+    /** Matching hardware assets per location. */
+    location: Record<string, number>;
+    /** Matching assets assigned to a user. */
+    assigned: number;
+    /** Matching assets not assigned to anyone. */
+    unassigned: number;
+}
+
+/**
+ * A search page together with its facet counts (GET /assets/search/faceted).
+ */
+export interface AssetFacetedSearchResult {
+    /** The requested page of matching assets. */
+    page: Page<AssetSummary>;
+    /** Facet counts over all matching assets. */
+    facets: AssetFacets;
 }
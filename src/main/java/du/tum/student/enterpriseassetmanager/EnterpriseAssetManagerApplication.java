@@ -2,8 +2,10 @@ package du.tum.student.enterpriseassetmanager;
 
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
 public class EnterpriseAssetManagerApplication {
 
     public static void main(String[] args) {
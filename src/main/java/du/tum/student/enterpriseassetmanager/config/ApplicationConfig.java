@@ -15,6 +15,8 @@ import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import java.time.Clock;
+
 @Configuration
 @RequiredArgsConstructor
 @EnableJpaAuditing(auditorAwareRef = "auditorAware")
@@ -58,4 +60,11 @@ public class ApplicationConfig {
     public AuditorAware<String> auditorAware() {
         return new ApplicationAuditAware();
     }
+
+    // 5. 定义系统时钟
+    // 折旧和账面价值都按“今天”计算；注入时钟而不是直接调用 LocalDate.now()，测试里可以固定日期。
+    @Bean
+    public Clock clock() {
+        return Clock.systemDefaultZone();
+    }
 }
\ No newline at end of file
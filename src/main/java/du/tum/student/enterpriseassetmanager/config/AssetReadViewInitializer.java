@@ -0,0 +1,68 @@
+package du.tum.student.enterpriseassetmanager.config;
+
+import du.tum.student.enterpriseassetmanager.service.AssetReadViewMaintainer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Prepares {@code asset_read_view} on startup.
+ * <p>
+ * Installs the {@code pg_trgm} extension and creates the trigram GIN index on
+ * its {@code search_text} (which Hibernate cannot declare). With the index,
+ * {@code search_text LIKE '%q%'} is answered by an index scan instead of a
+ * sequential scan, and {@code word_similarity} is available for relevance
+ * ranking. If the extension cannot be installed (missing privileges), the
+ * text search still works, but scans the table, and relevance-sorted searches
+ * are ordered by ID.
+ * </p>
+ * <p>
+ * Then drops what the asset table carried for the search before the read view
+ * existed, and rebuilds the read view. Runs before the in-memory indexes and
+ * counters are loaded on application ready, so they find the read view
+ * complete.
+ * </p>
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class AssetReadViewInitializer implements CommandLineRunner {
+
+    private static final List<String> LEGACY_INDEXES = List.of("idx_asset_search_text_trgm",
+            "idx_asset_current_book_value", "idx_asset_name_id", "idx_asset_purchase_price_id",
+            "idx_asset_purchase_date_id", "idx_asset_created_at_id");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final AssetReadViewMaintainer readViewMaintainer;
+
+    /**
+     * Creates the index, drops the legacy search objects, then rebuilds the
+     * read view.
+     *
+     * @param args command line arguments
+     */
+    @Override
+    public void run(String... args) {
+        try {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_asset_read_view_search_text_trgm"
+                    + " ON asset_read_view USING gin (search_text gin_trgm_ops)");
+        } catch (DataAccessException e) {
+            log.warn("Could not install pg_trgm or create the trigram index of asset_read_view;"
+                    + " text search will scan it and relevance sorting falls back to ID order", e);
+        }
+
+        // Superseded by the read view and its indexes
+        for (String index : LEGACY_INDEXES) {
+            jdbcTemplate.execute("DROP INDEX IF EXISTS " + index);
+        }
+        jdbcTemplate.execute("ALTER TABLE asset DROP COLUMN IF EXISTS search_text");
+
+        readViewMaintainer.rebuild();
+    }
+}
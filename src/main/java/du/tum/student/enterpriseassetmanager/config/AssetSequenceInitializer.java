@@ -0,0 +1,46 @@
+package du.tum.student.enterpriseassetmanager.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * Aligns the {@code asset_seq} sequence with existing asset IDs on startup.
+ * <p>
+ * Asset IDs used to be generated by an IDENTITY column. On databases created
+ * before the switch to the pooled sequence, {@code asset_seq} starts at 1 and
+ * would hand out IDs that are already taken. This runner moves the sequence
+ * past the highest existing ID; it does nothing once the sequence is ahead.
+ * </p>
+ */
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class AssetSequenceInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * Moves the sequence past {@code max(asset.id)} if necessary.
+     *
+     * @param args command line arguments
+     */
+    @Override
+    public void run(String... args) {
+        // With is_called = true the next pooled block starts at maxId + 1
+        Long aligned = jdbcTemplate.query("""
+                SELECT setval('asset_seq', t.max_id)
+                FROM (SELECT MAX(id) AS max_id FROM asset) t
+                WHERE t.max_id > (SELECT last_value FROM asset_seq)
+                """, rs -> rs.next() ? rs.getLong(1) : null);
+
+        if (aligned != null) {
+            log.info("Aligned asset_seq with existing asset IDs (last value {})", aligned);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package du.tum.student.enterpriseassetmanager.config;
+
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import org.springframework.boot.hibernate.autoconfigure.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Enables Hibernate JDBC statement batching.
+ * <p>
+ * Inserts and updates are grouped by table ({@code order_inserts} /
+ * {@code order_updates}), so the JOINED {@code asset} and subtype rows of a
+ * batch are each sent as one JDBC batch. The values are only defaults: any
+ * {@code spring.jpa.properties.hibernate.*} setting with the same key wins.
+ * </p>
+ */
+@Configuration
+public class JpaBatchingConfig {
+
+    /**
+     * Applies the batching defaults to the Hibernate properties.
+     *
+     * @return the properties customizer
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchingCustomizer() {
+        return properties -> {
+            properties.putIfAbsent("hibernate.jdbc.batch_size", Asset.ID_ALLOCATION_SIZE);
+            properties.putIfAbsent("hibernate.order_inserts", true);
+            properties.putIfAbsent("hibernate.order_updates", true);
+        };
+    }
+}
@@ -4,23 +4,37 @@ import du.tum.student.enterpriseassetmanager.controller.dto.DashboardStatsDto;
 import du.tum.student.enterpriseassetmanager.domain.Asset;
 import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
 import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import du.tum.student.enterpriseassetmanager.service.AssetCursor;
 import du.tum.student.enterpriseassetmanager.service.AssetService;
+import du.tum.student.enterpriseassetmanager.service.AssetSuggestService;
+import du.tum.student.enterpriseassetmanager.service.BatchJobService;
+import du.tum.student.enterpriseassetmanager.service.CountMode;
+import du.tum.student.enterpriseassetmanager.service.DashboardService;
 import lombok.RequiredArgsConstructor;
 
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetFacetedSearchDto;
 import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSuggestionDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetWindowDto;
 import du.tum.student.enterpriseassetmanager.controller.dto.BatchHardwareRequest;
+import du.tum.student.enterpriseassetmanager.controller.dto.BatchJobDto;
 import du.tum.student.enterpriseassetmanager.controller.dto.BatchSoftwareRequest;
 
 import java.math.BigDecimal;
+import java.net.URI;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.UUID;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Sort;
 
@@ -37,7 +51,20 @@ import org.springframework.data.domain.Sort;
 @RequiredArgsConstructor
 @CrossOrigin(origins = "*")
 public class AssetController {
+    /**
+     * Largest window accepted by {@code /scroll}.
+     */
+    private static final int MAX_SCROLL_SIZE = 1000;
+
+    /**
+     * Most completions returned by {@code /suggest}.
+     */
+    private static final int MAX_SUGGEST_LIMIT = 50;
+
     private final AssetService assetService;
+    private final AssetSuggestService suggestService;
+    private final DashboardService dashboardService;
+    private final BatchJobService batchJobService;
 
     /**
      * Creates a new Hardware Asset.
@@ -66,16 +93,29 @@ public class AssetController {
      *
      * @param page    the page number (default: 0)
      * @param size    the page size (default: 10)
-     * @param sortBy  the property to sort by (default: "id")
+     * @param sortBy  the property to sort by (default: "id"), e.g.
+     *                "currentBookValue" for the persisted depreciated value
      * @param sortDir the sort direction, "asc" or "desc" (default: "asc")
-     * @return a {@link Page} of assets
+     * @param countMode how the total is determined: "exact" (default, counts
+     *                all rows), "none" (returns a slice without total) or
+     *                "estimated" (approximate total, no count query)
+     * @return a {@link Page} of asset summaries, or a {@link Slice} for "none";
+     *         400 for an unknown count mode
      */
     @GetMapping
-    public Page<Asset> getAllAssets(
+    public ResponseEntity<Slice<AssetSummaryDto>> getAllAssets(
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "exact") String countMode) {
+
+        CountMode mode;
+        try {
+            mode = CountMode.fromParameter(countMode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
         // 1. Handle Sort Direction
         Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
@@ -84,27 +124,41 @@ public class AssetController {
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
         // 3. Call Service
-        return assetService.findAllAssets(pageable);
+        return ResponseEntity.ok(assetService.findAllAssets(pageable, mode));
     }
 
     /**
      * Retrieves dashboard statistics.
+     * <p>
+     * Served from the dashboard cache; see {@link DashboardService}.
+     * </p>
      *
      * @return a {@link DashboardStatsDto} containing aggregated stats
      */
     @GetMapping("/stats")
     public DashboardStatsDto getStats() {
-        return assetService.getDashboardStats();
+        return dashboardService.getStats();
     }
 
     /**
      * Retrieves a list of recently added assets.
      *
-     * @return a list of the 5 most recently created assets
+     * @return summaries of the 5 most recently created assets
      */
     @GetMapping("/recent")
-    public List<Asset> getRecentAssets() {
-        return assetService.findRecentAssets();
+    public List<AssetSummaryDto> getRecentAssets() {
+        return dashboardService.getRecentAssets();
+    }
+
+    /**
+     * Retrieves a single asset with all its fields.
+     *
+     * @param id the ID of the asset
+     * @return the complete {@link Asset}; 404 if it does not exist
+     */
+    @GetMapping("/{id}")
+    public Asset getAsset(@PathVariable Long id) {
+        return assetService.getAssetDetails(id);
     }
 
     /**
@@ -118,6 +172,82 @@ public class AssetController {
         return assetService.calculateValue(id);
     }
 
+    /**
+     * Looks up a hardware asset by its exact serial number, e.g. from a
+     * barcode scanner.
+     *
+     * @param serialNumber the serial number
+     * @return the {@link HardwareAsset}; 404 if there is none
+     */
+    @GetMapping("/serial/{serialNumber}")
+    public HardwareAsset getAssetBySerialNumber(@PathVariable String serialNumber) {
+        return assetService.getAssetBySerialNumber(serialNumber);
+    }
+
+    /**
+     * Lists assets with keyset (cursor-based) pagination.
+     * <p>
+     * Meant for sync scripts and infinite scrolling: pass the
+     * {@code nextCursor} of a response to get the following window. Deep
+     * windows cost the same as the first one, and concurrent inserts do not
+     * shift the windows.
+     * </p>
+     *
+     * @param criteria the search criteria, same parameters as {@code /search}
+     * @param cursor   the token from the previous window, omitted for the first
+     * @param size     the window size (default: 50, at most
+     *                 {@value #MAX_SCROLL_SIZE})
+     * @param sortBy   the property to sort by: id (default), name, purchasePrice,
+     *                 purchaseDate or createdAt; ignored when a cursor is given
+     * @param sortDir  the sort direction, "asc" or "desc" (default: "asc");
+     *                 ignored when a cursor is given
+     * @return the window, or 400 for an invalid cursor, size or sort property
+     */
+    @GetMapping("/scroll")
+    public ResponseEntity<AssetWindowDto> scrollAssets(
+            @ModelAttribute AssetSearchCriteria criteria,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "50") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir) {
+
+        if (size < 1 || size > MAX_SCROLL_SIZE || !AssetCursor.isSortable(sortBy)) {
+            return ResponseEntity.badRequest().build();
+        }
+        AssetCursor position;
+        try {
+            position = (cursor != null) ? AssetCursor.decode(cursor) : null;
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+
+        Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
+        return ResponseEntity.ok(assetService.scrollAssets(criteria, position, sortBy, direction, size));
+    }
+
+    /**
+     * Completes a typed prefix for the search box.
+     * <p>
+     * Served from memory without a database query (see
+     * {@link AssetSuggestService}); meant to be called on every keystroke
+     * instead of {@code /search}.
+     * </p>
+     *
+     * @param prefix the typed text (case insensitive)
+     * @param limit  the maximum number of completions (default: 10, at most 50)
+     * @return matching names, serial numbers, license keys and usernames; 400
+     *         for a limit outside 1..50
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<AssetSuggestionDto>> suggest(
+            @RequestParam(defaultValue = "") String prefix,
+            @RequestParam(defaultValue = "10") int limit) {
+        if (limit < 1 || limit > MAX_SUGGEST_LIMIT) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(suggestService.suggest(prefix, limit));
+    }
+
     /**
      * Searches for assets based on dynamic criteria.
      *
@@ -125,12 +255,19 @@ public class AssetController {
      *                 {@link AssetSearchCriteria}
      * @param page     the page number (default: 0)
      * @param size     the page size (default: 10)
-     * @param sortBy   the property to sort by (default: "id")
-     * @param sortDir  the sort direction, "asc" or "desc" (default: "asc")
-     * @return a {@link ResponseEntity} containing a {@link Page} of matching assets
+     * @param sortBy   the property to sort by (default: "id"), or "relevance" to
+     *                 rank by match quality
+     * @param sortDir  the sort direction, "asc" or "desc" (default: "asc";
+     *                 ignored for "relevance")
+     * @param countMode how the total is determined: "exact" (default), "none"
+     *                 (slice without total, no count query) or "estimated"
+     *                 (approximate total, see {@code AssetCountEstimator})
+     * @return a {@link ResponseEntity} containing a {@link Page} (or, for "none",
+     *         a {@link Slice}) of matching asset summaries; 400 for an unknown
+     *         count mode
      */
     @GetMapping("/search")
-    public ResponseEntity<Page<Asset>> searchAssets(
+    public ResponseEntity<Slice<AssetSummaryDto>> searchAssets(
             // Use @ModelAttribute to automatically bind request parameters to the DTO
             @ModelAttribute AssetSearchCriteria criteria,
 
@@ -138,12 +275,56 @@ public class AssetController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "id") String sortBy,
-            @RequestParam(defaultValue = "asc") String sortDir) {
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "exact") String countMode) {
+
+        CountMode mode;
+        try {
+            mode = CountMode.fromParameter(countMode);
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
 
         Sort.Direction direction = sortDir.equalsIgnoreCase("desc") ? Sort.Direction.DESC : Sort.Direction.ASC;
         Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortBy));
 
-        return ResponseEntity.ok(assetService.searchAssets(criteria, pageable));
+        return ResponseEntity.ok(assetService.searchAssets(criteria, pageable, mode));
+    }
+
+    /**
+     * Searches for assets and returns the facet counts of the search along
+     * with the page.
+     * <p>
+     * Takes the same parameters as {@code /search}. The facets (per status,
+     * type, location and assignment) cover all matching assets and come from
+     * one grouped aggregate query, see {@link AssetService#getFacets}.
+     * </p>
+     *
+     * @param criteria  the search criteria
+     * @param page      the page number (default: 0)
+     * @param size      the page size (default: 10)
+     * @param sortBy    the property to sort by (default: "id")
+     * @param sortDir   the sort direction (default: "asc")
+     * @param countMode how the total of the page is determined (default: "exact")
+     * @return the page and the facet counts; 400 for an unknown count mode
+     */
+    @GetMapping("/search/faceted")
+    public ResponseEntity<AssetFacetedSearchDto> searchAssetsWithFacets(
+            @ModelAttribute AssetSearchCriteria criteria,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "id") String sortBy,
+            @RequestParam(defaultValue = "asc") String sortDir,
+            @RequestParam(defaultValue = "exact") String countMode) {
+
+        ResponseEntity<Slice<AssetSummaryDto>> results = searchAssets(criteria, page, size, sortBy, sortDir, countMode);
+        if (!results.getStatusCode().is2xxSuccessful()) {
+            return ResponseEntity.status(results.getStatusCode()).build();
+        }
+        return ResponseEntity.ok(AssetFacetedSearchDto.builder()
+                .page(results.getBody())
+                .facets(assetService.getFacets(criteria))
+                .build());
     }
 
     /**
@@ -204,6 +385,10 @@ public class AssetController {
                 tempAsset.setResidualValue(new BigDecimal(val.toString()));
         }
 
+        // 7. Depreciation Method (null keeps the current method)
+        Object method = updates.get("depreciationMethod");
+        tempAsset.setDepreciationMethod(method != null ? DepreciationMethod.valueOf(method.toString()) : null);
+
         return ResponseEntity.ok(assetService.updateAsset(id, tempAsset));
     }
 
@@ -237,23 +422,60 @@ public class AssetController {
 
     /**
      * Creates multiple Hardware assets in a batch.
+     * <p>
+     * With {@code mode=async} the batch runs as a background job and the
+     * response is {@code 202 Accepted} with the job state; poll
+     * {@code /batch/jobs/{jobId}} for progress.
+     * </p>
      *
      * @param request the batch creation request for hardware
-     * @return a list of created {@link Asset}s
+     * @param mode    "sync" (default) or "async"
+     * @return a list of created {@link Asset}s, or the {@link BatchJobDto} in
+     *         async mode
      */
     @PostMapping("/batch/hardware")
-    public ResponseEntity<List<Asset>> createBatchHardware(@RequestBody BatchHardwareRequest request) {
+    public ResponseEntity<?> createBatchHardware(@RequestBody BatchHardwareRequest request,
+            @RequestParam(defaultValue = "sync") String mode) {
+        if (mode.equalsIgnoreCase("async")) {
+            return accepted(batchJobService.submitHardware(request));
+        }
         return ResponseEntity.ok(assetService.createBatchHardware(request));
     }
 
     /**
      * Creates multiple Software assets in a batch.
+     * <p>
+     * Supports {@code mode=async} like {@code /batch/hardware}.
+     * </p>
      *
      * @param request the batch creation request for software
-     * @return a list of created {@link Asset}s
+     * @param mode    "sync" (default) or "async"
+     * @return a list of created {@link Asset}s, or the {@link BatchJobDto} in
+     *         async mode
      */
     @PostMapping("/batch/software")
-    public ResponseEntity<List<Asset>> createBatchSoftware(@RequestBody BatchSoftwareRequest request) {
+    public ResponseEntity<?> createBatchSoftware(@RequestBody BatchSoftwareRequest request,
+            @RequestParam(defaultValue = "sync") String mode) {
+        if (mode.equalsIgnoreCase("async")) {
+            return accepted(batchJobService.submitSoftware(request));
+        }
         return ResponseEntity.ok(assetService.createBatchSoftware(request));
     }
+
+    /**
+     * Retrieves the progress of an asynchronous batch job.
+     *
+     * @param jobId the ID returned when the job was submitted
+     * @return the {@link BatchJobDto}, or 404 if unknown or expired
+     */
+    @GetMapping("/batch/jobs/{jobId}")
+    public ResponseEntity<BatchJobDto> getBatchJob(@PathVariable UUID jobId) {
+        return ResponseEntity.of(batchJobService.getJob(jobId));
+    }
+
+    private static ResponseEntity<BatchJobDto> accepted(BatchJobDto job) {
+        return ResponseEntity.accepted()
+                .location(URI.create("/api/v1/assets/batch/jobs/" + job.getId()))
+                .body(job);
+    }
 }
@@ -0,0 +1,63 @@
+package du.tum.student.enterpriseassetmanager.controller;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.service.AssetExportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * REST Controller for exporting the asset inventory.
+ * <p>
+ * Streams all assets matching the search filters straight from a database
+ * cursor to the response, instead of paging through {@code GET /api/v1/assets}.
+ * </p>
+ */
+@RestController
+@RequestMapping("api/v1/assets/export")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AssetExportController {
+    private final AssetExportService assetExportService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Streams all assets matching the criteria.
+     *
+     * @param criteria the optional filter, same parameters as {@code /search}
+     * @param format   "csv" (default) or "ndjson"
+     * @return the streamed response body
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> exportAssets(
+            @ModelAttribute AssetSearchCriteria criteria,
+            @RequestParam(defaultValue = "csv") String format) {
+
+        if (format.equalsIgnoreCase("ndjson")) {
+            StreamingResponseBody body = out -> {
+                NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+                assetExportService.export(criteria, writer::write);
+            };
+            return ResponseEntity.ok()
+                    .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                    .body(body);
+        }
+
+        StreamingResponseBody body = out -> assetExportService.exportCsv(criteria, out);
+        return ResponseEntity.ok()
+                .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"assets.csv\"")
+                .body(body);
+    }
+}
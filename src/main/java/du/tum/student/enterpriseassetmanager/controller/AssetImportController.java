@@ -0,0 +1,52 @@
+package du.tum.student.enterpriseassetmanager.controller;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.ImportReportDto;
+import du.tum.student.enterpriseassetmanager.service.AssetImportService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * REST Controller for bulk imports of heterogeneous assets.
+ * <p>
+ * The request body is read as a stream, so uploads of any size are processed
+ * with constant memory. The format is selected by the {@code Content-Type}
+ * header: {@code text/csv} or {@code application/x-ndjson}.
+ * </p>
+ */
+@RestController
+@RequestMapping("api/v1/assets/import")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class AssetImportController {
+    private final AssetImportService assetImportService;
+
+    /**
+     * Imports assets from a CSV body with a header row.
+     *
+     * @param body the raw request body
+     * @return the import report with per-row errors
+     * @throws IOException if reading the body fails
+     */
+    @PostMapping(consumes = "text/csv")
+    public ImportReportDto importCsv(InputStream body) throws IOException {
+        return assetImportService.importCsv(body);
+    }
+
+    /**
+     * Imports assets from a newline-delimited JSON body.
+     *
+     * @param body the raw request body
+     * @return the import report with per-row errors
+     * @throws IOException if reading the body fails
+     */
+    @PostMapping(consumes = NdjsonWriter.MEDIA_TYPE)
+    public ImportReportDto importNdjson(InputStream body) throws IOException {
+        return assetImportService.importNdjson(body);
+    }
+}
@@ -0,0 +1,85 @@
+package du.tum.student.enterpriseassetmanager.controller;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkAssignRequest;
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkDisposeRequest;
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkOperationResultDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkStatusRequest;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.service.AssetBulkService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+/**
+ * REST Controller for bulk asset operations.
+ * <p>
+ * Each request is executed as set-based SQL updates in a single transaction
+ * and answered with the number of affected rows, instead of one HTTP call and
+ * several queries per asset.
+ * </p>
+ */
+@RestController
+@RequestMapping("api/v1/assets/bulk")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class BulkAssetController {
+    private final AssetBulkService assetBulkService;
+
+    /**
+     * Assigns many assets to users.
+     *
+     * @param request the (asset, user) pairs
+     * @return the requested and affected row counts, or 400 if no pair is given
+     */
+    @PostMapping("/assign")
+    public ResponseEntity<BulkOperationResultDto> assign(@RequestBody BulkAssignRequest request) {
+        if (request.getAssignments() == null || request.getAssignments().isEmpty()) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(assetBulkService.assign(request.getAssignments()));
+    }
+
+    /**
+     * Changes the status of many assets.
+     *
+     * @param request the IDs and the new status
+     * @return the requested and affected row counts, or 400 if no ID or status
+     *         is given or the status is DISPOSED
+     */
+    @PostMapping("/status")
+    public ResponseEntity<BulkOperationResultDto> changeStatus(@RequestBody BulkStatusRequest request) {
+        if (request.getIds() == null || request.getIds().isEmpty()
+                || request.getStatus() == null || request.getStatus() == AssetStatus.DISPOSED) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(assetBulkService.changeStatus(request.getIds(), request.getStatus()));
+    }
+
+    /**
+     * Soft-disposes many assets, selected either by ID or by search criteria.
+     *
+     * @param request the IDs or the criteria (exactly one of them)
+     * @return the requested and affected row counts, or 400 if not exactly one
+     *         selection is given or the criteria set no filter
+     */
+    @PostMapping("/dispose")
+    public ResponseEntity<BulkOperationResultDto> dispose(@RequestBody BulkDisposeRequest request) {
+        boolean byIds = request.getIds() != null && !request.getIds().isEmpty();
+        boolean byCriteria = request.getCriteria() != null;
+        if (byIds == byCriteria) {
+            return ResponseEntity.badRequest().build();
+        }
+        if (byIds) {
+            return ResponseEntity.ok(assetBulkService.dispose(request.getIds()));
+        }
+        try {
+            return ResponseEntity.ok(assetBulkService.dispose(request.getCriteria()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().build();
+        }
+    }
+}
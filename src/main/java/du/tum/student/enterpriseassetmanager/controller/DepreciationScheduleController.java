@@ -0,0 +1,105 @@
+package du.tum.student.enterpriseassetmanager.controller;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.DepreciationScheduleRowDto;
+import du.tum.student.enterpriseassetmanager.service.AssetService;
+import du.tum.student.enterpriseassetmanager.service.DepreciationScheduleGenerator;
+import du.tum.student.enterpriseassetmanager.service.DepreciationScheduleGenerator.Granularity;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+/**
+ * REST Controller for depreciation schedule projections.
+ * <p>
+ * Provides the year-by-year or month-by-month book-value curve of a single
+ * asset, and a streamed export of the curves of a filtered set of assets.
+ * </p>
+ */
+@RestController
+@RequestMapping("api/v1/assets")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class DepreciationScheduleController {
+    private final AssetService assetService;
+    private final DepreciationScheduleGenerator scheduleGenerator;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Retrieves the depreciation schedule of a single asset.
+     *
+     * @param id          the ID of the asset
+     * @param granularity YEARLY (default) or MONTHLY
+     * @return the schedule rows from purchase to the end of the useful life
+     */
+    @GetMapping("/{id}/schedule")
+    public List<DepreciationScheduleRowDto> getSchedule(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "YEARLY") Granularity granularity) {
+        return scheduleGenerator.schedule(assetService.getAsset(id), granularity).toList();
+    }
+
+    /**
+     * Streams the depreciation schedules of all assets matching the criteria.
+     *
+     * @param criteria    the optional filter, same parameters as {@code /search}
+     * @param granularity YEARLY (default) or MONTHLY
+     * @param format      "ndjson" (default) or "csv"
+     * @return the streamed response body
+     */
+    @GetMapping("/schedule")
+    public ResponseEntity<StreamingResponseBody> streamSchedules(
+            @ModelAttribute AssetSearchCriteria criteria,
+            @RequestParam(defaultValue = "YEARLY") Granularity granularity,
+            @RequestParam(defaultValue = "ndjson") String format) {
+
+        if (format.equalsIgnoreCase("csv")) {
+            StreamingResponseBody body = out -> {
+                BufferedWriter writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                writer.write("assetId,period,date,depreciation,accumulatedDepreciation,bookValue\n");
+                scheduleGenerator.schedules(criteria, granularity, row -> writeCsvRow(writer, row));
+                writer.flush();
+            };
+            return ResponseEntity.ok()
+                    .contentType(new MediaType("text", "csv", StandardCharsets.UTF_8))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"depreciation-schedule.csv\"")
+                    .body(body);
+        }
+
+        StreamingResponseBody body = out -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+            scheduleGenerator.schedules(criteria, granularity, writer::write);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .body(body);
+    }
+
+    private static void writeCsvRow(BufferedWriter writer, DepreciationScheduleRowDto row) {
+        try {
+            writer.write(row.getAssetId() + "," + row.getPeriod() + "," + row.getDate() + ","
+                    + row.getDepreciation().toPlainString() + ","
+                    + row.getAccumulatedDepreciation().toPlainString() + ","
+                    + row.getBookValue().toPlainString() + "\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
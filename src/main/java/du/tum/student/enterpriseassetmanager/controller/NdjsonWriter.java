@@ -0,0 +1,45 @@
+package du.tum.student.enterpriseassetmanager.controller;
+
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+/**
+ * Writes objects as newline-delimited JSON (one JSON document per line).
+ * <p>
+ * Used by streaming endpoints so that large result sets are written to the
+ * response as they are produced instead of being collected first.
+ * </p>
+ */
+class NdjsonWriter {
+
+    /**
+     * Media type of newline-delimited JSON responses.
+     */
+    static final String MEDIA_TYPE = "application/x-ndjson";
+
+    private final ObjectMapper objectMapper;
+    private final OutputStream out;
+
+    NdjsonWriter(ObjectMapper objectMapper, OutputStream out) {
+        this.objectMapper = objectMapper;
+        this.out = out;
+    }
+
+    /**
+     * Serializes the value and writes it as a single line.
+     *
+     * @param value the object to write
+     * @throws UncheckedIOException if writing to the stream fails
+     */
+    void write(Object value) {
+        try {
+            out.write(objectMapper.writeValueAsBytes(value));
+            out.write('\n');
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
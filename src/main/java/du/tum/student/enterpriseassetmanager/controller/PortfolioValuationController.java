@@ -0,0 +1,107 @@
+package du.tum.student.enterpriseassetmanager.controller;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.PointInTimeValuationDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.PortfolioValuationDto;
+import du.tum.student.enterpriseassetmanager.service.PortfolioValuationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.CrossOrigin;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * REST Controller for bulk portfolio valuation.
+ * <p>
+ * Replaces one {@code GET /{id}/value} call per asset with a single pass over
+ * the (optionally filtered) portfolio.
+ * </p>
+ */
+@RestController
+@RequestMapping("api/v1/assets/valuation")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+public class PortfolioValuationController {
+    /**
+     * Upper bound on the number of dates per history request.
+     */
+    private static final int MAX_DATES = 120;
+
+    private final PortfolioValuationService portfolioValuationService;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * Computes the portfolio totals for all assets matching the criteria.
+     *
+     * @param criteria the optional filter, same parameters as {@code /search}
+     * @param asOf     the valuation date (default: today)
+     * @return the aggregated {@link PortfolioValuationDto}
+     */
+    @GetMapping
+    public PortfolioValuationDto getPortfolioValuation(
+            @ModelAttribute AssetSearchCriteria criteria,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        return portfolioValuationService.valuate(criteria, asOf != null ? asOf : LocalDate.now());
+    }
+
+    /**
+     * Computes the portfolio value on each of the given dates in one pass.
+     * <p>
+     * Example: {@code /history?dates=2024-03-31,2024-06-30,2024-09-30} for
+     * quarter-end values.
+     * </p>
+     *
+     * @param criteria the optional filter, same parameters as {@code /search}
+     * @param dates    the valuation dates (ISO-8601, at most
+     *                 {@value #MAX_DATES})
+     * @return one {@link PointInTimeValuationDto} per date, or 400 if no or
+     *         too many dates are given
+     */
+    @GetMapping("/history")
+    public ResponseEntity<List<PointInTimeValuationDto>> getValuationHistory(
+            @ModelAttribute AssetSearchCriteria criteria,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) List<LocalDate> dates) {
+        if (dates.isEmpty() || dates.size() > MAX_DATES) {
+            return ResponseEntity.badRequest().build();
+        }
+        return ResponseEntity.ok(portfolioValuationService.valuateAsOf(criteria, dates));
+    }
+
+    /**
+     * Streams the current value of every asset matching the criteria.
+     * <p>
+     * The response is newline-delimited JSON: one {@code AssetValuationDto} per
+     * line in ID order, followed by a final {@link PortfolioValuationDto} line
+     * with the totals.
+     * </p>
+     *
+     * @param criteria the optional filter, same parameters as {@code /search}
+     * @param asOf     the valuation date (default: today)
+     * @return the streamed response body
+     */
+    @GetMapping("/stream")
+    public ResponseEntity<StreamingResponseBody> streamPortfolioValuation(
+            @ModelAttribute AssetSearchCriteria criteria,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate asOf) {
+        LocalDate valuationDate = asOf != null ? asOf : LocalDate.now();
+        StreamingResponseBody body = out -> {
+            NdjsonWriter writer = new NdjsonWriter(objectMapper, out);
+            PortfolioValuationDto totals = portfolioValuationService.valuate(criteria, valuationDate,
+                    writer::write);
+            writer.write(totals);
+        };
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(NdjsonWriter.MEDIA_TYPE))
+                .body(body);
+    }
+}
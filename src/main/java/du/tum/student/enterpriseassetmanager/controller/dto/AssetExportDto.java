@@ -0,0 +1,122 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for one exported asset.
+ * <p>
+ * A flat view of an asset and its subtype fields. The property names are a
+ * superset of {@link AssetImportRow}, so an export can be imported again.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetExportDto {
+    /**
+     * Unique identifier of the asset.
+     */
+    private Long id;
+
+    /**
+     * Concrete asset type (HARDWARE or SOFTWARE).
+     */
+    private AssetType type;
+
+    /**
+     * Name of the asset.
+     */
+    private String name;
+
+    /**
+     * Original purchase price.
+     */
+    private BigDecimal purchasePrice;
+
+    /**
+     * Date of purchase.
+     */
+    private LocalDate purchaseDate;
+
+    /**
+     * Current status of the asset.
+     */
+    private AssetStatus status;
+
+    /**
+     * Estimated residual value at the end of useful life.
+     */
+    private BigDecimal residualValue;
+
+    /**
+     * Expected useful life in years.
+     */
+    private Integer usefulLifeYears;
+
+    /**
+     * Depreciation method.
+     */
+    private DepreciationMethod depreciationMethod;
+
+    /**
+     * Persisted book value (as of its last refresh).
+     */
+    private BigDecimal currentBookValue;
+
+    // --- Hardware Specific ---
+
+    /**
+     * Hardware serial number.
+     */
+    private String serialNumber;
+
+    /**
+     * Hardware location.
+     */
+    private String location;
+
+    /**
+     * Hardware warranty expiration date.
+     */
+    private LocalDate warrantyDate;
+
+    // --- Software Specific ---
+
+    /**
+     * Software license key.
+     */
+    private String licenseKey;
+
+    /**
+     * Software license expiration date.
+     */
+    private LocalDate expiryDate;
+
+    // --- Assignment and Auditing ---
+
+    /**
+     * ID of the assigned user, if any.
+     */
+    private Long assignedToUserId;
+
+    /**
+     * Username of the assigned user, if any.
+     */
+    private String assignedToUsername;
+
+    /**
+     * Time the asset was created.
+     */
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,27 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Data Transfer Object for a search page together with the facet counts of
+ * the same search.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetFacetedSearchDto {
+    /**
+     * The requested page of matching assets.
+     */
+    private Slice<AssetSummaryDto> page;
+
+    /**
+     * The facet counts over all matching assets.
+     */
+    private AssetFacetsDto facets;
+}
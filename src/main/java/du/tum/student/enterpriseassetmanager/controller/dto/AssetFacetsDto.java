@@ -0,0 +1,48 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the facet counts of a search.
+ * <p>
+ * Every facet counts the complete filtered set, not just the returned page.
+ * Values without matches are omitted.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetFacetsDto {
+    /**
+     * Number of matching assets per status.
+     */
+    private Map<AssetStatus, Long> status;
+
+    /**
+     * Number of matching assets per type.
+     */
+    private Map<AssetType, Long> type;
+
+    /**
+     * Number of matching hardware assets per location.
+     */
+    private Map<String, Long> location;
+
+    /**
+     * Number of matching assets assigned to a user.
+     */
+    private long assigned;
+
+    /**
+     * Number of matching assets not assigned to anyone.
+     */
+    private long unassigned;
+}
@@ -0,0 +1,93 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import lombok.Data;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row of a bulk asset import.
+ * <p>
+ * CSV columns and NDJSON properties use the field names below. Hardware rows
+ * use the hardware fields, software rows the software fields; the others are
+ * ignored, as are unknown properties (e.g. the extra columns of an export).
+ * </p>
+ */
+@Data
+@JsonIgnoreProperties(ignoreUnknown = true)
+public class AssetImportRow {
+    // --- Common Properties ---
+
+    /**
+     * Concrete asset type (HARDWARE or SOFTWARE).
+     */
+    private AssetType type;
+
+    /**
+     * Name of the asset.
+     */
+    private String name;
+
+    /**
+     * Purchase price.
+     */
+    private BigDecimal purchasePrice;
+
+    /**
+     * Date of purchase (ISO-8601).
+     */
+    private LocalDate purchaseDate;
+
+    /**
+     * Initial status (defaults to AVAILABLE).
+     */
+    private AssetStatus status;
+
+    /**
+     * Estimated residual value at the end of useful life (defaults to 0).
+     */
+    private BigDecimal residualValue;
+
+    /**
+     * Expected useful life in years.
+     */
+    private Integer usefulLifeYears;
+
+    /**
+     * Depreciation method (defaults to STRAIGHT_LINE).
+     */
+    private DepreciationMethod depreciationMethod;
+
+    // --- Hardware Specific ---
+
+    /**
+     * Unique serial number.
+     */
+    private String serialNumber;
+
+    /**
+     * Physical location.
+     */
+    private String location;
+
+    /**
+     * Warranty expiration date.
+     */
+    private LocalDate warrantyDate;
+
+    // --- Software Specific ---
+
+    /**
+     * Software license key.
+     */
+    private String licenseKey;
+
+    /**
+     * License expiration date.
+     */
+    private LocalDate expiryDate;
+}
@@ -1,7 +1,12 @@
 package du.tum.student.enterpriseassetmanager.controller.dto;
 
 import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
 import lombok.Data;
+import org.springframework.format.annotation.DateTimeFormat;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * DTO for passing asset search criteria.
@@ -21,13 +26,50 @@ public class AssetSearchCriteria {
      */
     private AssetStatus status;
 
+    /**
+     * Filter by concrete asset type (HARDWARE or SOFTWARE).
+     */
+    private AssetType type;
+
     /**
      * Filter by exact hardware serial number.
      */
     private String serialNumber;
 
     /**
-     * Filter by the ID of the assigned user.
+     * Filter by the ID of the assigned user (served by idx_asset_read_view_assigned_to_id).
      */
     private Long assignedToUserId;
+
+    /**
+     * Filter by minimum purchase price (inclusive).
+     */
+    private BigDecimal minPrice;
+
+    /**
+     * Filter by maximum purchase price (inclusive).
+     */
+    private BigDecimal maxPrice;
+
+    /**
+     * Filter by earliest purchase date (inclusive), ISO format.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate purchasedFrom;
+
+    /**
+     * Filter by latest purchase date (inclusive), ISO format.
+     */
+    @DateTimeFormat(iso = DateTimeFormat.ISO.DATE)
+    private LocalDate purchasedTo;
+
+    /**
+     * Filter by minimum current book value (inclusive).
+     */
+    private BigDecimal minBookValue;
+
+    /**
+     * Filter by maximum current book value (inclusive).
+     */
+    private BigDecimal maxBookValue;
 }
\ No newline at end of file
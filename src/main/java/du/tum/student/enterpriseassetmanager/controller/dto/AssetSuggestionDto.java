@@ -0,0 +1,55 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for one typeahead completion.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetSuggestionDto {
+    /**
+     * The completed value, in its original spelling.
+     */
+    private String text;
+
+    /**
+     * The field the value was found in.
+     */
+    private Field field;
+
+    /**
+     * Number of active assets carrying this value.
+     */
+    private int assetCount;
+
+    /**
+     * The asset fields offered as completions.
+     */
+    public enum Field {
+        /**
+         * The asset name.
+         */
+        NAME,
+
+        /**
+         * The serial number of a hardware asset.
+         */
+        SERIAL_NUMBER,
+
+        /**
+         * The license key of a software asset.
+         */
+        LICENSE_KEY,
+
+        /**
+         * The username of the assigned user.
+         */
+        USERNAME
+    }
+}
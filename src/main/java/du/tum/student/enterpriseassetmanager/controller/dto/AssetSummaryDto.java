@@ -0,0 +1,76 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Data Transfer Object for an asset row in list and search results.
+ * <p>
+ * Carries only what a listing shows; the assignee is reduced to ID and
+ * username instead of the full user entity. The complete asset is available
+ * from {@code GET /api/v1/assets/{id}}.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetSummaryDto {
+    /**
+     * Unique identifier of the asset.
+     */
+    private Long id;
+
+    /**
+     * Name of the asset.
+     */
+    private String name;
+
+    /**
+     * Concrete asset type.
+     */
+    private AssetType type;
+
+    /**
+     * Current lifecycle status.
+     */
+    private AssetStatus status;
+
+    /**
+     * Original purchase price.
+     */
+    private BigDecimal purchasePrice;
+
+    /**
+     * Date of purchase.
+     */
+    private LocalDate purchaseDate;
+
+    /**
+     * Persisted depreciated value, or null if not yet computed.
+     */
+    private BigDecimal currentBookValue;
+
+    /**
+     * Creation timestamp.
+     */
+    private LocalDateTime createdAt;
+
+    /**
+     * ID of the assigned user, or null if unassigned.
+     */
+    private Long assignedToId;
+
+    /**
+     * Username of the assigned user, or null if unassigned.
+     */
+    private String assignedToUsername;
+}
@@ -0,0 +1,52 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the valuation of a single asset.
+ * <p>
+ * Emitted per asset by the bulk portfolio valuation.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetValuationDto {
+    /**
+     * Unique identifier of the asset.
+     */
+    private long id;
+
+    /**
+     * Name of the asset.
+     */
+    private String name;
+
+    /**
+     * Concrete asset type (HARDWARE or SOFTWARE).
+     */
+    private AssetType type;
+
+    /**
+     * Current status of the asset.
+     */
+    private AssetStatus status;
+
+    /**
+     * Original purchase price.
+     */
+    private BigDecimal purchasePrice;
+
+    /**
+     * Depreciated current value.
+     */
+    private BigDecimal currentValue;
+}
@@ -0,0 +1,36 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for one window of a keyset-paginated asset listing.
+ * <p>
+ * Unlike a page, a window carries no total count and no page number; the next
+ * window is requested with {@link #nextCursor}.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AssetWindowDto {
+    /**
+     * The assets in this window.
+     */
+    private List<AssetSummaryDto> content;
+
+    /**
+     * Opaque token for the next window, or null if this is the last one.
+     */
+    private String nextCursor;
+
+    /**
+     * True if more assets follow.
+     */
+    private boolean hasNext;
+}
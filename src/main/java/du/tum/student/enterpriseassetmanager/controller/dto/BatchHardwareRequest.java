@@ -1,6 +1,7 @@
 package du.tum.student.enterpriseassetmanager.controller.dto;
 
 import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
 import lombok.Data;
 
 import java.math.BigDecimal;
@@ -47,6 +48,11 @@ public class BatchHardwareRequest {
      */
     private Integer usefulLifeYears;
 
+    /**
+     * Depreciation method (defaults to STRAIGHT_LINE when omitted).
+     */
+    private DepreciationMethod depreciationMethod;
+
     // --- Hardware Specific ---
 
     /**
@@ -0,0 +1,95 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Data Transfer Object for the state of an asynchronous batch creation job.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BatchJobDto {
+
+    /**
+     * Lifecycle of a batch job.
+     */
+    public enum Status {
+        /**
+         * Accepted, waiting for a free job slot.
+         */
+        QUEUED,
+
+        /**
+         * Creating assets.
+         */
+        RUNNING,
+
+        /**
+         * All assets were created.
+         */
+        SUCCEEDED,
+
+        /**
+         * Stopped by an error; {@code createdAssets} were committed before it.
+         */
+        FAILED
+    }
+
+    /**
+     * Unique identifier of the job.
+     */
+    private UUID id;
+
+    /**
+     * Type of the assets being created.
+     */
+    private AssetType type;
+
+    /**
+     * Current status of the job.
+     */
+    private Status status;
+
+    /**
+     * Number of assets requested.
+     */
+    private int quantity;
+
+    /**
+     * Number of assets created and committed so far.
+     */
+    private long createdAssets;
+
+    /**
+     * Average assets created per second since the job started.
+     */
+    private double assetsPerSecond;
+
+    /**
+     * Time the job was submitted.
+     */
+    private LocalDateTime submittedAt;
+
+    /**
+     * Time the job started running, or null while queued.
+     */
+    private LocalDateTime startedAt;
+
+    /**
+     * Time the job finished, or null while queued or running.
+     */
+    private LocalDateTime finishedAt;
+
+    /**
+     * Reason for the failure, if the job failed.
+     */
+    private String error;
+}
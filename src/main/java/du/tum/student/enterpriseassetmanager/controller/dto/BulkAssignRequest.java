@@ -0,0 +1,38 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Request DTO for assigning many assets at once.
+ */
+@Data
+public class BulkAssignRequest {
+
+    /**
+     * The (asset, user) pairs to apply. If an asset appears more than once,
+     * the last pair wins.
+     */
+    private List<Assignment> assignments;
+
+    /**
+     * A single asset-to-user assignment.
+     */
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Assignment {
+        /**
+         * ID of the asset to assign.
+         */
+        private Long assetId;
+
+        /**
+         * ID of the user receiving the asset.
+         */
+        private Long userId;
+    }
+}
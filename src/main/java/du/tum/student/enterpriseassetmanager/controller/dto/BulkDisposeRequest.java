@@ -0,0 +1,26 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for soft-disposing many assets at once.
+ * <p>
+ * Exactly one of {@link #ids} and {@link #criteria} must be given.
+ * </p>
+ */
+@Data
+public class BulkDisposeRequest {
+
+    /**
+     * IDs of the assets to dispose.
+     */
+    private List<Long> ids;
+
+    /**
+     * Search filter selecting the assets to dispose, same as {@code /search};
+     * at least one filter must be set.
+     */
+    private AssetSearchCriteria criteria;
+}
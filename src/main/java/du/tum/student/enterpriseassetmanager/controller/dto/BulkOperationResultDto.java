@@ -0,0 +1,26 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object for the outcome of a bulk asset operation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkOperationResultDto {
+    /**
+     * Number of distinct assets addressed by the request.
+     */
+    private long requested;
+
+    /**
+     * Number of asset rows actually updated. Missing and already disposed
+     * assets (and assignments to unknown users) are not counted.
+     */
+    private long affected;
+}
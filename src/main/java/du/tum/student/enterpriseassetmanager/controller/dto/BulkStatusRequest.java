@@ -0,0 +1,23 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import lombok.Data;
+
+import java.util.List;
+
+/**
+ * Request DTO for changing the status of many assets at once.
+ */
+@Data
+public class BulkStatusRequest {
+
+    /**
+     * IDs of the assets to update.
+     */
+    private List<Long> ids;
+
+    /**
+     * The new status (use the dispose operation for DISPOSED).
+     */
+    private AssetStatus status;
+}
@@ -0,0 +1,52 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for one period of an asset's depreciation schedule.
+ * <p>
+ * Period 0 is the purchase date; the last period is the end of the useful
+ * life, where the book value has reached the residual value.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class DepreciationScheduleRowDto {
+    /**
+     * ID of the asset this row belongs to.
+     */
+    private long assetId;
+
+    /**
+     * Period index (years or months since purchase).
+     */
+    private int period;
+
+    /**
+     * End date of the period.
+     */
+    private LocalDate date;
+
+    /**
+     * Depreciation charged in this period.
+     */
+    private BigDecimal depreciation;
+
+    /**
+     * Depreciation accumulated since purchase.
+     */
+    private BigDecimal accumulatedDepreciation;
+
+    /**
+     * Book value at the end of the period.
+     */
+    private BigDecimal bookValue;
+}
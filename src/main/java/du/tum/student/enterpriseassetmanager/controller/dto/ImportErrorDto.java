@@ -0,0 +1,25 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Data Transfer Object describing why one import row was rejected.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportErrorDto {
+    /**
+     * 1-based number of the data row (the CSV header is not counted).
+     */
+    private long row;
+
+    /**
+     * Human-readable reason for the rejection.
+     */
+    private String message;
+}
@@ -0,0 +1,42 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Data Transfer Object for the outcome of a bulk asset import.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ImportReportDto {
+    /**
+     * Number of data rows read (blank lines excluded).
+     */
+    private long totalRows;
+
+    /**
+     * Number of rows persisted as assets.
+     */
+    private long importedRows;
+
+    /**
+     * Number of rows rejected.
+     */
+    private long failedRows;
+
+    /**
+     * Per-row rejection reasons (at most {@code application.import.max-errors}).
+     */
+    private List<ImportErrorDto> errors;
+
+    /**
+     * True if more rows failed than are listed in {@link #errors}.
+     */
+    private boolean errorsTruncated;
+}
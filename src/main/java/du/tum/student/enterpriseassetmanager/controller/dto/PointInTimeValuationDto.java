@@ -0,0 +1,49 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Data Transfer Object for the portfolio value on a given date.
+ * <p>
+ * Only assets purchased on or before the valuation date are included.
+ * </p>
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PointInTimeValuationDto {
+    /**
+     * Date the values were computed for.
+     */
+    private LocalDate valuationDate;
+
+    /**
+     * Number of assets owned on the valuation date.
+     */
+    private long assetCount;
+
+    /**
+     * Sum of the purchase prices of all included assets.
+     */
+    private BigDecimal totalPurchaseValue;
+
+    /**
+     * Sum of the depreciated values of all included assets on the valuation
+     * date.
+     */
+    private BigDecimal totalValue;
+
+    /**
+     * The same totals broken down by (current) asset status.
+     */
+    private Map<AssetStatus, StatusValuationDto> byStatus;
+}
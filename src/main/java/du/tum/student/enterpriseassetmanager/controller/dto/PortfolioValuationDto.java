@@ -0,0 +1,38 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Data Transfer Object for the totals of a bulk portfolio valuation.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PortfolioValuationDto {
+    /**
+     * Date the values were computed for.
+     */
+    private LocalDate valuationDate;
+
+    /**
+     * Number of assets included in the valuation.
+     */
+    private long assetCount;
+
+    /**
+     * Sum of the purchase prices of all included assets.
+     */
+    private BigDecimal totalPurchaseValue;
+
+    /**
+     * Sum of the depreciated current values of all included assets.
+     */
+    private BigDecimal totalCurrentValue;
+}
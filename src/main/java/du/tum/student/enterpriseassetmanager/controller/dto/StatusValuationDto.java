@@ -0,0 +1,32 @@
+package du.tum.student.enterpriseassetmanager.controller.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.math.BigDecimal;
+
+/**
+ * Data Transfer Object for the valuation totals of one asset status.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class StatusValuationDto {
+    /**
+     * Number of assets with this status.
+     */
+    private long assetCount;
+
+    /**
+     * Sum of the purchase prices of these assets.
+     */
+    private BigDecimal totalPurchaseValue;
+
+    /**
+     * Sum of the depreciated values of these assets.
+     */
+    private BigDecimal totalValue;
+}
@@ -16,10 +16,15 @@ import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 import com.fasterxml.jackson.annotation.JsonIgnoreProperties;
+import com.fasterxml.jackson.annotation.JsonIncludeProperties;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Abstract base class representing an asset.
@@ -30,6 +35,9 @@ import java.time.LocalDateTime;
  * </p>
  */
 @Entity
+@Table(indexes = {
+        @Index(name = "idx_asset_user_id", columnList = "user_id")
+})
 @Inheritance(strategy = InheritanceType.JOINED)
 @Getter
 @Setter
@@ -43,8 +51,18 @@ import java.time.LocalDateTime;
 @JsonIgnoreProperties({ "hibernateLazyInitializer", "handler" })
 public abstract class Asset {
 
+    /**
+     * Number of IDs reserved per sequence call.
+     * <p>
+     * A pooled sequence (instead of IDENTITY) lets Hibernate assign IDs before
+     * the INSERT, which is what allows inserts to be JDBC-batched.
+     * </p>
+     */
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "asset_seq")
+    @SequenceGenerator(name = "asset_seq", sequenceName = "asset_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -73,16 +91,45 @@ public abstract class Asset {
     @Min(value = 1, message = "Use life must be at least 1 year")
     private Integer usefulLifeYears;
 
+    /**
+     * The depreciation method used to value this asset.
+     * <p>
+     * Null (e.g. for rows created before the column existed) is treated as
+     * {@link DepreciationMethod#STRAIGHT_LINE}.
+     * </p>
+     */
+    @Column
+    @Enumerated(EnumType.STRING)
+    private DepreciationMethod depreciationMethod = DepreciationMethod.STRAIGHT_LINE;
+
+    /**
+     * The depreciated value as of {@link #bookValueAsOf}.
+     * <p>
+     * Maintained by {@code BookValueMaintainer} on every write and refreshed
+     * daily, so lists can be sorted and filtered by value in the database.
+     * </p>
+     */
+    @Column(name = "current_book_value", precision = 19, scale = 2)
+    private BigDecimal currentBookValue;
+
+    /**
+     * The date {@link #currentBookValue} was computed for.
+     */
+    @Column(name = "book_value_as_of")
+    private LocalDate bookValueAsOf;
+
     /**
      * The user this asset is assigned to.
      * <p>
      * Many-to-One relationship: An asset belongs to one user.
-     * FetchType.EAGER is used to automatically load User details when fetching an
-     * Asset.
+     * Loaded lazily, so asset queries do not select (or join) the user table;
+     * listings read the username from {@link AssetReadView} instead. Serialized
+     * as ID and username only, never the full user with its credentials.
      * </p>
      */
-    @ManyToOne(fetch = FetchType.EAGER)
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id") // Foreign key column in DB
+    @JsonIncludeProperties({ "id", "username" })
     private User assignedTo;
 
     // --- Auditing Fields ---
@@ -123,4 +170,27 @@ public abstract class Asset {
         this.residualValue = (residualValue != null) ? residualValue : BigDecimal.ZERO;
         this.usefulLifeYears = usefulLifeYears;
     }
+
+    /**
+     * Returns the searchable field of the concrete subtype.
+     *
+     * @return the serial number, license key or similar, or null if none
+     */
+    protected String subtypeSearchTerm() {
+        return null;
+    }
+
+    /**
+     * Computes the search text from the current field values: the same text
+     * {@code asset_read_view.search_text} holds once the change is committed.
+     *
+     * @return the lower-cased searchable fields, separated by spaces
+     */
+    public String buildSearchText() {
+        String username = (assignedTo != null) ? assignedTo.getUsername() : null;
+        return Stream.of(name, subtypeSearchTerm(), username)
+                .filter(Objects::nonNull)
+                .map(term -> term.toLowerCase(Locale.ROOT))
+                .collect(Collectors.joining(" "));
+    }
 }
@@ -0,0 +1,132 @@
+package du.tum.student.enterpriseassetmanager.domain;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import org.hibernate.annotations.SQLRestriction;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Flattened, read-only copy of an asset: the columns of {@code asset}, of
+ * both subtype tables and the assigned username in one row of
+ * {@code asset_read_view}.
+ * <p>
+ * The {@link Asset} hierarchy uses JOINED inheritance, so every polymorphic
+ * query outer-joins {@code hardware_asset} and {@code software_asset} (and
+ * {@code _user} for the assignee). Listings, search, export and statistics
+ * read this table instead and never join. It is written only by
+ * {@code AssetReadViewMaintainer}, in the same transaction as the change to
+ * the asset, so it is never behind the committed state. Columns of the other
+ * subtype are null.
+ * </p>
+ * <p>
+ * Disposed assets keep their row (like in {@code asset}) and are hidden by
+ * the same restriction.
+ * </p>
+ */
+@Entity
+@Immutable
+@Table(name = "asset_read_view", indexes = {
+        @Index(name = "idx_asset_read_view_type_status", columnList = "type, status"),
+        @Index(name = "idx_asset_read_view_current_book_value", columnList = "current_book_value"),
+        @Index(name = "idx_asset_read_view_assigned_to_id", columnList = "assigned_to_id"),
+        @Index(name = "idx_asset_read_view_serial_number", columnList = "serial_number"),
+        // Keyset pagination seeks on (sort key, id)
+        @Index(name = "idx_asset_read_view_name_id", columnList = "name, id"),
+        @Index(name = "idx_asset_read_view_purchase_price_id", columnList = "purchase_price, id"),
+        @Index(name = "idx_asset_read_view_purchase_date_id", columnList = "purchase_date, id"),
+        @Index(name = "idx_asset_read_view_created_at_id", columnList = "created_at, id")
+})
+@SQLRestriction("status <> 'DISPOSED'")
+@Getter
+@NoArgsConstructor
+public class AssetReadView {
+
+    @Id
+    private Long id;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AssetType type;
+
+    @Column(nullable = false)
+    private String name;
+
+    @Column(nullable = false)
+    private BigDecimal purchasePrice;
+
+    @Column(nullable = false)
+    private LocalDate purchaseDate;
+
+    @Column(nullable = false)
+    @Enumerated(EnumType.STRING)
+    private AssetStatus status;
+
+    @Column
+    private BigDecimal residualValue;
+
+    @Column(nullable = false)
+    private Integer usefulLifeYears;
+
+    @Column
+    @Enumerated(EnumType.STRING)
+    private DepreciationMethod depreciationMethod;
+
+    @Column(name = "current_book_value", precision = 19, scale = 2)
+    private BigDecimal currentBookValue;
+
+    @Column(name = "book_value_as_of")
+    private LocalDate bookValueAsOf;
+
+    @Column(name = "search_text", columnDefinition = "text")
+    private String searchText;
+
+    @Column(nullable = false)
+    private String createdBy;
+
+    @Column(nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column
+    private String lastModifiedBy;
+
+    @Column
+    private LocalDateTime lastModifiedAt;
+
+    // --- Hardware columns ---
+
+    @Column
+    private String serialNumber;
+
+    @Column
+    private String location;
+
+    @Column
+    private LocalDate warrantyDate;
+
+    @Column
+    private LocalDate lastMaintenanceDate;
+
+    @Column
+    private Integer maintenanceIntervalMonths;
+
+    // --- Software columns ---
+
+    @Column
+    private String licenseKey;
+
+    @Column
+    private LocalDate expiryDate;
+
+    // --- Assignee ---
+
+    @Column
+    private Long assignedToId;
+
+    @Column
+    private String assignedToUsername;
+}
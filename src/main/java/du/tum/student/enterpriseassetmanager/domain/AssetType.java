@@ -0,0 +1,26 @@
+package du.tum.student.enterpriseassetmanager.domain;
+
+/**
+ * Enumeration of the concrete asset types in the {@link Asset} hierarchy.
+ */
+public enum AssetType {
+    /**
+     * Physical hardware, see {@link HardwareAsset}.
+     */
+    HARDWARE,
+
+    /**
+     * Software licenses, see {@link SoftwareAsset}.
+     */
+    SOFTWARE;
+
+    /**
+     * Resolves the type of the given asset instance.
+     *
+     * @param asset the asset to inspect
+     * @return the matching {@link AssetType}
+     */
+    public static AssetType of(Asset asset) {
+        return asset instanceof SoftwareAsset ? SOFTWARE : HARDWARE;
+    }
+}
@@ -0,0 +1,23 @@
+package du.tum.student.enterpriseassetmanager.domain;
+
+/**
+ * Enumeration of the supported depreciation methods.
+ */
+public enum DepreciationMethod {
+    /**
+     * Equal depreciation in every year of the useful life.
+     */
+    STRAIGHT_LINE,
+
+    /**
+     * Double-declining balance (rate 2 / useful life), switching to
+     * straight-line once that yields the higher charge.
+     */
+    DECLINING_BALANCE,
+
+    /**
+     * Sum-of-the-years'-digits: year k of n depreciates (n - k + 1) / (n(n+1)/2)
+     * of the depreciable amount.
+     */
+    SUM_OF_YEARS_DIGITS
+}
@@ -70,4 +70,14 @@ public class HardwareAsset extends Asset {
         this.lastMaintenanceDate = lastMaintenanceDate;
         this.maintenanceIntervalMonths = maintenanceIntervalMonths;
     }
+
+    /**
+     * Makes the serial number searchable.
+     *
+     * @return the serial number
+     */
+    @Override
+    protected String subtypeSearchTerm() {
+        return serialNumber;
+    }
 }
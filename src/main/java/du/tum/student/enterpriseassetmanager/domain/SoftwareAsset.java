@@ -52,4 +52,14 @@ public class SoftwareAsset extends Asset {
         this.licenseKey = licenseKey;
         this.expiryDate = expiryDate;
     }
+
+    /**
+     * Makes the license key searchable.
+     *
+     * @return the license key
+     */
+    @Override
+    protected String subtypeSearchTerm() {
+        return licenseKey;
+    }
 }
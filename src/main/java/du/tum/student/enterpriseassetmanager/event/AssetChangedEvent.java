@@ -0,0 +1,42 @@
+package du.tum.student.enterpriseassetmanager.event;
+
+/**
+ * Application event published by {@code AssetService} for every asset write.
+ * <p>
+ * Carries the state of the asset before and after the change:
+ * creations have no {@code before}, deletions have no {@code after}.
+ * Listeners should subscribe with
+ * {@code @TransactionalEventListener} so that only committed changes are
+ * observed.
+ * </p>
+ *
+ * @param before the state before the change, or null for a creation
+ * @param after  the state after the change, or null for a deletion
+ */
+public record AssetChangedEvent(AssetSnapshot before, AssetSnapshot after) {
+
+    /**
+     * @param after the newly created asset
+     * @return an event describing a creation
+     */
+    public static AssetChangedEvent created(AssetSnapshot after) {
+        return new AssetChangedEvent(null, after);
+    }
+
+    /**
+     * @param before the state before the update
+     * @param after  the state after the update
+     * @return an event describing an update
+     */
+    public static AssetChangedEvent updated(AssetSnapshot before, AssetSnapshot after) {
+        return new AssetChangedEvent(before, after);
+    }
+
+    /**
+     * @param before the state of the removed asset
+     * @return an event describing a (soft) deletion
+     */
+    public static AssetChangedEvent deleted(AssetSnapshot before) {
+        return new AssetChangedEvent(before, null);
+    }
+}
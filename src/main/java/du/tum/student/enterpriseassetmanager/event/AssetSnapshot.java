@@ -0,0 +1,74 @@
+package du.tum.student.enterpriseassetmanager.event;
+
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Immutable copy of the asset fields that derived views (statistics, caches)
+ * depend on.
+ * <p>
+ * Snapshots are taken inside {@code AssetService} before and after a change,
+ * so listeners never have to touch a (possibly detached) entity.
+ * </p>
+ *
+ * @param id            the asset ID
+ * @param type          the concrete asset type
+ * @param status        the asset status
+ * @param purchasePrice the purchase price
+ * @param expiryDate    the license expiry date (software only, may be null)
+ * @param searchText    the lower-cased searchable fields (see
+ *                      {@link Asset#buildSearchText()})
+ */
+public record AssetSnapshot(
+        Long id,
+        AssetType type,
+        AssetStatus status,
+        BigDecimal purchasePrice,
+        LocalDate expiryDate,
+        String searchText) {
+
+    /**
+     * Captures the current state of the given asset.
+     *
+     * @param asset the asset to copy
+     * @return a new snapshot
+     */
+    public static AssetSnapshot of(Asset asset) {
+        LocalDate expiryDate = (asset instanceof SoftwareAsset software) ? software.getExpiryDate() : null;
+        return new AssetSnapshot(
+                asset.getId(),
+                AssetType.of(asset),
+                asset.getStatus(),
+                asset.getPurchasePrice(),
+                expiryDate,
+                asset.buildSearchText());
+    }
+
+    /**
+     * Returns a copy of this snapshot with a different status.
+     * <p>
+     * The search text is not carried over: a status change can come with
+     * other changes, such as a new assignee, that alter it.
+     * </p>
+     *
+     * @param newStatus the status of the copy
+     * @return a new snapshot with a null {@link #searchText()}
+     */
+    public AssetSnapshot withStatus(AssetStatus newStatus) {
+        return new AssetSnapshot(id, type, newStatus, purchasePrice, expiryDate, null);
+    }
+
+    /**
+     * Indicates whether the asset is still part of the active inventory.
+     *
+     * @return false if the asset has been disposed
+     */
+    public boolean isActive() {
+        return status != AssetStatus.DISPOSED;
+    }
+}
@@ -0,0 +1,46 @@
+package du.tum.student.enterpriseassetmanager.event;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+
+import java.util.List;
+
+/**
+ * Application event published after a set-based bulk update of assets.
+ * <p>
+ * Bulk updates are executed as SQL statements without loading the entities,
+ * so no per-asset {@link AssetChangedEvent} is published. Instead, the update
+ * locks and reads the affected rows first, and this event carries their
+ * state before the change together with the status they all received.
+ * Listeners holding derived state can apply the {@link #changes()} as
+ * deltas, or recompute it for the {@link #assetIds()}.
+ * </p>
+ * <p>
+ * The after-state of a change is derived, not read back: only its type,
+ * status, purchase price and expiry date are valid. Its search text is null,
+ * since a bulk assignment also changes the assignee that is part of it;
+ * listeners indexing text must re-read the {@link #assetIds()}.
+ * </p>
+ *
+ * @param before the state of each changed asset before the update (missing,
+ *               disposed and unchanged assets are not included)
+ * @param status the status all of them have after the update
+ */
+public record AssetsBulkChangedEvent(List<AssetSnapshot> before, AssetStatus status) {
+
+    /**
+     * @return the IDs of the changed assets
+     */
+    public List<Long> assetIds() {
+        return before.stream().map(AssetSnapshot::id).toList();
+    }
+
+    /**
+     * @return one change per asset, from its previous state to the new status;
+     *         the after-state carries no search text
+     */
+    public List<AssetChangedEvent> changes() {
+        return before.stream()
+                .map(snapshot -> AssetChangedEvent.updated(snapshot, snapshot.withStatus(status)))
+                .toList();
+    }
+}
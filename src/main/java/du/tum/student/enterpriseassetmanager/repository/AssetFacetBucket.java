@@ -0,0 +1,18 @@
+package du.tum.student.enterpriseassetmanager.repository;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+
+/**
+ * One group of the facet aggregate: the assets sharing a status, type and
+ * location.
+ *
+ * @param status        the status of this group
+ * @param type          the asset type of this group
+ * @param location      the hardware location, or null for software
+ * @param assetCount    the number of assets in this group
+ * @param assignedCount the number of those assets assigned to a user
+ */
+public record AssetFacetBucket(AssetStatus status, AssetType type, String location, long assetCount,
+        long assignedCount) {
+}
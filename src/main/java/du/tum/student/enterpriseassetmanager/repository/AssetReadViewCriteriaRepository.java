@@ -0,0 +1,81 @@
+package du.tum.student.enterpriseassetmanager.repository;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Custom repository fragment for criteria queries on the flattened
+ * {@link AssetReadView} that
+ * {@link org.springframework.data.jpa.repository.JpaSpecificationExecutor}
+ * does not offer: ID-only selection, cursor streaming, count-free slices and
+ * grouped facet counts.
+ * <p>
+ * Implemented by {@link AssetReadViewCriteriaRepositoryImpl} and mixed into
+ * {@link AssetReadViewRepository}.
+ * </p>
+ */
+public interface AssetReadViewCriteriaRepository {
+
+    /**
+     * Selects the IDs of the rows matching the specification, without loading
+     * the rows.
+     * <p>
+     * Returns at most {@code limit} IDs after {@code afterId}, so callers page
+     * through large selections by keyset instead of holding every ID.
+     * </p>
+     *
+     * @param spec    the filter to apply
+     * @param afterId the last ID already selected, or null to start at the
+     *                beginning
+     * @param limit   the maximum number of IDs to return
+     * @return the matching IDs in ascending order
+     */
+    List<Long> findIds(Specification<AssetReadView> spec, Long afterId, int limit);
+
+    /**
+     * Streams all rows matching the specification in ID order.
+     * <p>
+     * Rows are fetched from a forward-only cursor {@code fetchSize} at a time,
+     * and each row is detached from the persistence context once it has been
+     * handed out, so memory use does not grow with the result size. Must be
+     * called inside a transaction, and the stream must be closed.
+     * </p>
+     *
+     * @param spec      the filter to apply
+     * @param fetchSize the number of rows fetched per round trip
+     * @return a lazily populated stream of detached rows
+     */
+    Stream<AssetReadView> streamAll(Specification<AssetReadView> spec, int fetchSize);
+
+    /**
+     * Finds one page of rows matching the specification without counting
+     * them.
+     * <p>
+     * Reads one row more than the page size to tell whether a next page exists,
+     * instead of issuing the {@code count(*)} query of a {@code Page}.
+     * </p>
+     *
+     * @param spec     the filter to apply
+     * @param pageable the page to read and its sort order
+     * @return the page content and whether more rows follow
+     */
+    Slice<AssetReadView> findSlice(Specification<AssetReadView> spec, Pageable pageable);
+
+    /**
+     * Counts the rows matching the specification grouped by status, type and
+     * hardware location, also counting the assigned ones per group.
+     * <p>
+     * A single grouped aggregate over the flat table; all facets of a search
+     * are summed from its few rows.
+     * </p>
+     *
+     * @param spec the filter to apply
+     * @return one bucket per occurring (status, type, location) combination
+     */
+    List<AssetFacetBucket> findFacetBuckets(Specification<AssetReadView> spec);
+}
@@ -0,0 +1,127 @@
+package du.tum.student.enterpriseassetmanager.repository;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Expression;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * Criteria-based implementation of {@link AssetReadViewCriteriaRepository}.
+ */
+class AssetReadViewCriteriaRepositoryImpl implements AssetReadViewCriteriaRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<Long> findIds(Specification<AssetReadView> spec, Long afterId, int limit) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Long> query = criteriaBuilder.createQuery(Long.class);
+        Root<AssetReadView> root = query.from(AssetReadView.class);
+
+        Predicate predicate = spec.and(AssetSpecification.idGreaterThan(afterId))
+                .toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root.get("id")).orderBy(criteriaBuilder.asc(root.get("id")));
+
+        return entityManager.createQuery(query).setMaxResults(limit).getResultList();
+    }
+
+    @Override
+    public Stream<AssetReadView> streamAll(Specification<AssetReadView> spec, int fetchSize) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AssetReadView> query = criteriaBuilder.createQuery(AssetReadView.class);
+        Root<AssetReadView> root = query.from(AssetReadView.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root).orderBy(criteriaBuilder.asc(root.get("id")));
+
+        return entityManager.createQuery(query)
+                .setHint(HibernateHints.HINT_FETCH_SIZE, fetchSize)
+                .setHint(HibernateHints.HINT_READ_ONLY, true)
+                .getResultStream()
+                .map(row -> {
+                    entityManager.detach(row);
+                    return row;
+                });
+    }
+
+    @Override
+    public Slice<AssetReadView> findSlice(Specification<AssetReadView> spec, Pageable pageable) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<AssetReadView> query = criteriaBuilder.createQuery(AssetReadView.class);
+        Root<AssetReadView> root = query.from(AssetReadView.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.select(root);
+        // An unsorted page keeps any order the specification has set
+        if (pageable.getSort().isSorted()) {
+            query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, criteriaBuilder));
+        }
+
+        TypedQuery<AssetReadView> typedQuery = entityManager.createQuery(query);
+        if (pageable.isUnpaged()) {
+            return new SliceImpl<>(typedQuery.getResultList(), pageable, false);
+        }
+        typedQuery.setFirstResult(Math.toIntExact(pageable.getOffset()));
+        typedQuery.setMaxResults(pageable.getPageSize() + 1);
+
+        List<AssetReadView> rows = typedQuery.getResultList();
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        return new SliceImpl<>(hasNext ? rows.subList(0, pageable.getPageSize()) : rows, pageable, hasNext);
+    }
+
+    @Override
+    public List<AssetFacetBucket> findFacetBuckets(Specification<AssetReadView> spec) {
+        CriteriaBuilder criteriaBuilder = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = criteriaBuilder.createTupleQuery();
+        Root<AssetReadView> root = query.from(AssetReadView.class);
+
+        Predicate predicate = spec.toPredicate(root, query, criteriaBuilder);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        Expression<AssetStatus> status = root.get("status");
+        Expression<AssetType> type = root.get("type");
+        Expression<String> location = root.get("location");
+        query.multiselect(status, type, location,
+                        criteriaBuilder.count(root),
+                        // count() skips nulls: the assigned assets of the group
+                        criteriaBuilder.count(root.get("assignedToId")))
+                .groupBy(status, type, location);
+
+        return entityManager.createQuery(query).getResultList().stream()
+                .map(row -> new AssetFacetBucket(
+                        row.get(0, AssetStatus.class),
+                        row.get(1, AssetType.class),
+                        row.get(2, String.class),
+                        row.get(3, Long.class),
+                        row.get(4, Long.class)))
+                .toList();
+    }
+}
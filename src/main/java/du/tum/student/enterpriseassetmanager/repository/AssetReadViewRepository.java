@@ -0,0 +1,112 @@
+package du.tum.student.enterpriseassetmanager.repository;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Repository interface for the flattened {@link AssetReadView}.
+ * <p>
+ * Serves the read paths (listings, search, export, statistics) from the
+ * single {@code asset_read_view} table, so none of its queries joins the
+ * subtype tables or {@code _user}. The table is written by
+ * {@code AssetReadViewMaintainer} only.
+ * </p>
+ */
+@Repository
+public interface AssetReadViewRepository extends JpaRepository<AssetReadView, Long>,
+        JpaSpecificationExecutor<AssetReadView>, AssetReadViewCriteriaRepository {
+
+    /**
+     * Checks whether the {@code pg_trgm} extension is installed, which the
+     * relevance order requires.
+     *
+     * @return true if the extension is installed
+     */
+    @Query(value = "select exists (select 1 from pg_extension where extname = 'pg_trgm')", nativeQuery = true)
+    boolean isTrigramInstalled();
+
+    /**
+     * Finds the top 5 most recently created assets.
+     *
+     * @return the 5 recent assets, newest first
+     */
+    List<AssetReadView> findTop5ByOrderByCreatedAtDesc();
+
+    /**
+     * Aggregates asset count, total purchase value and the number of available
+     * assets in a single SQL statement.
+     * <p>
+     * Disposed assets are excluded by the entity-level restriction.
+     * </p>
+     *
+     * @param available the status counted as available
+     * @return the aggregated totals
+     */
+    @Query("""
+            select count(v) as totalAssets,
+                   coalesce(sum(v.purchasePrice), 0) as totalValue,
+                   coalesce(sum(case when v.status = :available then 1 else 0 end), 0) as availableAssets
+            from AssetReadView v
+            """)
+    AssetTotals summarizeAssets(@Param("available") AssetStatus available);
+
+    /**
+     * Counts software licenses that are not disposed and not expired on the given
+     * date.
+     *
+     * @param today the reference date for the expiry check
+     * @return the number of active licenses
+     */
+    @Query("""
+            select count(v) from AssetReadView v
+            where v.type = du.tum.student.enterpriseassetmanager.domain.AssetType.SOFTWARE
+              and (v.expiryDate is null or v.expiryDate > :today)
+            """)
+    long countActiveLicenses(@Param("today") LocalDate today);
+
+    /**
+     * Groups the assets of one type by status, returning count and value per
+     * group.
+     *
+     * @param type the asset type to summarize
+     * @return one row per status present for the type
+     */
+    @Query("""
+            select v.status as status, count(v) as assetCount, coalesce(sum(v.purchasePrice), 0) as totalValue
+            from AssetReadView v
+            where v.type = :type
+            group by v.status
+            """)
+    List<StatusBreakdown> summarizeByStatus(@Param("type") AssetType type);
+
+    /**
+     * Returns the ID of the current transaction, assigning one if none has
+     * been assigned yet.
+     *
+     * @return the transaction ID as returned by {@code pg_current_xact_id()}
+     */
+    @Query(value = "select cast(pg_current_xact_id() as text)", nativeQuery = true)
+    String currentTransactionId();
+
+    /**
+     * Returns the snapshot of the current transaction.
+     * <p>
+     * Under REPEATABLE READ, a first statement fixes the snapshot every later
+     * statement of the transaction reads.
+     * </p>
+     *
+     * @return the snapshot in the {@code xmin:xmax:xip_list} text form of
+     *         {@code pg_current_snapshot()}
+     */
+    @Query(value = "select cast(pg_current_snapshot() as text)", nativeQuery = true)
+    String currentSnapshot();
+}
@@ -2,13 +2,19 @@ package du.tum.student.enterpriseassetmanager.repository;
 
 import du.tum.student.enterpriseassetmanager.domain.Asset;
 import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
 
 /**
  * Repository interface for {@link Asset} entities.
@@ -94,12 +100,32 @@ public interface AssetRepository extends JpaRepository<Asset, Long>, JpaSpecific
     long countByStatus(AssetStatus status);
 
     /**
-     * Finds the top 5 most recently created assets.
+     * Finds an asset together with its assigned user, in one query.
+     *
+     * @param id the asset ID
+     * @return the asset with an initialized assignee, if found
+     */
+    @EntityGraph(attributePaths = "assignedTo")
+    Optional<Asset> findWithAssigneeById(Long id);
+
+    /**
+     * Sets the status of all given assets in one statement.
      * <p>
-     * Ordered by creation date in descending order.
+     * Disposed assets are left untouched. The audit columns are set explicitly,
+     * because a bulk update bypasses the entity listeners.
      * </p>
      *
-     * @return a list of the 5 recent assets
+     * @param ids            the IDs of the assets to update
+     * @param status         the new status name
+     * @param modifiedAt     the modification time to record
+     * @param modifiedBy     the auditor to record, may be null
+     * @return the number of updated rows
      */
-    List<Asset> findTop5ByOrderByCreatedAtDesc();
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = """
+            UPDATE asset SET status = :status, last_modified_at = :modifiedAt, last_modified_by = :modifiedBy
+            WHERE id IN (:ids) AND status <> 'DISPOSED'
+            """, nativeQuery = true)
+    int updateStatusByIds(@Param("ids") List<Long> ids, @Param("status") String status,
+            @Param("modifiedAt") LocalDateTime modifiedAt, @Param("modifiedBy") String modifiedBy);
 }
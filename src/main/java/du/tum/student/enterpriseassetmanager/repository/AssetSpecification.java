@@ -2,83 +2,287 @@ package du.tum.student.enterpriseassetmanager.repository;
 
 import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
 import du.tum.student.enterpriseassetmanager.domain.Asset;
-import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
-import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
-import du.tum.student.enterpriseassetmanager.domain.User;
-import jakarta.persistence.criteria.Join;
-import jakarta.persistence.criteria.JoinType;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 
 /**
- * Utility class for building dynamic JPA specifications for {@link Asset}
- * queries.
+ * Utility class for building dynamic JPA specifications for asset queries.
  * <p>
  * Allows filtering by complex criteria including partial text matches across
  * multiple fields
- * (name, serial number, license key, assigned user) and direct status matching.
+ * (name, serial number, license key, assigned user), direct status matching,
+ * exact serial number and assignee lookups and price and date ranges, and
+ * ordering by text relevance.
+ * </p>
+ * <p>
+ * The criteria are evaluated on the flattened {@link AssetReadView}
+ * ({@link #filterReadView}), where every criterion is a plain column.
+ * Readers that need the {@link Asset} entities select them through the read
+ * view ({@link #matchingReadView}).
  * </p>
  */
 public class AssetSpecification {
 
         /**
-         * Creates a {@link Specification} based on the provided search criteria.
+         * Creates a {@link Specification} for the flattened
+         * {@link AssetReadView} based on the provided search criteria.
+         * <p>
+         * Type, serial number and assignee are plain columns of the read view, so
+         * no criterion adds a join.
+         * </p>
+         *
+         * @param criteria the criteria containing search terms and filters
+         * @return a JPA {@link Specification} for querying the read view
+         */
+        public static Specification<AssetReadView> filterReadView(AssetSearchCriteria criteria) {
+                return (root, query, criteriaBuilder) -> criteriaBuilder.and(
+                                predicates(root, criteriaBuilder, criteria).toArray(new Predicate[0]));
+        }
+
+        /**
+         * Creates a {@link Specification} selecting the {@link Asset} entities
+         * whose read view row matches the criteria.
+         * <p>
+         * Expands to {@code id IN (SELECT id FROM asset_read_view WHERE ...)}, so
+         * the filters are evaluated on the indexed, flat read view and only the
+         * matching entities are read.
+         * </p>
          *
          * @param criteria the criteria containing search terms and filters
          * @return a JPA {@link Specification} for querying assets
          */
-        public static Specification<Asset> filterBy(AssetSearchCriteria criteria) {
+        public static Specification<Asset> matchingReadView(AssetSearchCriteria criteria) {
                 return (root, query, criteriaBuilder) -> {
-                        List<Predicate> predicates = new ArrayList<>();
-
-                        // ==============================================================
-                        // 1. Universal Fuzzy Search
-                        // Logic: Name OR Serial OR License OR Assigned User Name
-                        // ==============================================================
-                        if (criteria.getQuery() != null && !criteria.getQuery().isEmpty()) {
-                                String searchPattern = "%" + criteria.getQuery().toLowerCase() + "%";
-
-                                // A. Match Asset Name
-                                Predicate nameMatch = criteriaBuilder.like(
-                                                criteriaBuilder.lower(root.get("name")),
-                                                searchPattern);
-
-                                // B. Match Hardware Serial Number (using strict subclass casting)
-                                Predicate serialMatch = criteriaBuilder.like(
-                                                criteriaBuilder.lower(
-                                                                criteriaBuilder.treat(root, HardwareAsset.class)
-                                                                                .get("serialNumber")),
-                                                searchPattern);
-
-                                // C. Match Software License Key (using strict subclass casting)
-                                Predicate licenseMatch = criteriaBuilder.like(
-                                                criteriaBuilder.lower(
-                                                                criteriaBuilder.treat(root, SoftwareAsset.class)
-                                                                                .get("licenseKey")),
-                                                searchPattern);
-
-                                // D. Match Assigned User Name (via Join)
-                                // Use LEFT JOIN to include assets that are not assigned to any user
-                                Join<Asset, User> userJoin = root.join("assignedTo", JoinType.LEFT);
-                                Predicate userMatch = criteriaBuilder.like(
-                                                criteriaBuilder.lower(userJoin.get("username")),
-                                                searchPattern);
-
-                                // Join all conditions with OR: return asset if ANY condition matches
-                                predicates.add(criteriaBuilder.or(nameMatch, serialMatch, licenseMatch, userMatch));
-                        }
+                        Subquery<Long> ids = query.subquery(Long.class);
+                        Root<AssetReadView> view = ids.from(AssetReadView.class);
+                        ids.select(view.get("id"))
+                                        .where(predicates(view, criteriaBuilder, criteria).toArray(new Predicate[0]));
+                        return root.get("id").in(ids);
+                };
+        }
+
+        private static List<Predicate> predicates(Root<AssetReadView> root, CriteriaBuilder criteriaBuilder,
+                        AssetSearchCriteria criteria) {
+                List<Predicate> predicates = new ArrayList<>();
+
+                // ==============================================================
+                // 0. Asset Type (served by idx_asset_read_view_type_status)
+                // ==============================================================
+                if (criteria.getType() != null) {
+                        predicates.add(criteriaBuilder.equal(root.get("type"), criteria.getType()));
+                }
+
+                // ==============================================================
+                // 1. Universal Fuzzy Search
+                // Logic: Name OR Serial OR License OR Assigned User Name, all of
+                // which are concatenated into the search_text column. A single
+                // column lets the trigram GIN index serve the leading-wildcard
+                // LIKE, where the OR across four joined tables forced sequential
+                // scans.
+                // ==============================================================
+                if (criteria.getQuery() != null && !criteria.getQuery().isEmpty()) {
+                        String searchPattern = "%" + criteria.getQuery().toLowerCase(Locale.ROOT) + "%";
+                        predicates.add(criteriaBuilder.like(root.get("searchText"), searchPattern));
+                }
+
+                // ==============================================================
+                // 2. Exact Status Match (AND logic)
+                // ==============================================================
+                if (criteria.getStatus() != null) {
+                        predicates.add(criteriaBuilder.equal(root.get("status"), criteria.getStatus()));
+                }
+
+                // ==============================================================
+                // 3. Book Value Range (served by idx_asset_read_view_current_book_value)
+                // ==============================================================
+                if (criteria.getMinBookValue() != null) {
+                        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("currentBookValue"),
+                                        criteria.getMinBookValue()));
+                }
+                if (criteria.getMaxBookValue() != null) {
+                        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("currentBookValue"),
+                                        criteria.getMaxBookValue()));
+                }
+
+                // ==============================================================
+                // 4. Exact Serial Number (served by idx_asset_read_view_serial_number)
+                // ==============================================================
+                if (criteria.getSerialNumber() != null) {
+                        predicates.add(criteriaBuilder.equal(root.get("serialNumber"), criteria.getSerialNumber()));
+                }
+
+                // ==============================================================
+                // 5. Assigned User (served by idx_asset_read_view_assigned_to_id)
+                // ==============================================================
+                if (criteria.getAssignedToUserId() != null) {
+                        predicates.add(criteriaBuilder.equal(root.get("assignedToId"), criteria.getAssignedToUserId()));
+                }
+
+                // ==============================================================
+                // 6. Purchase Price and Date Ranges, inclusive like
+                // findByPurchasePriceBetween / findByPurchaseDateBetween
+                // (served by idx_asset_read_view_purchase_price_id / _date_id)
+                // ==============================================================
+                if (criteria.getMinPrice() != null) {
+                        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("purchasePrice"),
+                                        criteria.getMinPrice()));
+                }
+                if (criteria.getMaxPrice() != null) {
+                        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("purchasePrice"),
+                                        criteria.getMaxPrice()));
+                }
+                if (criteria.getPurchasedFrom() != null) {
+                        predicates.add(criteriaBuilder.greaterThanOrEqualTo(root.get("purchaseDate"),
+                                        criteria.getPurchasedFrom()));
+                }
+                if (criteria.getPurchasedTo() != null) {
+                        predicates.add(criteriaBuilder.lessThanOrEqualTo(root.get("purchaseDate"),
+                                        criteria.getPurchasedTo()));
+                }
+                return predicates;
+        }
+
+        /**
+         * Restricts the query to assets with an ID greater than the given one.
+         * <p>
+         * Used for keyset iteration in ID order; a null ID matches every asset.
+         * </p>
+         *
+         * @param lastId the last ID already processed, or null to start at the
+         *               beginning
+         * @param <T>    the entity type, {@link Asset} or {@link AssetReadView}
+         * @return a JPA {@link Specification} for the ID range
+         */
+        public static <T> Specification<T> idGreaterThan(Long lastId) {
+                return (root, query, criteriaBuilder) -> lastId == null
+                                ? criteriaBuilder.conjunction()
+                                : criteriaBuilder.greaterThan(root.get("id"), lastId);
+        }
+
+        /**
+         * Restricts the query to assets purchased on or before the given date.
+         * <p>
+         * Used for point-in-time valuations: an asset bought later did not exist
+         * on that date.
+         * </p>
+         *
+         * @param date the valuation date
+         * @return a JPA {@link Specification} for the purchase date
+         */
+        public static Specification<Asset> purchasedOnOrBefore(LocalDate date) {
+                return (root, query, criteriaBuilder) -> criteriaBuilder.lessThanOrEqualTo(root.get("purchaseDate"),
+                                date);
+        }
 
-                        // ==============================================================
-                        // 2. Exact Status Match (AND logic)
-                        // ==============================================================
-                        if (criteria.getStatus() != null) {
-                                predicates.add(criteriaBuilder.equal(root.get("status"), criteria.getStatus()));
+        /**
+         * Restricts the query to assets whose stored book value was not computed
+         * for the given date (or never computed).
+         *
+         * @param asOf the date the book values should be current for
+         * @return a JPA {@link Specification} for stale book values
+         */
+        public static Specification<Asset> bookValueStale(LocalDate asOf) {
+                return (root, query, criteriaBuilder) -> criteriaBuilder.or(
+                                criteriaBuilder.isNull(root.get("bookValueAsOf")),
+                                criteriaBuilder.lessThan(root.get("bookValueAsOf"), asOf));
+        }
+
+        /**
+         * Orders the query by how well the assets match the search term, best
+         * match first (ties by ID).
+         * <p>
+         * Ranks by trigram {@code word_similarity} against the search text (the
+         * best matching part of it), then by {@code similarity} (the whole of it,
+         * favoring assets with less unrelated text), so it requires the
+         * {@code pg_trgm} extension; without it, pass a null term to order by
+         * ID. Adds no restriction; combine it
+         * with {@link #filterReadView}. Count queries are left unordered.
+         * </p>
+         *
+         * @param searchTerm the term to rank by; if blank, assets are ordered by ID
+         * @return a JPA {@link Specification} that only sets the order
+         */
+        public static Specification<AssetReadView> orderByRelevance(String searchTerm) {
+                return (root, query, criteriaBuilder) -> {
+                        if (!Long.class.equals(query.getResultType())) {
+                                if (searchTerm == null || searchTerm.isBlank()) {
+                                        query.orderBy(criteriaBuilder.asc(root.get("id")));
+                                } else {
+                                        Expression<String> term = criteriaBuilder.literal(searchTerm.toLowerCase(Locale.ROOT));
+                                        Expression<String> text = root.get("searchText");
+                                        query.orderBy(
+                                                        criteriaBuilder.desc(criteriaBuilder.function("word_similarity",
+                                                                        Double.class, term, text)),
+                                                        criteriaBuilder.desc(criteriaBuilder.function("similarity",
+                                                                        Double.class, term, text)),
+                                                        criteriaBuilder.asc(root.get("id")));
+                                }
                         }
+                        return criteriaBuilder.conjunction();
+                };
+        }
+
+        /**
+         * Restricts the query to assets that come after the given position in
+         * {@code (property, id)} order (keyset pagination).
+         * <p>
+         * Expands to {@code key >= v AND (key > v OR (key = v AND id > lastId))}
+         * (mirrored for descending order). The leading range lets an index on
+         * {@code (property, id)} seek straight to the position, so every page
+         * costs the same regardless of its depth.
+         * </p>
+         * <p>
+         * A null key continues among the nulls, which PostgreSQL sorts last in
+         * ascending and first in descending order. A non-null key never seeks
+         * into nulls, so the property must be non-null for all assets.
+         * </p>
+         *
+         * @param property  the sort property
+         * @param direction the sort direction
+         * @param key       the sort key of the last asset already returned, or
+         *                  null
+         * @param lastId    the ID of the last asset already returned
+         * @return a JPA {@link Specification} for the keyset range
+         */
+        @SuppressWarnings({ "unchecked", "rawtypes" })
+        public static Specification<AssetReadView> seekAfter(String property, Sort.Direction direction,
+                        Comparable key, long lastId) {
+                return (root, query, criteriaBuilder) -> {
+                        Expression<Comparable> sortKey = root.get(property);
+                        Expression<Long> id = root.get("id");
+                        boolean ascending = direction.isAscending();
 
-                        return criteriaBuilder.and(predicates.toArray(new Predicate[0]));
+                        Predicate beyondId = ascending
+                                        ? criteriaBuilder.greaterThan(id, lastId)
+                                        : criteriaBuilder.lessThan(id, lastId);
+                        if (property.equals("id")) {
+                                return beyondId;
+                        }
+                        if (key == null) {
+                                Predicate amongNulls = criteriaBuilder.and(criteriaBuilder.isNull(sortKey), beyondId);
+                                return ascending
+                                                ? amongNulls
+                                                : criteriaBuilder.or(amongNulls, criteriaBuilder.isNotNull(sortKey));
+                        }
+                        Predicate range = ascending
+                                        ? criteriaBuilder.greaterThanOrEqualTo(sortKey, key)
+                                        : criteriaBuilder.lessThanOrEqualTo(sortKey, key);
+                        Predicate beyondKey = ascending
+                                        ? criteriaBuilder.greaterThan(sortKey, key)
+                                        : criteriaBuilder.lessThan(sortKey, key);
+                        return criteriaBuilder.and(range, criteriaBuilder.or(beyondKey,
+                                        criteriaBuilder.and(criteriaBuilder.equal(sortKey, key), beyondId)));
                 };
         }
-}
\ No newline at end of file
+}
@@ -0,0 +1,28 @@
+package du.tum.student.enterpriseassetmanager.repository;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection for the aggregated asset totals used by the dashboard.
+ * <p>
+ * Populated directly from an aggregate query so that no {@code Asset} entity
+ * has to be loaded.
+ * </p>
+ */
+public interface AssetTotals {
+
+    /**
+     * @return the number of (non-disposed) assets
+     */
+    long getTotalAssets();
+
+    /**
+     * @return the sum of all purchase prices
+     */
+    BigDecimal getTotalValue();
+
+    /**
+     * @return the number of assets with status AVAILABLE
+     */
+    long getAvailableAssets();
+}
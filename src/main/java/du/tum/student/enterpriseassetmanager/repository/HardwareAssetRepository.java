@@ -0,0 +1,31 @@
+package du.tum.student.enterpriseassetmanager.repository;
+
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+/**
+ * Repository interface for {@link HardwareAsset} entities.
+ * <p>
+ * Queries through this repository select from the hardware subtype only,
+ * joining {@code hardware_asset} to {@code asset} without touching the other
+ * subtype tables. Used for serial number lookups.
+ * </p>
+ */
+@Repository
+public interface HardwareAssetRepository extends JpaRepository<HardwareAsset, Long> {
+
+    /**
+     * Finds a hardware asset by its serial number, e.g. for barcode scans.
+     * <p>
+     * A single probe of the unique {@code serial_number} index, joined to
+     * {@code asset} by primary key.
+     * </p>
+     *
+     * @param serialNumber the exact serial number
+     * @return the asset, if one has this serial number
+     */
+    Optional<HardwareAsset> findBySerialNumber(String serialNumber);
+}
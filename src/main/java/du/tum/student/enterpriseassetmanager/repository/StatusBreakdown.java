@@ -0,0 +1,26 @@
+package du.tum.student.enterpriseassetmanager.repository;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+
+import java.math.BigDecimal;
+
+/**
+ * Projection for a per-status aggregate row (count and value of one status).
+ */
+public interface StatusBreakdown {
+
+    /**
+     * @return the status of this group
+     */
+    AssetStatus getStatus();
+
+    /**
+     * @return the number of assets in this group
+     */
+    long getAssetCount();
+
+    /**
+     * @return the sum of purchase prices in this group
+     */
+    BigDecimal getTotalValue();
+}
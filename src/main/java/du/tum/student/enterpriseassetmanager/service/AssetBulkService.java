@@ -0,0 +1,281 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkAssignRequest;
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkOperationResultDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.event.AssetSnapshot;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.AssetRepository;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Service for changing many assets at once.
+ * <p>
+ * Unlike the single-asset operations of {@link AssetService}, which load and
+ * save each entity, these operations run as set-based SQL updates inside one
+ * transaction: status changes and disposals are one {@code UPDATE ... WHERE id
+ * IN (...)} per slice of IDs, assignments one JDBC batch. Rows that are
+ * missing or already disposed, and status changes to the status an asset
+ * already has, are skipped rather than failing the request, and the number of
+ * rows actually changed is reported back.
+ * </p>
+ * <p>
+ * Because no entity is loaded, no {@code AssetChangedEvent} can be published.
+ * Each slice is instead locked and read with one {@code SELECT ... FOR
+ * UPDATE} before it is written, and a single {@link AssetsBulkChangedEvent}
+ * carrying the previous state of the changed assets is published.
+ * </p>
+ */
+@Service
+public class AssetBulkService {
+
+    private static final String ASSIGN_SQL = """
+            UPDATE asset a SET user_id = ?, status = 'ASSIGNED', last_modified_at = ?, last_modified_by = ?
+            WHERE a.id = ? AND a.status <> 'DISPOSED' AND EXISTS (SELECT 1 FROM _user u WHERE u.id = ?)
+            """;
+    private static final String LOCK_SQL = """
+            SELECT a.id, s.id IS NOT NULL AS software, a.status, a.purchase_price, s.expiry_date, v.search_text
+            FROM asset a
+            LEFT JOIN software_asset s ON s.id = a.id
+            LEFT JOIN asset_read_view v ON v.id = a.id
+            WHERE a.id IN (%s) AND a.status <> 'DISPOSED'
+            ORDER BY a.id
+            FOR UPDATE OF a
+            """;
+
+    private final AssetRepository assetRepository;
+    private final AssetReadViewRepository readViewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final AuditorAware<String> auditorAware;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int statementSize;
+
+    /**
+     * Creates the bulk service.
+     *
+     * @param assetRepository    the repository executing the status updates
+     * @param readViewRepository selects the IDs of assets matching criteria
+     * @param jdbcTemplate       locks the changed rows and executes the
+     *                           batched assignments
+     * @param auditorAware       supplies the auditor recorded on changed rows
+     * @param eventPublisher     publishes the bulk change event
+     * @param statementSize      the maximum number of IDs per statement
+     */
+    public AssetBulkService(AssetRepository assetRepository,
+            AssetReadViewRepository readViewRepository,
+            JdbcTemplate jdbcTemplate,
+            AuditorAware<String> auditorAware,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${application.bulk.statement-size:1000}") int statementSize) {
+        this.assetRepository = assetRepository;
+        this.readViewRepository = readViewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.auditorAware = auditorAware;
+        this.eventPublisher = eventPublisher;
+        this.statementSize = statementSize;
+    }
+
+    /**
+     * Assigns each asset to its user and marks it as ASSIGNED.
+     * <p>
+     * Pairs naming an unknown user, a missing or a disposed asset are skipped.
+     * </p>
+     *
+     * @param assignments the (asset, user) pairs; for duplicate assets the last
+     *                    pair wins
+     * @return the requested and affected row counts
+     */
+    @Transactional
+    public BulkOperationResultDto assign(List<BulkAssignRequest.Assignment> assignments) {
+        Map<Long, Long> userByAsset = new LinkedHashMap<>();
+        for (BulkAssignRequest.Assignment assignment : assignments) {
+            if (assignment.getAssetId() == null || assignment.getUserId() == null) {
+                continue;
+            }
+            userByAsset.put(assignment.getAssetId(), assignment.getUserId());
+        }
+
+        Timestamp modifiedAt = Timestamp.valueOf(LocalDateTime.now());
+        String modifiedBy = auditorAware.getCurrentAuditor().orElse(null);
+        List<Object[]> rows = new ArrayList<>(userByAsset.size());
+        userByAsset.forEach((assetId, userId) ->
+                rows.add(new Object[] { userId, modifiedAt, modifiedBy, assetId, userId }));
+
+        List<Long> assetIds = new ArrayList<>(userByAsset.keySet());
+        List<AssetSnapshot> changed = new ArrayList<>();
+        for (int from = 0; from < rows.size(); from += statementSize) {
+            int to = Math.min(from + statementSize, rows.size());
+            Map<Long, AssetSnapshot> before = lockActive(assetIds.subList(from, to));
+            int[] counts = jdbcTemplate.batchUpdate(ASSIGN_SQL, rows.subList(from, to));
+            for (int i = 0; i < counts.length; i++) {
+                if (counts[i] > 0) {
+                    changed.add(before.get(assetIds.get(from + i)));
+                }
+            }
+        }
+
+        publish(changed, AssetStatus.ASSIGNED);
+        return new BulkOperationResultDto(assetIds.size(), changed.size());
+    }
+
+    /**
+     * Sets the status of all given assets.
+     *
+     * @param ids    the IDs of the assets to update
+     * @param status the new status; must not be DISPOSED (see {@link #dispose})
+     * @return the requested and affected row counts
+     */
+    @Transactional
+    public BulkOperationResultDto changeStatus(List<Long> ids, AssetStatus status) {
+        if (status == AssetStatus.DISPOSED) {
+            throw new IllegalArgumentException("Use the dispose operation to dispose assets");
+        }
+        return updateStatus(distinct(ids), status);
+    }
+
+    /**
+     * Soft-disposes all given assets.
+     *
+     * @param ids the IDs of the assets to dispose
+     * @return the requested and affected row counts
+     */
+    @Transactional
+    public BulkOperationResultDto dispose(List<Long> ids) {
+        return updateStatus(distinct(ids), AssetStatus.DISPOSED);
+    }
+
+    /**
+     * Soft-disposes all assets matching the search criteria.
+     * <p>
+     * Only the matching IDs are selected, one slice of
+     * {@code application.bulk.statement-size} at a time; the assets themselves
+     * are never loaded. Criteria without any filter are rejected, so an empty
+     * request body cannot dispose the whole inventory.
+     * </p>
+     *
+     * @param criteria the filter selecting the assets, same as the search
+     *                 endpoint
+     * @return the requested and affected row counts
+     * @throws IllegalArgumentException if the criteria set no filter
+     */
+    @Transactional
+    public BulkOperationResultDto dispose(AssetSearchCriteria criteria) {
+        if (!hasFilter(criteria)) {
+            throw new IllegalArgumentException("Disposing by criteria requires at least one filter");
+        }
+        Specification<AssetReadView> spec = AssetSpecification.filterReadView(criteria);
+        StatusUpdate update = new StatusUpdate();
+        List<Long> slice = readViewRepository.findIds(spec, null, statementSize);
+        while (!slice.isEmpty()) {
+            updateStatusSlice(slice, AssetStatus.DISPOSED, update);
+            slice = slice.size() < statementSize ? List.of()
+                    : readViewRepository.findIds(spec, slice.getLast(), statementSize);
+        }
+        return update.publish(AssetStatus.DISPOSED);
+    }
+
+    /**
+     * Indicates whether the criteria restrict the selection at all.
+     */
+    static boolean hasFilter(AssetSearchCriteria criteria) {
+        return !AssetSearchCache.normalize(criteria).equals(new AssetSearchCriteria());
+    }
+
+    private BulkOperationResultDto updateStatus(List<Long> ids, AssetStatus status) {
+        StatusUpdate update = new StatusUpdate();
+        for (int from = 0; from < ids.size(); from += statementSize) {
+            updateStatusSlice(ids.subList(from, Math.min(from + statementSize, ids.size())), status, update);
+        }
+        return update.publish(status);
+    }
+
+    /**
+     * Locks one slice of IDs and updates the assets not yet in the status.
+     */
+    private void updateStatusSlice(List<Long> ids, AssetStatus status, StatusUpdate update) {
+        update.requested += ids.size();
+        List<AssetSnapshot> slice = new ArrayList<>();
+        for (AssetSnapshot before : lockActive(ids).values()) {
+            if (before.status() != status) {
+                slice.add(before);
+            }
+        }
+        if (!slice.isEmpty()) {
+            assetRepository.updateStatusByIds(slice.stream().map(AssetSnapshot::id).toList(), status.name(),
+                    update.modifiedAt, update.modifiedBy);
+            update.changed.addAll(slice);
+        }
+    }
+
+    /**
+     * Audit values and running results of one status update.
+     */
+    private final class StatusUpdate {
+        private final LocalDateTime modifiedAt = LocalDateTime.now();
+        private final String modifiedBy = auditorAware.getCurrentAuditor().orElse(null);
+        private final List<AssetSnapshot> changed = new ArrayList<>();
+        private int requested;
+
+        BulkOperationResultDto publish(AssetStatus status) {
+            AssetBulkService.this.publish(changed, status);
+            return new BulkOperationResultDto(requested, changed.size());
+        }
+    }
+
+    /**
+     * Locks the rows of the given assets that are not disposed and reads
+     * their current state.
+     */
+    private Map<Long, AssetSnapshot> lockActive(List<Long> ids) {
+        Map<Long, AssetSnapshot> snapshots = new LinkedHashMap<>();
+        if (ids.isEmpty()) {
+            return snapshots;
+        }
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        jdbcTemplate.query(LOCK_SQL.formatted(placeholders), rs -> {
+            Date expiryDate = rs.getDate("expiry_date");
+            AssetSnapshot snapshot = new AssetSnapshot(
+                    rs.getLong("id"),
+                    rs.getBoolean("software") ? AssetType.SOFTWARE : AssetType.HARDWARE,
+                    AssetStatus.valueOf(rs.getString("status")),
+                    rs.getBigDecimal("purchase_price"),
+                    expiryDate != null ? expiryDate.toLocalDate() : null,
+                    rs.getString("search_text"));
+            snapshots.put(snapshot.id(), snapshot);
+        }, ids.toArray());
+        return snapshots;
+    }
+
+    private void publish(List<AssetSnapshot> before, AssetStatus status) {
+        if (!before.isEmpty()) {
+            eventPublisher.publishEvent(new AssetsBulkChangedEvent(List.copyOf(before), status));
+        }
+    }
+
+    private static List<Long> distinct(List<Long> ids) {
+        LinkedHashSet<Long> unique = new LinkedHashSet<>(ids);
+        unique.remove(null);
+        return new ArrayList<>(unique);
+    }
+}
@@ -0,0 +1,158 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Supplies approximate totals for {@link CountMode#ESTIMATED} listings.
+ * <p>
+ * The total of a page is derived without a {@code count(*)} query whenever
+ * possible:
+ * </p>
+ * <ul>
+ * <li>on the last page it follows from the offset and the page content;</li>
+ * <li>without filters, or with only a status or only a type filter, it is
+ * read from the in-memory {@link AssetStatsCounters};</li>
+ * <li>otherwise the count of the same filters is computed once and reused for
+ * {@code application.search.count-cache-ttl}, so paging through one search
+ * counts at most once per TTL.</li>
+ * </ul>
+ * <p>
+ * Cached counts are keyed by the same normalized criteria as the
+ * {@link AssetSearchCache}, and the least recently used ones are evicted once
+ * {@value #MAX_CACHED_COUNTS} are held.
+ * </p>
+ */
+@Component
+public class AssetCountEstimator {
+
+    /**
+     * Upper bound on cached counts.
+     */
+    static final int MAX_CACHED_COUNTS = 10_000;
+
+    private final JpaAssetSearchEngine jpaSearchEngine;
+    private final AssetStatsCounters statsCounters;
+    private final Duration ttl;
+    private final AtomicLong generation = new AtomicLong();
+
+    // Access order: the least recently used count is evicted first
+    private final Map<AssetSearchCriteria, CachedCount> counts =
+            new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<AssetSearchCriteria, CachedCount> eldest) {
+                    return size() > MAX_CACHED_COUNTS;
+                }
+            };
+
+    /**
+     * Creates the estimator.
+     *
+     * @param jpaSearchEngine the engine running the cached counts
+     * @param statsCounters   the in-memory counters for unfiltered totals
+     * @param ttl             how long a computed count is reused
+     */
+    public AssetCountEstimator(JpaAssetSearchEngine jpaSearchEngine, AssetStatsCounters statsCounters,
+            @Value("${application.search.count-cache-ttl:PT1M}") Duration ttl) {
+        this.jpaSearchEngine = jpaSearchEngine;
+        this.statsCounters = statsCounters;
+        this.ttl = ttl;
+    }
+
+    private record CachedCount(long count, long expiresAtNanos) {
+    }
+
+    /**
+     * Turns a slice into a page with an estimated total.
+     * <p>
+     * The estimate is never lower than the number of assets the slice proves
+     * to exist.
+     * </p>
+     *
+     * @param criteria the criteria the slice was searched with
+     * @param slice    the slice to complete; a page is returned unchanged
+     * @param <T>      the type of the rows
+     * @return a page with an exact or estimated total
+     */
+    public <T> Page<T> withEstimatedTotal(AssetSearchCriteria criteria, Slice<T> slice) {
+        if (slice instanceof Page<T> page) {
+            return page;
+        }
+        Pageable pageable = slice.getPageable();
+        long seen = (pageable.isPaged() ? pageable.getOffset() : 0) + slice.getNumberOfElements();
+        if (!slice.hasNext()) {
+            return new PageImpl<>(slice.getContent(), pageable, seen);
+        }
+        return new PageImpl<>(slice.getContent(), pageable, Math.max(estimate(criteria), seen + 1));
+    }
+
+    /**
+     * Drops all cached counts.
+     * <p>
+     * Called after writes the count TTL should not hide, such as the book value
+     * refresh, which changes the result of every book value filter at once.
+     * </p>
+     */
+    public void invalidate() {
+        // Advanced before clearing, so no count computed earlier is stored afterwards
+        generation.incrementAndGet();
+        synchronized (counts) {
+            counts.clear();
+        }
+    }
+
+    private long estimate(AssetSearchCriteria criteria) {
+        if (statsCounters.isSeeded() && onlyStatusOrType(criteria)) {
+            if (criteria.getType() != null) {
+                return statsCounters.countByType(criteria.getType());
+            }
+            if (criteria.getStatus() != null) {
+                return statsCounters.countByStatus(criteria.getStatus());
+            }
+            return statsCounters.snapshot().getTotalAssets();
+        }
+
+        AssetSearchCriteria key = AssetSearchCache.normalize(criteria);
+        long current = generation.get();
+        long now = System.nanoTime();
+        CachedCount cached;
+        synchronized (counts) {
+            cached = counts.get(key);
+        }
+        if (cached != null && cached.expiresAtNanos() - now > 0) {
+            return cached.count();
+        }
+        long count = jpaSearchEngine.count(criteria);
+        synchronized (counts) {
+            if (generation.get() == current) {
+                counts.put(key, new CachedCount(count, now + ttl.toNanos()));
+            }
+        }
+        return count;
+    }
+
+    private static boolean onlyStatusOrType(AssetSearchCriteria criteria) {
+        return (criteria.getQuery() == null || criteria.getQuery().isEmpty())
+                && (criteria.getType() == null || criteria.getStatus() == null)
+                && criteria.getStatus() != AssetStatus.DISPOSED
+                && criteria.getSerialNumber() == null
+                && criteria.getAssignedToUserId() == null
+                && criteria.getMinBookValue() == null
+                && criteria.getMaxBookValue() == null
+                && criteria.getMinPrice() == null
+                && criteria.getMaxPrice() == null
+                && criteria.getPurchasedFrom() == null
+                && criteria.getPurchasedTo() == null;
+    }
+}
@@ -0,0 +1,81 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetExportDto;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * CSV layout of exported assets.
+ * <p>
+ * The header uses the {@link AssetExportDto} property names, which the CSV
+ * import understands, so exported files can be imported again. Fields are
+ * quoted only when they contain a comma, quote or line break (RFC 4180), the
+ * same dialect {@link CsvRecordReader} reads.
+ * </p>
+ */
+final class AssetCsvFormat {
+
+    /**
+     * Column names, in output order.
+     */
+    static final List<String> COLUMNS = List.of(
+            "id", "type", "name", "purchasePrice", "purchaseDate", "status", "residualValue",
+            "usefulLifeYears", "depreciationMethod", "currentBookValue",
+            "serialNumber", "location", "warrantyDate", "licenseKey", "expiryDate",
+            "assignedToUserId", "assignedToUsername", "createdAt");
+
+    private AssetCsvFormat() {
+    }
+
+    /**
+     * Writes the header line.
+     *
+     * @param writer the target
+     * @throws IOException if writing fails
+     */
+    static void writeHeader(Writer writer) throws IOException {
+        writer.write(String.join(",", COLUMNS));
+        writer.write('\n');
+    }
+
+    /**
+     * Writes one asset as a CSV line.
+     *
+     * @param writer the target
+     * @param row    the asset to write
+     * @throws IOException if writing fails
+     */
+    static void writeRow(Writer writer, AssetExportDto row) throws IOException {
+        Object[] values = {
+                row.getId(), row.getType(), row.getName(), plain(row.getPurchasePrice()), row.getPurchaseDate(),
+                row.getStatus(), plain(row.getResidualValue()), row.getUsefulLifeYears(),
+                row.getDepreciationMethod(), plain(row.getCurrentBookValue()),
+                row.getSerialNumber(), row.getLocation(), row.getWarrantyDate(), row.getLicenseKey(),
+                row.getExpiryDate(), row.getAssignedToUserId(), row.getAssignedToUsername(), row.getCreatedAt() };
+
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            if (values[i] != null) {
+                writer.write(escape(values[i].toString()));
+            }
+        }
+        writer.write('\n');
+    }
+
+    private static String plain(BigDecimal amount) {
+        return amount != null ? amount.toPlainString() : null;
+    }
+
+    private static String escape(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0
+                && value.indexOf('\r') < 0) {
+            return value;
+        }
+        return '"' + value.replace("\"", "\"\"") + '"';
+    }
+}
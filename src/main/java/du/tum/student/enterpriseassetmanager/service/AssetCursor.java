@@ -0,0 +1,139 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+
+/**
+ * Position in a keyset-paginated asset listing: the sort order and the sort key
+ * and ID of the last asset already returned.
+ * <p>
+ * Clients receive it as an opaque, URL-safe token. Only indexed properties
+ * can be used as sort key, so that {@code (key, id)} is a strict total order
+ * that an index can seek into. A decoded token is validated as far as the
+ * database would reject it, so a tampered token is a client error.
+ * </p>
+ *
+ * @param sortBy    the sort property
+ * @param direction the sort direction
+ * @param key       the sort key of the last returned asset, or null if it had
+ *                  none
+ * @param id        the ID of the last returned asset (tie-breaker)
+ */
+public record AssetCursor(String sortBy, Sort.Direction direction, Comparable<?> key, long id) {
+
+    private static final Map<String, Function<String, Comparable<?>>> PARSERS = Map.of(
+            "id", Long::valueOf,
+            "name", AssetCursor::parseText,
+            "purchasePrice", AssetCursor::parseDecimal,
+            "purchaseDate", value -> requireYear(LocalDate.parse(value), LocalDate::getYear),
+            "createdAt", value -> requireYear(LocalDateTime.parse(value), LocalDateTime::getYear));
+
+    /**
+     * Largest number of digits (before or after the point) of a decimal key,
+     * as for a PostgreSQL {@code numeric(38, 38)}.
+     */
+    private static final int MAX_DECIMAL_DIGITS = 38;
+
+    private static final Map<String, Function<AssetSummaryDto, Comparable<?>>> ACCESSORS = Map.of(
+            "id", AssetSummaryDto::getId,
+            "name", AssetSummaryDto::getName,
+            "purchasePrice", AssetSummaryDto::getPurchasePrice,
+            "purchaseDate", AssetSummaryDto::getPurchaseDate,
+            "createdAt", AssetSummaryDto::getCreatedAt);
+
+    /**
+     * Indicates whether keyset pagination supports sorting by the property.
+     *
+     * @param property the sort property
+     * @return true for id, name, purchasePrice, purchaseDate and createdAt
+     */
+    public static boolean isSortable(String property) {
+        return PARSERS.containsKey(property);
+    }
+
+    /**
+     * Creates the cursor pointing after the given asset.
+     *
+     * @param asset     the last asset returned
+     * @param sortBy    the sort property
+     * @param direction the sort direction
+     * @return the cursor
+     */
+    public static AssetCursor after(AssetSummaryDto asset, String sortBy, Sort.Direction direction) {
+        return new AssetCursor(sortBy, direction, ACCESSORS.get(sortBy).apply(asset), asset.getId());
+    }
+
+    /**
+     * Decodes a token created by {@link #encode()}.
+     *
+     * @param token the token
+     * @return the cursor
+     * @throws IllegalArgumentException if the token is malformed
+     */
+    public static AssetCursor decode(String token) {
+        String[] parts;
+        try {
+            parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split("\n", 4);
+        } catch (IllegalArgumentException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+        if (parts.length < 3 || !isSortable(parts[0])) {
+            throw new IllegalArgumentException("Malformed cursor");
+        }
+        try {
+            // Without a fourth part the key was null
+            Comparable<?> key = (parts.length == 4) ? PARSERS.get(parts[0]).apply(parts[3]) : null;
+            return new AssetCursor(parts[0], Sort.Direction.fromString(parts[1]), key, Long.parseLong(parts[2]));
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("Malformed cursor", e);
+        }
+    }
+
+    /**
+     * Encodes this cursor as an opaque token.
+     *
+     * @return the URL-safe token
+     */
+    public String encode() {
+        String raw = sortBy + "\n" + direction.name() + "\n" + id;
+        if (key != null) {
+            // The key goes last, as a name may contain the separator
+            raw += "\n" + ((key instanceof BigDecimal decimal) ? decimal.toPlainString() : key.toString());
+        }
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String parseText(String value) {
+        // PostgreSQL text cannot hold NUL
+        if (value.indexOf('\0') >= 0) {
+            throw new IllegalArgumentException("NUL in text key");
+        }
+        return value;
+    }
+
+    private static BigDecimal parseDecimal(String value) {
+        BigDecimal decimal = new BigDecimal(value);
+        if (decimal.precision() - decimal.scale() > MAX_DECIMAL_DIGITS
+                || Math.abs(decimal.scale()) > MAX_DECIMAL_DIGITS) {
+            throw new IllegalArgumentException("Decimal key out of range");
+        }
+        return decimal;
+    }
+
+    private static <T extends Comparable<?>> T requireYear(T value, ToIntFunction<T> year) {
+        int y = year.applyAsInt(value);
+        if (y < 1 || y > 9999) {
+            throw new IllegalArgumentException("Date key out of range");
+        }
+        return value;
+    }
+}
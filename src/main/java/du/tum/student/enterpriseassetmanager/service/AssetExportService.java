@@ -0,0 +1,113 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetExportDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+
+/**
+ * Service for exporting the asset inventory.
+ * <p>
+ * Assets are read through {@link AssetReadViewRepository#streamAll} (a
+ * forward-only database cursor over the flattened read view, so no subtype or
+ * user table is joined) and written out one by one, so neither the result set
+ * nor the persistence context grows with the inventory size and every row
+ * costs the same, unlike deep offset pages.
+ * </p>
+ */
+@Service
+public class AssetExportService {
+
+    private final AssetReadViewRepository readViewRepository;
+    private final int fetchSize;
+
+    /**
+     * Creates the export service.
+     *
+     * @param readViewRepository the repository providing the cursor
+     * @param fetchSize          the number of rows fetched per round trip
+     */
+    public AssetExportService(AssetReadViewRepository readViewRepository,
+            @Value("${application.export.fetch-size:500}") int fetchSize) {
+        this.readViewRepository = readViewRepository;
+        this.fetchSize = fetchSize;
+    }
+
+    /**
+     * Passes every asset matching the criteria to the sink, in ID order.
+     *
+     * @param criteria the filter to apply, same as the search endpoint
+     * @param rowSink  receives each exported asset
+     */
+    @Transactional(readOnly = true)
+    public void export(AssetSearchCriteria criteria, Consumer<AssetExportDto> rowSink) {
+        try (Stream<AssetReadView> assets = readViewRepository.streamAll(AssetSpecification.filterReadView(criteria),
+                fetchSize)) {
+            assets.map(AssetExportService::toExport).forEach(rowSink);
+        }
+    }
+
+    /**
+     * Writes every asset matching the criteria as CSV (see
+     * {@link AssetCsvFormat}).
+     *
+     * @param criteria the filter to apply, same as the search endpoint
+     * @param out      the target stream (UTF-8)
+     * @throws IOException if writing fails
+     */
+    @Transactional(readOnly = true)
+    public void exportCsv(AssetSearchCriteria criteria, OutputStream out) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        AssetCsvFormat.writeHeader(writer);
+        try {
+            export(criteria, row -> {
+                try {
+                    AssetCsvFormat.writeRow(writer, row);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+    }
+
+    private static AssetExportDto toExport(AssetReadView asset) {
+        return AssetExportDto.builder()
+                .id(asset.getId())
+                .type(asset.getType())
+                .name(asset.getName())
+                .purchasePrice(asset.getPurchasePrice())
+                .purchaseDate(asset.getPurchaseDate())
+                .status(asset.getStatus())
+                .residualValue(asset.getResidualValue())
+                .usefulLifeYears(asset.getUsefulLifeYears())
+                .depreciationMethod(asset.getDepreciationMethod())
+                .currentBookValue(asset.getCurrentBookValue())
+                .createdAt(asset.getCreatedAt())
+                // Null in the columns of the other subtype and for unassigned assets
+                .serialNumber(asset.getSerialNumber())
+                .location(asset.getLocation())
+                .warrantyDate(asset.getWarrantyDate())
+                .licenseKey(asset.getLicenseKey())
+                .expiryDate(asset.getExpiryDate())
+                .assignedToUserId(asset.getAssignedToId())
+                .assignedToUsername(asset.getAssignedToUsername())
+                .build();
+    }
+}
@@ -0,0 +1,318 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetImportRow;
+import du.tum.student.enterpriseassetmanager.controller.dto.ImportErrorDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.ImportReportDto;
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Service for streaming bulk imports of heterogeneous assets from CSV or
+ * NDJSON.
+ * <p>
+ * The input is parsed record by record while it is being uploaded. Each row is
+ * converted to a {@link HardwareAsset} or {@link SoftwareAsset} and validated;
+ * valid rows are committed in chunks of {@code application.import.chunk-size}
+ * through {@link AssetService#createAssets(List)}. If a chunk fails in the
+ * database (e.g. a duplicate serial number), it is rolled back and retried row
+ * by row so that only the offending rows are rejected. At most one chunk of
+ * rows and {@code application.import.max-errors} error entries are held in
+ * memory, regardless of the input size.
+ * </p>
+ */
+@Slf4j
+@Service
+public class AssetImportService {
+
+    private final AssetService assetService;
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final int maxErrors;
+
+    /**
+     * Creates the import service.
+     *
+     * @param assetService        persists the imported assets
+     * @param objectMapper        converts rows to {@link AssetImportRow}s
+     * @param validator           validates the converted entities
+     * @param transactionTemplate wraps each chunk in a transaction
+     * @param entityManager       cleared after each chunk
+     * @param chunkSize           the number of rows per transaction
+     * @param maxErrors           the maximum number of errors listed in the
+     *                            report
+     */
+    public AssetImportService(AssetService assetService,
+            ObjectMapper objectMapper,
+            Validator validator,
+            TransactionTemplate transactionTemplate,
+            EntityManager entityManager,
+            @Value("${application.import.chunk-size:500}") int chunkSize,
+            @Value("${application.import.max-errors:1000}") int maxErrors) {
+        this.assetService = assetService;
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+        this.transactionTemplate = transactionTemplate;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxErrors = maxErrors;
+    }
+
+    /**
+     * Imports assets from a CSV stream.
+     * <p>
+     * The first record is the header; its column names are the
+     * {@link AssetImportRow} field names, in any order. Empty cells are treated
+     * as missing values.
+     * </p>
+     *
+     * @param in the UTF-8 encoded CSV input
+     * @return the import report
+     * @throws IOException if reading the input fails
+     */
+    public ImportReportDto importCsv(InputStream in) throws IOException {
+        CsvRecordReader csv = new CsvRecordReader(
+                new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8)));
+        Importer importer = new Importer();
+
+        List<String> header = csv.next();
+        if (header == null) {
+            return importer.finish();
+        }
+        // Strip a UTF-8 byte order mark written by spreadsheet exports
+        header.set(0, header.getFirst().replace("\uFEFF", ""));
+        header.replaceAll(String::trim);
+
+        long rowNumber = 0;
+        List<String> record;
+        while ((record = csv.next()) != null) {
+            if (record.size() == 1 && record.getFirst().isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            if (record.size() != header.size()) {
+                importer.reject(rowNumber,
+                        "Expected " + header.size() + " columns but found " + record.size());
+                continue;
+            }
+
+            Map<String, String> values = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                String value = record.get(i).trim();
+                if (!value.isEmpty()) {
+                    values.put(header.get(i), value);
+                }
+            }
+
+            try {
+                importer.accept(rowNumber, objectMapper.convertValue(values, AssetImportRow.class));
+            } catch (JacksonException | IllegalArgumentException e) {
+                importer.reject(rowNumber, describe(e));
+            }
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Imports assets from a newline-delimited JSON stream.
+     * <p>
+     * Each non-blank line is one JSON object with {@link AssetImportRow}
+     * properties.
+     * </p>
+     *
+     * @param in the UTF-8 encoded NDJSON input
+     * @return the import report
+     * @throws IOException if reading the input fails
+     */
+    public ImportReportDto importNdjson(InputStream in) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Importer importer = new Importer();
+
+        long rowNumber = 0;
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            rowNumber++;
+            try {
+                importer.accept(rowNumber, objectMapper.readValue(line, AssetImportRow.class));
+            } catch (JacksonException e) {
+                importer.reject(rowNumber, describe(e));
+            }
+        }
+        return importer.finish();
+    }
+
+    /**
+     * Converts and validates a row; returns the entity or throws with the
+     * reason it is invalid.
+     */
+    private Asset toAsset(AssetImportRow row) {
+        if (row.getType() == null) {
+            throw new IllegalArgumentException("type is required (HARDWARE or SOFTWARE)");
+        }
+
+        Asset asset;
+        if (row.getType() == AssetType.HARDWARE) {
+            HardwareAsset hardware = new HardwareAsset();
+            hardware.setSerialNumber(row.getSerialNumber());
+            hardware.setLocation(row.getLocation());
+            hardware.setWarrantyDate(row.getWarrantyDate());
+            asset = hardware;
+        } else {
+            SoftwareAsset software = new SoftwareAsset();
+            software.setLicenseKey(row.getLicenseKey());
+            software.setExpiryDate(row.getExpiryDate());
+            asset = software;
+        }
+
+        asset.setName(row.getName());
+        asset.setPurchasePrice(row.getPurchasePrice());
+        asset.setPurchaseDate(row.getPurchaseDate());
+        asset.setStatus(row.getStatus() != null ? row.getStatus() : AssetStatus.AVAILABLE);
+        asset.setResidualValue(row.getResidualValue() != null ? row.getResidualValue() : BigDecimal.ZERO);
+        asset.setUsefulLifeYears(row.getUsefulLifeYears());
+        if (row.getDepreciationMethod() != null) {
+            asset.setDepreciationMethod(row.getDepreciationMethod());
+        }
+
+        List<String> problems = new ArrayList<>();
+        for (ConstraintViolation<Asset> violation : validator.validate(asset)) {
+            problems.add(violation.getPropertyPath() + ": " + violation.getMessage());
+        }
+        if (asset instanceof HardwareAsset hardware) {
+            if (isBlank(hardware.getSerialNumber())) {
+                problems.add("serialNumber: is required for hardware");
+            }
+            if (isBlank(hardware.getLocation())) {
+                problems.add("location: is required for hardware");
+            }
+        } else if (isBlank(((SoftwareAsset) asset).getLicenseKey())) {
+            problems.add("licenseKey: is required for software");
+        }
+        if (!problems.isEmpty()) {
+            throw new IllegalArgumentException(problems.stream().sorted().collect(Collectors.joining("; ")));
+        }
+        return asset;
+    }
+
+    private static boolean isBlank(String value) {
+        return value == null || value.isBlank();
+    }
+
+    private static String describe(Exception e) {
+        if (e instanceof JacksonException jackson) {
+            return "Unreadable row: " + jackson.getOriginalMessage();
+        }
+        return e.getMessage();
+    }
+
+    /**
+     * Row-by-row state of one import: the pending chunk, the counters and the
+     * capped error list.
+     */
+    private final class Importer {
+
+        private record Pending(long rowNumber, AssetImportRow row) {
+        }
+
+        private final List<Pending> pending = new ArrayList<>(chunkSize);
+        private final List<ImportErrorDto> errors = new ArrayList<>();
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        void accept(long rowNumber, AssetImportRow row) {
+            totalRows++;
+            try {
+                toAsset(row);
+            } catch (IllegalArgumentException e) {
+                recordError(rowNumber, e.getMessage());
+                return;
+            }
+            pending.add(new Pending(rowNumber, row));
+            if (pending.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void reject(long rowNumber, String message) {
+            totalRows++;
+            recordError(rowNumber, message);
+        }
+
+        ImportReportDto finish() {
+            flush();
+            return ImportReportDto.builder()
+                    .totalRows(totalRows)
+                    .importedRows(importedRows)
+                    .failedRows(failedRows)
+                    .errors(errors)
+                    .errorsTruncated(failedRows > errors.size())
+                    .build();
+        }
+
+        private void flush() {
+            if (pending.isEmpty()) {
+                return;
+            }
+            try {
+                // Entities are rebuilt for every attempt: a rolled-back attempt
+                // leaves generated IDs behind on the instances it used
+                transactionTemplate.executeWithoutResult(status -> assetService.createAssets(
+                        pending.stream().map(p -> toAsset(p.row())).toList()));
+                importedRows += pending.size();
+            } catch (RuntimeException chunkError) {
+                log.debug("Import chunk failed, retrying row by row", chunkError);
+                for (Pending p : pending) {
+                    try {
+                        transactionTemplate.executeWithoutResult(
+                                status -> assetService.createAssets(List.of(toAsset(p.row()))));
+                        importedRows++;
+                    } catch (RuntimeException rowError) {
+                        recordError(p.rowNumber(), NestedExceptionUtils.getMostSpecificCause(rowError).getMessage());
+                    }
+                }
+            } finally {
+                pending.clear();
+                // Keep the persistence context from growing with the input
+                entityManager.clear();
+            }
+        }
+
+        private void recordError(long rowNumber, String message) {
+            failedRows++;
+            if (errors.size() < maxErrors) {
+                errors.add(ImportErrorDto.builder().row(rowNumber).message(message).build());
+            }
+        }
+    }
+}
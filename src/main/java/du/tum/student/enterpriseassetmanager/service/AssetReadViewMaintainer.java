@@ -0,0 +1,180 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetSnapshot;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Keeps {@code asset_read_view} (see {@link AssetReadView}) in sync with the
+ * asset tables.
+ * <p>
+ * Asset change events are collected per transaction, and right before it
+ * commits the rows of all changed assets are rebuilt with one
+ * {@code INSERT ... SELECT ... ON CONFLICT DO UPDATE} per chunk of IDs. The
+ * read view is thus written in the same transaction as the assets: it
+ * commits or rolls back with them, and a batch of N assets costs one upsert
+ * instead of N. Changes published outside a transaction are applied
+ * immediately.
+ * </p>
+ * <p>
+ * Writers that bypass the events (the book value refresh) call
+ * {@link #refresh(Collection)} inside their own transaction. Rows that
+ * drifted anyway (manual SQL, rows written before the read view existed) are
+ * repaired by the nightly {@link #rebuild()}.
+ * </p>
+ * <p>
+ * The upsert only writes rows that differ from the asset tables, so
+ * rebuilding an unchanged asset costs a read but no write.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AssetReadViewMaintainer {
+
+    private static final String UPSERT_SQL = """
+            INSERT INTO asset_read_view (id, type, name, purchase_price, purchase_date, status, residual_value,
+                useful_life_years, depreciation_method, current_book_value, book_value_as_of, search_text,
+                created_by, created_at, last_modified_by, last_modified_at,
+                serial_number, location, warranty_date, last_maintenance_date, maintenance_interval_months,
+                license_key, expiry_date, assigned_to_id, assigned_to_username)
+            SELECT a.id, CASE WHEN h.id IS NOT NULL THEN 'HARDWARE' ELSE 'SOFTWARE' END, a.name, a.purchase_price,
+                a.purchase_date, a.status, a.residual_value, a.useful_life_years, a.depreciation_method,
+                a.current_book_value, a.book_value_as_of,
+                lower(concat_ws(' ', a.name, h.serial_number, s.license_key, u.username)),
+                a.created_by, a.created_at, a.last_modified_by, a.last_modified_at,
+                h.serial_number, h.location, h.warranty_end_date, h.last_maintenance_date,
+                h.maintenance_interval_months, s.license_key, s.expiry_date, a.user_id, u.username
+            FROM asset a
+            LEFT JOIN hardware_asset h ON h.id = a.id
+            LEFT JOIN software_asset s ON s.id = a.id
+            LEFT JOIN _user u ON u.id = a.user_id
+            %s
+            ON CONFLICT (id) DO UPDATE SET type = EXCLUDED.type, name = EXCLUDED.name,
+                purchase_price = EXCLUDED.purchase_price, purchase_date = EXCLUDED.purchase_date,
+                status = EXCLUDED.status, residual_value = EXCLUDED.residual_value,
+                useful_life_years = EXCLUDED.useful_life_years, depreciation_method = EXCLUDED.depreciation_method,
+                current_book_value = EXCLUDED.current_book_value, book_value_as_of = EXCLUDED.book_value_as_of,
+                search_text = EXCLUDED.search_text, created_by = EXCLUDED.created_by,
+                created_at = EXCLUDED.created_at, last_modified_by = EXCLUDED.last_modified_by,
+                last_modified_at = EXCLUDED.last_modified_at, serial_number = EXCLUDED.serial_number,
+                location = EXCLUDED.location, warranty_date = EXCLUDED.warranty_date,
+                last_maintenance_date = EXCLUDED.last_maintenance_date,
+                maintenance_interval_months = EXCLUDED.maintenance_interval_months,
+                license_key = EXCLUDED.license_key, expiry_date = EXCLUDED.expiry_date,
+                assigned_to_id = EXCLUDED.assigned_to_id, assigned_to_username = EXCLUDED.assigned_to_username
+            WHERE (asset_read_view.*) IS DISTINCT FROM (EXCLUDED.*)
+            """;
+    private static final String REFRESH_SQL = UPSERT_SQL.formatted("WHERE a.id IN (%s)");
+    private static final String REBUILD_SQL = UPSERT_SQL.formatted("WHERE a.id > ? AND a.id <= ?");
+    private static final String NEXT_CHUNK_END_SQL =
+            "SELECT max(id) FROM (SELECT id FROM asset WHERE id > ? ORDER BY id LIMIT ?) chunk";
+    private static final String DELETE_ORPHANS_SQL =
+            "DELETE FROM asset_read_view v WHERE NOT EXISTS (SELECT 1 FROM asset a WHERE a.id = v.id)";
+    private static final int REFRESH_CHUNK_SIZE = 1000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    /**
+     * Creates the read view maintainer.
+     *
+     * @param jdbcTemplate executes the upserts, on the connection of the
+     *                     current transaction
+     */
+    public AssetReadViewMaintainer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Schedules the row of a changed asset for rebuilding.
+     *
+     * @param event the change event published by {@link AssetService}
+     */
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        AssetSnapshot changed = (event.after() != null) ? event.after() : event.before();
+        schedule(List.of(changed.id()));
+    }
+
+    /**
+     * Schedules the rows of a bulk update for rebuilding.
+     *
+     * @param event the bulk change event published by {@link AssetBulkService}
+     */
+    @EventListener
+    public void onAssetsBulkChanged(AssetsBulkChangedEvent event) {
+        schedule(event.assetIds());
+    }
+
+    /**
+     * Rebuilds the rows of the given assets from the asset tables now.
+     * <p>
+     * Pending entity changes are flushed first, so the rows reflect them.
+     * </p>
+     *
+     * @param ids the IDs of the assets to rebuild
+     */
+    public void refresh(Collection<Long> ids) {
+        if (ids.isEmpty()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            entityManager.flush();
+        }
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += REFRESH_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + REFRESH_CHUNK_SIZE, pending.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.update(REFRESH_SQL.formatted(placeholders), chunk.toArray());
+        }
+    }
+
+    /**
+     * Rebuilds the whole read view from the asset tables.
+     * <p>
+     * Walks all assets in ID order, one chunk per statement, and upserts every
+     * row: missing rows are added and stale rows are overwritten, while rows
+     * that are already current are left alone. Rows whose asset no longer
+     * exists are removed. Each chunk commits on its own, so the rebuild never
+     * holds locks on the whole table.
+     * </p>
+     *
+     * @return the number of rows added or repaired
+     */
+    @Scheduled(cron = "${application.read-view.rebuild-cron:0 15 3 * * *}")
+    public int rebuild() {
+        int written = 0;
+        long lastId = 0;
+        Long chunkEnd;
+        while ((chunkEnd = jdbcTemplate.queryForObject(NEXT_CHUNK_END_SQL, Long.class, lastId,
+                REFRESH_CHUNK_SIZE)) != null) {
+            written += jdbcTemplate.update(REBUILD_SQL, lastId, chunkEnd);
+            lastId = chunkEnd;
+        }
+        int removed = jdbcTemplate.update(DELETE_ORPHANS_SQL);
+        if (written > 0 || removed > 0) {
+            log.info("Rebuilt asset_read_view: {} rows added or repaired, {} removed", written, removed);
+        }
+        return written;
+    }
+
+    private void schedule(Collection<Long> ids) {
+        TransactionBatches.beforeCommit(this, ids, this::refresh);
+    }
+}
@@ -0,0 +1,201 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.BeanUtils;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Bounded cache of search result pages (as {@link AssetSummaryDto} rows) in
+ * front of the {@link AssetSearchEngine}.
+ * <p>
+ * Results are keyed by the normalized criteria (the text query is matched
+ * case-insensitively, so it is lower-cased), the page request and the count
+ * mode. The least recently used results are evicted once either
+ * {@code application.search.cache.max-entries} results or
+ * {@code application.search.cache.max-assets} assets in total are held.
+ * </p>
+ * <p>
+ * Every committed asset write advances a generation and empties the cache. A
+ * result is only stored if no write was committed while it was computed, so a
+ * search never returns data older than the last commit it could observe.
+ * Lookups are counted in {@code search.cache.requests}; the hit ratio is
+ * published as {@code search.cache.hit.ratio}.
+ * </p>
+ */
+@Component
+public class AssetSearchCache {
+
+    private final int maxEntries;
+    private final long maxAssets;
+    private final AtomicLong generation = new AtomicLong();
+    private final Counter hits;
+    private final Counter misses;
+
+    // Access order: iteration starts at the least recently used result
+    private final LinkedHashMap<Key, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+    private long weight;
+
+    /**
+     * Creates the search cache.
+     *
+     * @param meterRegistry the registry for cache metrics
+     * @param maxEntries    the maximum number of cached results; 0 disables the
+     *                      cache
+     * @param maxAssets     the maximum number of assets across all cached
+     *                      results
+     */
+    public AssetSearchCache(MeterRegistry meterRegistry,
+            @Value("${application.search.cache.max-entries:1000}") int maxEntries,
+            @Value("${application.search.cache.max-assets:50000}") long maxAssets) {
+        this.maxEntries = maxEntries;
+        this.maxAssets = maxAssets;
+        this.hits = requestCounter(meterRegistry, "hit");
+        this.misses = requestCounter(meterRegistry, "miss");
+
+        Gauge.builder("search.cache.hit.ratio", this, AssetSearchCache::hitRatio)
+                .description("Share of search cache lookups answered from the cache")
+                .register(meterRegistry);
+        Gauge.builder("search.cache.entries", this, AssetSearchCache::size)
+                .description("Search results held by the cache")
+                .register(meterRegistry);
+    }
+
+    private record Key(AssetSearchCriteria criteria, Pageable pageable, CountMode countMode) {
+    }
+
+    private record Entry(Slice<AssetSummaryDto> result, long generation, long weight) {
+    }
+
+    /**
+     * Returns the cached result of a search, or runs and caches it.
+     *
+     * @param criteria  the search criteria
+     * @param pageable  the requested page
+     * @param countMode how the total is determined
+     * @param search    runs the search on a miss
+     * @return the (possibly cached) result
+     */
+    public Slice<AssetSummaryDto> get(AssetSearchCriteria criteria, Pageable pageable, CountMode countMode,
+            Supplier<Slice<AssetSummaryDto>> search) {
+        if (maxEntries <= 0) {
+            return search.get();
+        }
+        Key key = new Key(normalize(criteria), pageable, countMode);
+        long current = generation.get();
+        Entry cached;
+        synchronized (entries) {
+            cached = entries.get(key);
+        }
+        if (cached != null && cached.generation() == current) {
+            hits.increment();
+            return cached.result();
+        }
+        misses.increment();
+
+        Slice<AssetSummaryDto> result = search.get();
+        long resultWeight = result.getNumberOfElements() + 1L;
+        if (resultWeight > maxAssets) {
+            return result;
+        }
+        synchronized (entries) {
+            // A write committed during the search may not be reflected in the result
+            if (generation.get() == current) {
+                Entry previous = entries.put(key, new Entry(result, current, resultWeight));
+                weight += resultWeight - (previous != null ? previous.weight() : 0);
+                evict();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Invalidates all cached results once an asset write has been committed.
+     *
+     * @param event the change event published by {@link AssetService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Invalidates all cached results once a bulk update has been committed.
+     *
+     * @param event the bulk change event published by {@link AssetBulkService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetsBulkChanged(AssetsBulkChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Drops all cached results and rejects results still being computed.
+     */
+    public void invalidate() {
+        // Advanced before clearing, so no result computed earlier is stored afterwards
+        generation.incrementAndGet();
+        synchronized (entries) {
+            entries.clear();
+            weight = 0;
+        }
+    }
+
+    private void evict() {
+        Iterator<Entry> eldest = entries.values().iterator();
+        while ((entries.size() > maxEntries || weight > maxAssets) && eldest.hasNext()) {
+            weight -= eldest.next().weight();
+            eldest.remove();
+        }
+    }
+
+    private int size() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    private double hitRatio() {
+        double lookups = hits.count() + misses.count();
+        return lookups > 0 ? hits.count() / lookups : 0;
+    }
+
+    /**
+     * Returns a copy of the criteria fit for use as a cache key: later changes
+     * to the caller's object do not affect it, and searches that match the
+     * same assets compare equal.
+     *
+     * @param criteria the criteria to copy
+     * @return the normalized copy
+     */
+    static AssetSearchCriteria normalize(AssetSearchCriteria criteria) {
+        // A copy: the caller's criteria object may still be modified
+        AssetSearchCriteria normalized = new AssetSearchCriteria();
+        BeanUtils.copyProperties(criteria, normalized);
+        String query = criteria.getQuery();
+        normalized.setQuery(query == null || query.isEmpty() ? null : query.toLowerCase(Locale.ROOT));
+        return normalized;
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String result) {
+        return Counter.builder("search.cache.requests")
+                .description("Search cache lookups by result")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,49 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+/**
+ * Backend answering {@link AssetService#searchAssets}.
+ * <p>
+ * Selected with {@code application.search.engine}: {@code jpa} (default)
+ * queries the database, {@code memory} answers from an in-process index.
+ * Either way the rows are read from the flattened {@link AssetReadView}, so no
+ * search joins a subtype table or {@code _user}.
+ * </p>
+ */
+public interface AssetSearchEngine {
+
+    /**
+     * Pseudo sort property selecting relevance ranking.
+     */
+    String RELEVANCE_SORT = "relevance";
+
+    /**
+     * Finds one page of assets matching the criteria.
+     *
+     * @param criteria the search criteria
+     * @param pageable pagination and sort information; sorting by
+     *                 {@link #RELEVANCE_SORT} ranks the best match first
+     * @return a {@link Page} of matching rows
+     */
+    Page<AssetReadView> search(AssetSearchCriteria criteria, Pageable pageable);
+
+    /**
+     * Finds one page of assets matching the criteria, without necessarily
+     * counting all matches.
+     * <p>
+     * The default returns {@link #search}, for engines whose totals are cheap.
+     * </p>
+     *
+     * @param criteria the search criteria
+     * @param pageable pagination and sort information, as for {@link #search}
+     * @return the page content and whether more matches follow
+     */
+    default Slice<AssetReadView> searchSlice(AssetSearchCriteria criteria, Pageable pageable) {
+        return search(criteria, pageable);
+    }
+}
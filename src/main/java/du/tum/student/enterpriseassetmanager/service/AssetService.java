@@ -3,29 +3,46 @@ package du.tum.student.enterpriseassetmanager.service;
 import du.tum.student.enterpriseassetmanager.controller.dto.BatchHardwareRequest;
 import du.tum.student.enterpriseassetmanager.controller.dto.DashboardStatsDto;
 import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
 import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
 import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
 import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetSnapshot;
 import du.tum.student.enterpriseassetmanager.exception.AssetNotFoundException;
+import du.tum.student.enterpriseassetmanager.repository.AssetFacetBucket;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
 import du.tum.student.enterpriseassetmanager.repository.AssetRepository;
+import du.tum.student.enterpriseassetmanager.repository.AssetTotals;
+import du.tum.student.enterpriseassetmanager.repository.HardwareAssetRepository;
 import du.tum.student.enterpriseassetmanager.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.EnumMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 
 import du.tum.student.enterpriseassetmanager.domain.User;
-import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
-import org.springframework.data.jpa.domain.Specification;
 import du.tum.student.enterpriseassetmanager.controller.dto.BatchSoftwareRequest;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetWindowDto;
 import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetFacetsDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
 
 /**
  * Service class for managing Assets.
@@ -33,32 +50,94 @@ import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
  * Handles business logic for asset creation, retrieval, updates, deletion,
  * assignment, and statistics.
  * </p>
+ * <p>
+ * Writes go to the entity tables; listings, search and statistics read the
+ * flattened {@code asset_read_view} ({@link AssetReadView}), which the writes
+ * keep in sync within their transaction.
+ * </p>
  */
 @Service
 @RequiredArgsConstructor
 public class AssetService {
     private final AssetRepository assetRepository;
+    private final AssetReadViewRepository readViewRepository;
+    private final HardwareAssetRepository hardwareAssetRepository;
     private final UserRepository userRepository;
     private final DepreciationCalculator depreciationCalculator;
+    private final AssetStatsCounters statsCounters;
+    private final BookValueMaintainer bookValueMaintainer;
+    private final ApplicationEventPublisher eventPublisher;
+    private final AssetSearchEngine searchEngine;
+    private final AssetCountEstimator countEstimator;
+    private final AssetSearchCache searchCache;
+
+    /**
+     * Retrieves all assets with pagination, with a choice of how the total is
+     * determined.
+     *
+     * @param pageable  pagination information
+     * @param countMode how to determine the total (see
+     *                  {@link #searchAssets(AssetSearchCriteria, Pageable, CountMode)})
+     * @return a {@link Page} or {@link Slice} of asset summaries
+     */
+    public Slice<AssetSummaryDto> findAllAssets(Pageable pageable, CountMode countMode) {
+        if (countMode == CountMode.EXACT) {
+            return readViewRepository.findAll(pageable).map(AssetService::toSummary);
+        }
+        return searchAssets(new AssetSearchCriteria(), pageable, countMode);
+    }
+
+    /**
+     * Retrieves a single asset by its ID.
+     *
+     * @param id the ID of the asset
+     * @return the {@link Asset}
+     * @throws AssetNotFoundException if the asset with the given ID does not exist
+     */
+    public Asset getAsset(Long id) {
+        return assetRepository.findById(id)
+                .orElseThrow(() -> new AssetNotFoundException("Asset not found with id: " + id));
+    }
+
+    /**
+     * Retrieves a single asset by its ID together with its assigned user, for
+     * rendering the complete asset.
+     *
+     * @param id the ID of the asset
+     * @return the {@link Asset} with an initialized assignee
+     * @throws AssetNotFoundException if the asset with the given ID does not exist
+     */
+    public Asset getAssetDetails(Long id) {
+        return assetRepository.findWithAssigneeById(id)
+                .orElseThrow(() -> new AssetNotFoundException("Asset not found with id: " + id));
+    }
 
     /**
-     * Retrieves all assets with pagination.
+     * Retrieves a hardware asset by its serial number, e.g. for a barcode
+     * scanner lookup.
      *
-     * @param pageable pagination information
-     * @return a {@link Page} of assets
+     * @param serialNumber the exact serial number
+     * @return the {@link HardwareAsset}
+     * @throws AssetNotFoundException if no active asset has this serial number
      */
-    public Page<Asset> findAllAssets(Pageable pageable) {
-        return assetRepository.findAll(pageable);
+    public HardwareAsset getAssetBySerialNumber(String serialNumber) {
+        return hardwareAssetRepository.findBySerialNumber(serialNumber)
+                .orElseThrow(() -> new AssetNotFoundException("Asset not found with serial number: " + serialNumber));
     }
 
     /**
      * Persists a new asset to the database.
      *
      * @param asset the asset entity to save
+     * @param <T>   the concrete asset type
      * @return the saved {@link Asset}
      */
-    public Asset createAsset(Asset asset) {
-        return assetRepository.save(asset);
+    @Transactional
+    public <T extends Asset> T createAsset(T asset) {
+        bookValueMaintainer.apply(asset);
+        T saved = assetRepository.save(asset);
+        eventPublisher.publishEvent(AssetChangedEvent.created(AssetSnapshot.of(saved)));
+        return saved;
     }
 
     /**
@@ -69,9 +148,11 @@ public class AssetService {
      * @return the updated {@link Asset}
      * @throws AssetNotFoundException if the asset with the given ID does not exist
      */
+    @Transactional
     public Asset updateAsset(Long id, Asset assetDetails) {
         Asset existingAsset = assetRepository.findById(id)
                 .orElseThrow(() -> new AssetNotFoundException("Asset not found with id: " + id));
+        AssetSnapshot before = AssetSnapshot.of(existingAsset);
 
         // Update basic fields
         existingAsset.setName(assetDetails.getName());
@@ -79,6 +160,9 @@ public class AssetService {
         existingAsset.setPurchaseDate(assetDetails.getPurchaseDate());
         existingAsset.setUsefulLifeYears(assetDetails.getUsefulLifeYears());
         existingAsset.setResidualValue(assetDetails.getResidualValue());
+        if (assetDetails.getDepreciationMethod() != null) {
+            existingAsset.setDepreciationMethod(assetDetails.getDepreciationMethod());
+        }
 
         // If status is provided, allow update (though status is typically managed via
         // assignment logic)
@@ -86,7 +170,10 @@ public class AssetService {
             existingAsset.setStatus(assetDetails.getStatus());
         }
 
-        return assetRepository.save(existingAsset);
+        bookValueMaintainer.apply(existingAsset);
+        Asset saved = assetRepository.save(existingAsset);
+        eventPublisher.publishEvent(AssetChangedEvent.updated(before, AssetSnapshot.of(saved)));
+        return saved;
     }
 
     /**
@@ -95,11 +182,14 @@ public class AssetService {
      * @param id the ID of the asset to delete
      * @throws AssetNotFoundException if the asset with the given ID does not exist
      */
+    @Transactional
     public void deleteAsset(Long id) {
-        if (!assetRepository.existsById(id)) {
-            throw new AssetNotFoundException("Asset not found with id: " + id);
-        }
-        assetRepository.deleteById(id);
+        Asset asset = assetRepository.findById(id)
+                .orElseThrow(() -> new AssetNotFoundException("Asset not found with id: " + id));
+        AssetSnapshot before = AssetSnapshot.of(asset);
+
+        assetRepository.delete(asset);
+        eventPublisher.publishEvent(AssetChangedEvent.deleted(before));
     }
 
     /**
@@ -115,9 +205,11 @@ public class AssetService {
      * @throws AssetNotFoundException if the asset is not found
      * @throws RuntimeException       if the user is not found
      */
+    @Transactional
     public Asset assignAsset(Long assetId, Long userId) {
         Asset asset = assetRepository.findById(assetId)
                 .orElseThrow(() -> new AssetNotFoundException("Asset not found with id: " + assetId));
+        AssetSnapshot before = AssetSnapshot.of(asset);
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new RuntimeException("User not found with id: " + userId));
@@ -126,19 +218,136 @@ public class AssetService {
         asset.setAssignedTo(user);
         asset.setStatus(AssetStatus.ASSIGNED);
 
-        return assetRepository.save(asset);
+        Asset saved = assetRepository.save(asset);
+        eventPublisher.publishEvent(AssetChangedEvent.updated(before, AssetSnapshot.of(saved)));
+        return saved;
+    }
+
+    /**
+     * Searches for assets using dynamic criteria, with a choice of how the total
+     * is determined, and returns list rows.
+     * <p>
+     * Served through the {@link AssetSearchCache} by the configured
+     * {@link AssetSearchEngine}, from the read view: one table, no joins, the
+     * assignee's username included. Sorting by
+     * {@value AssetSearchEngine#RELEVANCE_SORT} orders the results by how well
+     * they match the search query, best match first.
+     * </p>
+     *
+     * @param criteria  the search criteria
+     * @param pageable  pagination information
+     * @param countMode {@link CountMode#EXACT} for a counted {@link Page},
+     *                  {@link CountMode#NONE} for a {@link Slice},
+     *                  {@link CountMode#ESTIMATED} for a {@link Page} with an
+     *                  estimated total
+     * @return the summaries of the matching assets
+     */
+    public Slice<AssetSummaryDto> searchAssets(AssetSearchCriteria criteria, Pageable pageable,
+            CountMode countMode) {
+        return searchCache.get(criteria, pageable, countMode, () -> {
+            Slice<AssetReadView> rows = switch (countMode) {
+                case EXACT -> searchEngine.search(criteria, pageable);
+                case NONE -> searchEngine.searchSlice(criteria, pageable);
+                case ESTIMATED -> countEstimator.withEstimatedTotal(criteria,
+                        searchEngine.searchSlice(criteria, pageable));
+            };
+            // A Page stays a page
+            return rows.map(AssetService::toSummary);
+        });
+    }
+
+    private static AssetSummaryDto toSummary(AssetReadView asset) {
+        return AssetSummaryDto.builder()
+                .id(asset.getId())
+                .name(asset.getName())
+                .type(asset.getType())
+                .status(asset.getStatus())
+                .purchasePrice(asset.getPurchasePrice())
+                .purchaseDate(asset.getPurchaseDate())
+                .currentBookValue(asset.getCurrentBookValue())
+                .createdAt(asset.getCreatedAt())
+                .assignedToId(asset.getAssignedToId())
+                .assignedToUsername(asset.getAssignedToUsername())
+                .build();
     }
 
     /**
-     * Searches for assets using dynamic criteria.
+     * Counts the assets matching the criteria per status, type, location and
+     * assignment.
+     * <p>
+     * All facets are summed from one grouped aggregate over the filtered rows of
+     * the read view, instead of one count query per facet value.
+     * </p>
      *
      * @param criteria the search criteria
-     * @param pageable pagination information
-     * @return a {@link Page} of matching assets
+     * @return the facet counts
+     */
+    public AssetFacetsDto getFacets(AssetSearchCriteria criteria) {
+        Map<AssetStatus, Long> byStatus = new EnumMap<>(AssetStatus.class);
+        Map<AssetType, Long> byType = new EnumMap<>(AssetType.class);
+        Map<String, Long> byLocation = new TreeMap<>();
+        long assigned = 0;
+        long total = 0;
+        for (AssetFacetBucket bucket : readViewRepository.findFacetBuckets(
+                AssetSpecification.filterReadView(criteria))) {
+            byStatus.merge(bucket.status(), bucket.assetCount(), Long::sum);
+            byType.merge(bucket.type(), bucket.assetCount(), Long::sum);
+            if (bucket.location() != null) {
+                byLocation.merge(bucket.location(), bucket.assetCount(), Long::sum);
+            }
+            assigned += bucket.assignedCount();
+            total += bucket.assetCount();
+        }
+        return AssetFacetsDto.builder()
+                .status(byStatus)
+                .type(byType)
+                .location(byLocation)
+                .assigned(assigned)
+                .unassigned(total - assigned)
+                .build();
+    }
+
+    /**
+     * Returns one window of assets using keyset (seek) pagination.
+     * <p>
+     * Instead of skipping {@code page * size} rows, the query continues right
+     * after the position encoded in the cursor, so deep windows cost the same as
+     * the first one. When a cursor is given, its sort order is used.
+     * </p>
+     *
+     * @param criteria  the search criteria
+     * @param cursor    the position to continue after, or null for the first
+     *                  window
+     * @param sortBy    the sort property (see {@link AssetCursor#isSortable})
+     * @param direction the sort direction
+     * @param size      the maximum number of assets in the window
+     * @return the window and the cursor for the next one
      */
-    public Page<Asset> searchAssets(AssetSearchCriteria criteria, Pageable pageable) {
-        Specification<Asset> spec = AssetSpecification.filterBy(criteria);
-        return assetRepository.findAll(spec, pageable);
+    public AssetWindowDto scrollAssets(AssetSearchCriteria criteria, AssetCursor cursor, String sortBy,
+            Sort.Direction direction, int size) {
+        String sortProperty = (cursor != null) ? cursor.sortBy() : sortBy;
+        Sort.Direction sortDirection = (cursor != null) ? cursor.direction() : direction;
+
+        Specification<AssetReadView> spec = AssetSpecification.filterReadView(criteria);
+        if (cursor != null) {
+            spec = spec.and(AssetSpecification.seekAfter(sortProperty, sortDirection, cursor.key(), cursor.id()));
+        }
+        Sort sort = sortProperty.equals("id")
+                ? Sort.by(sortDirection, "id")
+                : Sort.by(sortDirection, sortProperty, "id");
+
+        // One extra row tells whether another window follows, without a count query
+        List<AssetReadView> rows = readViewRepository.findBy(spec, query -> query.sortBy(sort).limit(size + 1).all());
+        boolean hasNext = rows.size() > size;
+        List<AssetSummaryDto> content = (hasNext ? rows.subList(0, size) : rows).stream()
+                .map(AssetService::toSummary)
+                .toList();
+
+        return AssetWindowDto.builder()
+                .content(content)
+                .hasNext(hasNext)
+                .nextCursor(hasNext ? AssetCursor.after(content.get(size - 1), sortProperty, sortDirection).encode() : null)
+                .build();
     }
 
     /**
@@ -161,47 +370,71 @@ public class AssetService {
      * Aggregates key statistics for the dashboard.
      * <p>
      * Calculates total assets, total value, active licenses, and available assets.
+     * Served from the in-memory {@link AssetStatsCounters} once they are seeded;
+     * until then the figures are queried from the database.
      * </p>
      *
      * @return a {@link DashboardStatsDto} containing the statistics
      */
     public DashboardStatsDto getDashboardStats() {
-        List<Asset> allAssets = assetRepository.findAll();
-
-        long totalAssets = allAssets.size();
-
-        // Calculate total value (sum of all purchase prices)
-        BigDecimal totalValue = allAssets.stream()
-                .map(Asset::getPurchasePrice)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        if (statsCounters.isSeeded()) {
+            return statsCounters.snapshot();
+        }
+        return queryDashboardStats();
+    }
 
-        // Count active licenses (software assets that are not disposed and not expired)
-        long activeLicenses = allAssets.stream()
-                .filter(asset -> asset instanceof SoftwareAsset)
-                .filter(asset -> asset.getStatus() != AssetStatus.DISPOSED)
-                .map(asset -> (SoftwareAsset) asset)
-                .filter(software -> software.getExpiryDate() == null ||
-                        software.getExpiryDate().isAfter(LocalDate.now()))
-                .count();
+    /**
+     * Computes the dashboard statistics directly from the database.
+     * <p>
+     * All figures are computed by aggregate queries over the read view, so no
+     * asset entity is loaded into memory.
+     * </p>
+     *
+     * @return a {@link DashboardStatsDto} containing the statistics
+     */
+    public DashboardStatsDto queryDashboardStats() {
+        // 1. Count, value and availability in one pass over the read view
+        AssetTotals totals = readViewRepository.summarizeAssets(AssetStatus.AVAILABLE);
 
-        // Count available assets
-        long availableAssets = assetRepository.countByStatus(AssetStatus.AVAILABLE);
+        // 2. Active licenses (software assets that are not disposed and not expired)
+        long activeLicenses = readViewRepository.countActiveLicenses(LocalDate.now());
 
         return DashboardStatsDto.builder()
-                .totalAssets(totalAssets)
-                .totalValue(totalValue)
+                .totalAssets(totals.getTotalAssets())
+                .totalValue(totals.getTotalValue())
                 .activeLicenses(activeLicenses)
-                .availableAssets(availableAssets)
+                .availableAssets(totals.getAvailableAssets())
                 .build();
     }
 
     /**
      * Retrieves the 5 most recently created assets.
      *
-     * @return a list of recent assets
+     * @return the summaries of the recent assets
      */
-    public List<Asset> findRecentAssets() {
-        return assetRepository.findTop5ByOrderByCreatedAtDesc();
+    public List<AssetSummaryDto> findRecentAssets() {
+        return readViewRepository.findTop5ByOrderByCreatedAtDesc().stream().map(AssetService::toSummary).toList();
+    }
+
+    /**
+     * Persists several new assets in one batch.
+     * <p>
+     * All entities are handed to {@code saveAll}, so with the pooled ID sequence
+     * and JDBC batching the INSERTs are sent in groups instead of one round trip
+     * per row (and per table of the JOINED hierarchy).
+     * </p>
+     *
+     * @param assets the new asset entities
+     * @return the saved assets, in the same order
+     */
+    @Transactional
+    public List<Asset> createAssets(List<? extends Asset> assets) {
+        assets.forEach(bookValueMaintainer::apply);
+        List<Asset> savedAssets = new ArrayList<>(assetRepository.saveAll(assets));
+        for (Asset saved : savedAssets) {
+            eventPublisher.publishEvent(AssetChangedEvent.created(AssetSnapshot.of(saved)));
+        }
+        return savedAssets;
     }
 
     /**
@@ -217,9 +450,26 @@ public class AssetService {
      */
     @Transactional // Ensures atomicity: if one save fails, all roll back
     public List<Asset> createBatchHardware(BatchHardwareRequest request) {
-        List<Asset> createdAssets = new ArrayList<>();
+        return createAssets(buildBatchHardware(request, 1, request.getQuantity()));
+    }
 
-        for (int i = 1; i <= request.getQuantity(); i++) {
+    /**
+     * Builds (without saving) the hardware assets with the given positions of a
+     * batch.
+     * <p>
+     * Positions are 1-based and determine the serial number suffix, so a batch
+     * can be created in several parts with the same serial numbers as in one.
+     * </p>
+     *
+     * @param request the batch request containing common properties
+     * @param from    the first position (inclusive)
+     * @param to      the last position (inclusive)
+     * @return the new, unsaved assets
+     */
+    public List<HardwareAsset> buildBatchHardware(BatchHardwareRequest request, int from, int to) {
+        List<HardwareAsset> assets = new ArrayList<>(Math.max(0, to - from + 1));
+
+        for (int i = from; i <= to; i++) {
             HardwareAsset asset = new HardwareAsset();
 
             // 1. Copy common properties
@@ -229,6 +479,9 @@ public class AssetService {
             asset.setStatus(request.getStatus());
             asset.setResidualValue(request.getResidualValue());
             asset.setUsefulLifeYears(request.getUsefulLifeYears());
+            if (request.getDepreciationMethod() != null) {
+                asset.setDepreciationMethod(request.getDepreciationMethod());
+            }
 
             // 2. Copy hardware attributes
             asset.setLocation(request.getLocation());
@@ -239,10 +492,10 @@ public class AssetService {
             String suffix = String.format("%03d", i); // Zero-pad to 3 digits
             asset.setSerialNumber(request.getSerialNumberPrefix() + suffix);
 
-            createdAssets.add(assetRepository.save(asset));
+            assets.add(asset);
         }
 
-        return createdAssets;
+        return assets;
     }
 
     /**
@@ -256,9 +509,20 @@ public class AssetService {
      */
     @Transactional
     public List<Asset> createBatchSoftware(BatchSoftwareRequest request) {
-        List<Asset> createdAssets = new ArrayList<>();
+        return createAssets(buildBatchSoftware(request, request.getQuantity()));
+    }
+
+    /**
+     * Builds (without saving) software assets of a batch.
+     *
+     * @param request the batch request containing common properties
+     * @param count   the number of assets to build
+     * @return the new, unsaved assets
+     */
+    public List<SoftwareAsset> buildBatchSoftware(BatchSoftwareRequest request, int count) {
+        List<SoftwareAsset> assets = new ArrayList<>(Math.max(0, count));
 
-        for (int i = 0; i < request.getQuantity(); i++) {
+        for (int i = 0; i < count; i++) {
             SoftwareAsset asset = new SoftwareAsset();
 
             // 1. Copy common properties
@@ -268,14 +532,17 @@ public class AssetService {
             asset.setStatus(request.getStatus());
             asset.setResidualValue(request.getResidualValue());
             asset.setUsefulLifeYears(request.getUsefulLifeYears());
+            if (request.getDepreciationMethod() != null) {
+                asset.setDepreciationMethod(request.getDepreciationMethod());
+            }
 
             // 2. Copy software attributes
             asset.setLicenseKey(request.getLicenseKey()); // Shared key
             asset.setExpiryDate(request.getExpiryDate());
 
-            createdAssets.add(assetRepository.save(asset));
+            assets.add(asset);
         }
 
-        return createdAssets;
+        return assets;
     }
 }
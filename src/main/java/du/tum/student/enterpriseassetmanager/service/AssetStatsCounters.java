@@ -0,0 +1,389 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.DashboardStatsDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetSnapshot;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.StatusBreakdown;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * In-memory dashboard counters maintained incrementally from asset lifecycle
+ * events.
+ * <p>
+ * Holds per-status counts, per-type counts, the running purchase value (in
+ * cents) and the number of active licenses in {@link LongAdder}s, so that
+ * concurrent writers never contend on a single field and reads cost O(1)
+ * without a database round trip.
+ * </p>
+ * <p>
+ * The counters are seeded from aggregate queries over the read view once the
+ * application is ready and periodically reconciled against the database. Reconciliation
+ * corrects drift from writes that bypass {@link AssetService} and from
+ * licenses that expired since they were counted.
+ * </p>
+ * <p>
+ * Reconciliation reads all aggregates in one snapshot without holding the
+ * lock, so event delivery is never blocked by the queries. Every delta is
+ * tagged with the ID of the transaction that committed it; deltas that arrive
+ * meanwhile are recorded, and those of transactions the snapshot does not see
+ * are replayed on top of the reloaded values. The reloaded values are built
+ * in fresh adders and swapped in at once, so reads never observe a partial
+ * reload.
+ * </p>
+ */
+@Slf4j
+@Component
+public class AssetStatsCounters {
+
+    private final AssetReadViewRepository readViewRepository;
+    private final TransactionTemplate snapshotTemplate;
+    private final Clock clock;
+
+    private volatile Counters counters = new Counters();
+
+    /**
+     * Delta application takes the shared lock, the swap of reloaded counters
+     * the exclusive one, so that no delta is applied to counters that are
+     * being replaced.
+     */
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * Deltas applied since the running reconciliation started, or null when
+     * none is running.
+     */
+    private volatile Queue<Delta> replay;
+
+    private volatile boolean seeded;
+
+    /**
+     * Creates the counters.
+     *
+     * @param readViewRepository the aggregate queries used for reconciliation
+     * @param transactionManager runs the reconciliation queries in one
+     *                           read-only snapshot
+     * @param clock              determines which licenses are still active
+     */
+    public AssetStatsCounters(AssetReadViewRepository readViewRepository,
+            PlatformTransactionManager transactionManager, Clock clock) {
+        this.readViewRepository = readViewRepository;
+        this.snapshotTemplate = new TransactionTemplate(transactionManager);
+        this.snapshotTemplate.setIsolationLevel(TransactionDefinition.ISOLATION_REPEATABLE_READ);
+        this.snapshotTemplate.setReadOnly(true);
+        this.clock = clock;
+    }
+
+    /**
+     * Indicates whether the counters have been seeded and can serve reads.
+     *
+     * @return true once the initial reconciliation has completed
+     */
+    public boolean isSeeded() {
+        return seeded;
+    }
+
+    /**
+     * Builds the dashboard statistics from the current counter values.
+     *
+     * @return a {@link DashboardStatsDto} snapshot
+     */
+    public DashboardStatsDto snapshot() {
+        Counters current = counters;
+        long totalAssets = 0;
+        for (Map.Entry<AssetStatus, LongAdder> entry : current.statusCounts.entrySet()) {
+            if (entry.getKey() != AssetStatus.DISPOSED) {
+                totalAssets += entry.getValue().sum();
+            }
+        }
+
+        return DashboardStatsDto.builder()
+                .totalAssets(totalAssets)
+                .totalValue(BigDecimal.valueOf(current.valueCents.sum(), 2))
+                .activeLicenses(current.activeLicenses.sum())
+                .availableAssets(current.statusCounts.get(AssetStatus.AVAILABLE).sum())
+                .build();
+    }
+
+    /**
+     * Returns the current number of assets with the given status.
+     *
+     * @param status the status to look up
+     * @return the counter value
+     */
+    public long countByStatus(AssetStatus status) {
+        return counters.statusCounts.get(status).sum();
+    }
+
+    /**
+     * Returns the current number of active assets of the given type.
+     *
+     * @param type the type to look up
+     * @return the counter value
+     */
+    public long countByType(AssetType type) {
+        return counters.typeCounts.get(type).sum();
+    }
+
+    /**
+     * Applies the delta described by an asset change once it has been
+     * committed.
+     *
+     * @param event the change event published by {@link AssetService}
+     */
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        afterCommit(target -> {
+            apply(target, event.before(), -1);
+            apply(target, event.after(), 1);
+        });
+    }
+
+    /**
+     * Applies the deltas of a bulk update, one per changed asset, once it has
+     * been committed.
+     *
+     * @param event the bulk change event published by {@link AssetBulkService}
+     */
+    @EventListener
+    public void onAssetsBulkChanged(AssetsBulkChangedEvent event) {
+        List<AssetChangedEvent> changes = event.changes();
+        afterCommit(target -> {
+            for (AssetChangedEvent change : changes) {
+                apply(target, change.before(), -1);
+                apply(target, change.after(), 1);
+            }
+        });
+    }
+
+    /**
+     * Seeds the counters once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void seed() {
+        reconcile();
+    }
+
+    /**
+     * Recomputes all counters from the database to correct drift.
+     * <p>
+     * Runs one at a time; deltas of transactions the database snapshot does
+     * not see are replayed on top of the result.
+     * </p>
+     */
+    @Scheduled(fixedDelayString = "${application.stats.reconcile-interval:PT5M}",
+            initialDelayString = "${application.stats.reconcile-interval:PT5M}")
+    public synchronized void reconcile() {
+        Queue<Delta> applied = new ConcurrentLinkedQueue<>();
+        replay = applied;
+
+        try {
+            Totals totals = snapshotTemplate.execute(status -> new Totals(
+                    TransactionSnapshot.parse(readViewRepository.currentSnapshot()),
+                    readViewRepository.summarizeByStatus(AssetType.HARDWARE),
+                    readViewRepository.summarizeByStatus(AssetType.SOFTWARE),
+                    readViewRepository.countActiveLicenses(LocalDate.now(clock))));
+
+            Counters reloaded = new Counters();
+            load(reloaded, AssetType.HARDWARE, totals.hardware());
+            load(reloaded, AssetType.SOFTWARE, totals.software());
+            reloaded.activeLicenses.add(totals.activeLicenses());
+
+            lock.writeLock().lock();
+            try {
+                for (Delta delta : applied) {
+                    if (!totals.snapshot().sees(delta.transactionId())) {
+                        delta.change().accept(reloaded);
+                    }
+                }
+                counters = reloaded;
+                replay = null;
+                seeded = true;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } catch (RuntimeException e) {
+            // Keep serving the last known values; the next run will retry
+            log.warn("Dashboard counter reconciliation failed", e);
+        } finally {
+            replay = null;
+        }
+    }
+
+    /**
+     * Defers a change until the current transaction has committed, tagged
+     * with the transaction's ID. Outside a transaction the change is applied
+     * at once, untagged, and replayed by a running reconciliation.
+     */
+    private void afterCommit(Consumer<Counters> change) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            applyDelta(new Delta(null, change));
+            return;
+        }
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new PendingChanges();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(pending);
+        }
+        pending.changes.add(change);
+    }
+
+    private void applyDelta(Delta delta) {
+        lock.readLock().lock();
+        try {
+            delta.change().accept(counters);
+            Queue<Delta> applied = replay;
+            if (applied != null) {
+                applied.add(delta);
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void load(Counters target, AssetType type, List<StatusBreakdown> rows) {
+        for (StatusBreakdown row : rows) {
+            target.statusCounts.get(row.getStatus()).add(row.getAssetCount());
+            if (row.getStatus() != AssetStatus.DISPOSED) {
+                target.typeCounts.get(type).add(row.getAssetCount());
+                target.valueCents.add(toCents(row.getTotalValue()));
+            }
+        }
+    }
+
+    private void apply(Counters target, AssetSnapshot snapshot, int sign) {
+        if (snapshot == null) {
+            return;
+        }
+        target.statusCounts.get(snapshot.status()).add(sign);
+        if (!snapshot.isActive()) {
+            return;
+        }
+        target.typeCounts.get(snapshot.type()).add(sign);
+        target.valueCents.add(sign * toCents(snapshot.purchasePrice()));
+        if (snapshot.type() == AssetType.SOFTWARE
+                && (snapshot.expiryDate() == null || snapshot.expiryDate().isAfter(LocalDate.now(clock)))) {
+            target.activeLicenses.add(sign);
+        }
+    }
+
+    private static long toCents(BigDecimal amount) {
+        if (amount == null) {
+            return 0;
+        }
+        return amount.movePointRight(2).setScale(0, RoundingMode.HALF_UP).longValueExact();
+    }
+
+    /**
+     * One generation of counter values, replaced as a whole by reconciliation.
+     */
+    private static final class Counters {
+        private final Map<AssetStatus, LongAdder> statusCounts = newAdders(AssetStatus.class);
+        private final Map<AssetType, LongAdder> typeCounts = newAdders(AssetType.class);
+        private final LongAdder valueCents = new LongAdder();
+        private final LongAdder activeLicenses = new LongAdder();
+    }
+
+    /**
+     * A committed change and the ID of the transaction that committed it, or
+     * null when it was published outside a transaction.
+     */
+    private record Delta(Long transactionId, Consumer<Counters> change) {
+    }
+
+    /**
+     * Collects the changes of one transaction and applies them after commit.
+     */
+    private final class PendingChanges implements TransactionSynchronization {
+
+        private final List<Consumer<Counters>> changes = new ArrayList<>();
+        private Long transactionId;
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            try {
+                transactionId = Long.parseLong(readViewRepository.currentTransactionId());
+            } catch (RuntimeException e) {
+                // Untagged deltas are always replayed; the next reconciliation corrects a double count
+                log.debug("Could not read the transaction ID for dashboard counter deltas", e);
+            }
+        }
+
+        @Override
+        public void afterCommit() {
+            applyDelta(new Delta(transactionId, target -> changes.forEach(change -> change.accept(target))));
+        }
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(AssetStatsCounters.this);
+        }
+    }
+
+    /**
+     * The transactions visible to a PostgreSQL snapshot.
+     */
+    private record TransactionSnapshot(long xmin, long xmax, Set<Long> inProgress) {
+
+        static TransactionSnapshot parse(String text) {
+            String[] parts = text.split(":", -1);
+            Set<Long> inProgress = parts[2].isEmpty() ? Set.of()
+                    : Arrays.stream(parts[2].split(",")).map(Long::valueOf).collect(Collectors.toSet());
+            return new TransactionSnapshot(Long.parseLong(parts[0]), Long.parseLong(parts[1]), inProgress);
+        }
+
+        /**
+         * Indicates whether the snapshot contains the writes of the given
+         * committed transaction; unknown transactions are treated as unseen.
+         */
+        boolean sees(Long transactionId) {
+            if (transactionId == null) {
+                return false;
+            }
+            return transactionId < xmin || (transactionId < xmax && !inProgress.contains(transactionId));
+        }
+    }
+
+    private record Totals(TransactionSnapshot snapshot, List<StatusBreakdown> hardware,
+            List<StatusBreakdown> software, long activeLicenses) {
+    }
+
+    private static <E extends Enum<E>> Map<E, LongAdder> newAdders(Class<E> type) {
+        Map<E, LongAdder> adders = new EnumMap<>(type);
+        for (E constant : type.getEnumConstants()) {
+            adders.put(constant, new LongAdder());
+        }
+        return adders;
+    }
+}
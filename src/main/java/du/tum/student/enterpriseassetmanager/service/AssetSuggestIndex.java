@@ -0,0 +1,117 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSuggestionDto.Field;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * In-memory prefix index over the values offered as typeahead completions.
+ * <p>
+ * Values are kept in a sorted skip list keyed by their lower-cased text, so a
+ * completion is one O(log n) seek to the prefix followed by a scan of at most
+ * {@code limit} adjacent entries. Each entry counts the assets carrying the
+ * value and disappears with the last of them.
+ * </p>
+ * <p>
+ * Thread-safe: queries read the skip list without locking, updates are
+ * serialized.
+ * </p>
+ */
+final class AssetSuggestIndex {
+
+    private final NavigableMap<String, Entry> entries = new ConcurrentSkipListMap<>();
+    private final Map<Long, List<Term>> termsByAsset = new HashMap<>();
+
+    /**
+     * A value of an asset field.
+     *
+     * @param text  the value
+     * @param field the field it belongs to
+     */
+    record Term(String text, Field field) {
+
+        String key() {
+            // The separator sorts before any character, so shorter completions come first
+            return text.toLowerCase(Locale.ROOT) + '\u0000' + field.ordinal();
+        }
+    }
+
+    /**
+     * A completion and the number of assets carrying it.
+     *
+     * @param term   the value
+     * @param assets the number of assets
+     */
+    record Entry(Term term, int assets) {
+    }
+
+    /**
+     * Sets the values of an asset, replacing the previous ones.
+     *
+     * @param id    the asset ID
+     * @param terms the non-blank values of the asset
+     */
+    synchronized void put(long id, List<Term> terms) {
+        remove(id);
+        List<Term> added = new ArrayList<>(terms.size());
+        for (Term term : terms) {
+            if (term.text() != null && !term.text().isBlank()) {
+                entries.merge(term.key(), new Entry(term, 1),
+                        (current, one) -> new Entry(current.term(), current.assets() + 1));
+                added.add(term);
+            }
+        }
+        termsByAsset.put(id, added);
+    }
+
+    /**
+     * Removes the values of an asset, if present.
+     *
+     * @param id the asset ID
+     */
+    synchronized void remove(long id) {
+        List<Term> previous = termsByAsset.remove(id);
+        if (previous == null) {
+            return;
+        }
+        for (Term term : previous) {
+            entries.computeIfPresent(term.key(),
+                    (key, current) -> current.assets() > 1 ? new Entry(current.term(), current.assets() - 1) : null);
+        }
+    }
+
+    /**
+     * Returns the completions of a prefix in alphabetical order (case
+     * insensitive).
+     *
+     * @param prefix the typed prefix
+     * @param limit  the maximum number of completions
+     * @return up to {@code limit} matching values
+     */
+    List<Entry> complete(String prefix, int limit) {
+        String key = prefix.toLowerCase(Locale.ROOT);
+        List<Entry> matches = new ArrayList<>(Math.min(limit, 64));
+        for (Map.Entry<String, Entry> entry : entries.tailMap(key, true).entrySet()) {
+            if (matches.size() >= limit || !entry.getKey().startsWith(key)) {
+                break;
+            }
+            matches.add(entry.getValue());
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of distinct values.
+     *
+     * @return the entry count
+     */
+    int size() {
+        return entries.size();
+    }
+}
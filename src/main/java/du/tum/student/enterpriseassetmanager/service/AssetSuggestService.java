@@ -0,0 +1,221 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSuggestionDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSuggestionDto.Field;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Typeahead completions for the asset search box.
+ * <p>
+ * Completes asset names, serial numbers, license keys and assignee usernames
+ * from an in-memory {@link AssetSuggestIndex}, so a keystroke costs no
+ * database round trip. The index is loaded in the background once the
+ * application is ready and kept current from committed asset change events;
+ * until it is loaded, no completions are offered.
+ * </p>
+ * <p>
+ * The assets changed by a transaction are re-read together once it has
+ * committed (one query per chunk of IDs), so an import of N assets costs a
+ * few queries instead of N.
+ * </p>
+ */
+@Slf4j
+@Service
+public class AssetSuggestService {
+
+    // The flattened read view holds all four values in one row, without joins
+    private static final String SELECT_SQL = "SELECT id, name, serial_number, license_key,"
+            + " assigned_to_username AS username FROM asset_read_view WHERE status <> 'DISPOSED'";
+    private static final String RELOAD_SQL = SELECT_SQL + " AND id IN (%s)";
+    private static final int RELOAD_CHUNK_SIZE = 1000;
+
+    private final ExecutorService loadExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("suggest-index-", 0).factory());
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    private volatile AssetSuggestIndex index;
+    private volatile Set<Long> changedDuringLoad;
+
+    /**
+     * Creates the suggest service.
+     *
+     * @param jdbcTemplate        reads the completion values
+     * @param transactionTemplate wraps the initial load (required for cursor
+     *                            fetching)
+     * @param meterRegistry       the registry for index metrics
+     * @param fetchSize           the number of rows fetched per round trip while
+     *                            loading
+     */
+    public AssetSuggestService(JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${application.search.suggest.fetch-size:5000}") int fetchSize) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.fetchSize = fetchSize;
+
+        Gauge.builder("search.suggest.terms", this, service -> service.index != null ? service.index.size() : 0)
+                .description("Distinct values held by the typeahead index")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the completions of a prefix, shortest and alphabetically first.
+     *
+     * @param prefix the typed text; blank yields no completions
+     * @param limit  the maximum number of completions
+     * @return up to {@code limit} completions
+     */
+    public List<AssetSuggestionDto> suggest(String prefix, int limit) {
+        AssetSuggestIndex current = index;
+        if (current == null || prefix == null || prefix.isBlank()) {
+            return List.of();
+        }
+        return current.complete(prefix.strip(), limit).stream()
+                .map(entry -> AssetSuggestionDto.builder()
+                        .text(entry.term().text())
+                        .field(entry.term().field())
+                        .assetCount(entry.assets())
+                        .build())
+                .toList();
+    }
+
+    /**
+     * Loads the index in the background once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        loadExecutor.execute(this::load);
+    }
+
+    /**
+     * Loads the index from the read view.
+     * <p>
+     * Changes committed while loading are re-read into the new index
+     * afterwards.
+     * </p>
+     */
+    public void load() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringLoad = changed;
+        try {
+            long start = System.nanoTime();
+            AssetSuggestIndex fresh = new AssetSuggestIndex();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(SELECT_SQL);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> put(fresh, rs)));
+
+            index = fresh;
+            changedDuringLoad = null;
+            reload(fresh, changed);
+
+            log.info("Suggest index loaded: {} values in {} ms", fresh.size(),
+                    (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            changedDuringLoad = null;
+            log.error("Loading the suggest index failed; no completions are offered", e);
+        }
+    }
+
+    /**
+     * Schedules a single-asset change for re-reading once its transaction has
+     * committed.
+     *
+     * @param event the change event published by {@link AssetService}
+     */
+    @EventListener
+    public void onAssetChanged(AssetChangedEvent event) {
+        Long id = (event.after() != null) ? event.after().id() : event.before().id();
+        TransactionBatches.afterCommit(this, List.of(id), this::changed);
+    }
+
+    /**
+     * Schedules the assets of a bulk update for re-reading once its
+     * transaction has committed.
+     *
+     * @param event the bulk change event published by {@link AssetBulkService}
+     */
+    @EventListener
+    public void onAssetsBulkChanged(AssetsBulkChangedEvent event) {
+        TransactionBatches.afterCommit(this, event.assetIds(), this::changed);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loadExecutor.shutdownNow();
+    }
+
+    private void changed(Collection<Long> ids) {
+        Set<Long> changed = changedDuringLoad;
+        if (changed != null) {
+            changed.addAll(ids);
+        }
+        AssetSuggestIndex current = index;
+        if (current != null) {
+            reload(current, ids);
+        }
+    }
+
+    private void reload(AssetSuggestIndex target, Collection<Long> ids) {
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, pending.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(RELOAD_SQL.formatted(placeholders), (RowCallbackHandler) rs -> {
+                missing.remove(rs.getLong("id"));
+                put(target, rs);
+            }, chunk.toArray());
+            // Deleted or disposed
+            missing.forEach(target::remove);
+        }
+    }
+
+    private static void put(AssetSuggestIndex target, ResultSet rs) throws SQLException {
+        List<AssetSuggestIndex.Term> terms = new ArrayList<>(3);
+        terms.add(new AssetSuggestIndex.Term(rs.getString("name"), Field.NAME));
+        String serialNumber = rs.getString("serial_number");
+        if (serialNumber != null) {
+            terms.add(new AssetSuggestIndex.Term(serialNumber, Field.SERIAL_NUMBER));
+        }
+        String licenseKey = rs.getString("license_key");
+        if (licenseKey != null) {
+            terms.add(new AssetSuggestIndex.Term(licenseKey, Field.LICENSE_KEY));
+        }
+        String username = rs.getString("username");
+        if (username != null) {
+            terms.add(new AssetSuggestIndex.Term(username, Field.USERNAME));
+        }
+        target.put(rs.getLong("id"), terms);
+    }
+}
@@ -0,0 +1,317 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory trigram inverted index over the asset search text.
+ * <p>
+ * Documents are addressed by asset ID, which doubles as the bit position in
+ * all bitmaps. For every trigram of a search text the index keeps a posting
+ * list of asset IDs in ascending order, stored as delta-encoded varints (one or
+ * two bytes per entry for dense sequence IDs). A substring query intersects
+ * the postings of its trigrams as bitmaps and then verifies the remaining
+ * candidates against the stored texts, so results are exact.
+ * </p>
+ * <p>
+ * Updates never remove postings: an asset whose text changed may still appear
+ * under its old trigrams, which verification filters out. Such stale entries
+ * are dropped when the index is rebuilt.
+ * </p>
+ * <p>
+ * Thread-safe: queries share a read lock, updates take the write lock.
+ * </p>
+ */
+final class AssetTrigramIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, PostingList> postings = new HashMap<>();
+    private final Map<AssetStatus, BitSet> byStatus = new EnumMap<>(AssetStatus.class);
+    private final Map<AssetType, BitSet> byType = new EnumMap<>(AssetType.class);
+    private final BitSet live = new BitSet();
+    private String[] texts = new String[1024];
+    private AssetStatus[] statuses = new AssetStatus[1024];
+
+    AssetTrigramIndex() {
+        for (AssetStatus status : AssetStatus.values()) {
+            byStatus.put(status, new BitSet());
+        }
+        for (AssetType type : AssetType.values()) {
+            byType.put(type, new BitSet());
+        }
+    }
+
+    /**
+     * A page of matching asset IDs.
+     *
+     * @param ids   the IDs on the requested page, in result order
+     * @param total the total number of matches
+     */
+    record Result(List<Long> ids, long total) {
+    }
+
+    /**
+     * Adds or replaces an asset. Disposed assets are removed instead.
+     *
+     * @param id         the asset ID
+     * @param type       the asset type
+     * @param status     the asset status
+     * @param searchText the lower-cased search text
+     */
+    void put(int id, AssetType type, AssetStatus status, String searchText) {
+        if (status == AssetStatus.DISPOSED) {
+            remove(id);
+            return;
+        }
+        String text = (searchText != null) ? searchText : "";
+        lock.writeLock().lock();
+        try {
+            ensureCapacity(id);
+            if (statuses[id] != null) {
+                byStatus.get(statuses[id]).clear(id);
+            }
+            if (!text.equals(texts[id])) {
+                for (int i = 0; i + 3 <= text.length(); i++) {
+                    postings.computeIfAbsent(trigram(text, i), key -> new PostingList()).add(id);
+                }
+            }
+            texts[id] = text;
+            statuses[id] = status;
+            byStatus.get(status).set(id);
+            byType.get(type).set(id);
+            live.set(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes an asset, if present.
+     *
+     * @param id the asset ID
+     */
+    void remove(int id) {
+        lock.writeLock().lock();
+        try {
+            if (id < texts.length && live.get(id)) {
+                byStatus.get(statuses[id]).clear(id);
+                byType.values().forEach(ids -> ids.clear(id));
+                live.clear(id);
+                texts[id] = null;
+                statuses[id] = null;
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Finds the assets whose search text contains the query, in ID order.
+     *
+     * @param query      the lower-cased substring to look for; null or empty
+     *                   matches every asset
+     * @param status     the status to restrict to, or null for any
+     * @param type       the type to restrict to, or null for any
+     * @param descending true for descending ID order
+     * @param offset     the number of matches to skip
+     * @param limit      the maximum number of IDs to return
+     * @return the requested page of IDs and the total number of matches
+     */
+    Result search(String query, AssetStatus status, AssetType type, boolean descending, long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            BitSet matches = (status != null) ? (BitSet) byStatus.get(status).clone() : (BitSet) live.clone();
+            if (type != null) {
+                matches.and(byType.get(type));
+            }
+            if (query != null && !query.isEmpty()) {
+                if (query.length() >= 3) {
+                    intersectPostings(query, matches);
+                }
+                for (int id = matches.nextSetBit(0); id >= 0; id = matches.nextSetBit(id + 1)) {
+                    if (!texts[id].contains(query)) {
+                        matches.clear(id);
+                    }
+                }
+            }
+            return page(matches, descending, offset, limit);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Releases the spare capacity of all posting lists, e.g. after a bulk load.
+     */
+    void trimToSize() {
+        lock.writeLock().lock();
+        try {
+            postings.values().forEach(PostingList::trimToSize);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the number of indexed assets.
+     *
+     * @return the document count
+     */
+    int size() {
+        lock.readLock().lock();
+        try {
+            return live.cardinality();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the memory used by the posting lists.
+     *
+     * @return the allocated posting bytes
+     */
+    long postingBytes() {
+        lock.readLock().lock();
+        try {
+            long bytes = 0;
+            for (PostingList list : postings.values()) {
+                bytes += list.data.length;
+            }
+            return bytes;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void intersectPostings(String query, BitSet matches) {
+        List<PostingList> lists = new ArrayList<>();
+        for (int i = 0; i + 3 <= query.length(); i++) {
+            PostingList list = postings.get(trigram(query, i));
+            if (list == null) {
+                matches.clear();
+                return;
+            }
+            lists.add(list);
+        }
+        // Smallest first: the candidate set shrinks fastest
+        lists.sort(Comparator.comparingInt(list -> list.count));
+        BitSet scratch = new BitSet();
+        for (PostingList list : lists) {
+            scratch.clear();
+            list.decodeInto(scratch);
+            matches.and(scratch);
+            if (matches.isEmpty()) {
+                return;
+            }
+        }
+    }
+
+    private static Result page(BitSet matches, boolean descending, long offset, int limit) {
+        List<Long> ids = new ArrayList<>(Math.min(limit, 256));
+        long skipped = 0;
+        int id = descending ? matches.previousSetBit(matches.length() - 1) : matches.nextSetBit(0);
+        while (id >= 0 && ids.size() < limit) {
+            if (skipped < offset) {
+                skipped++;
+            } else {
+                ids.add((long) id);
+            }
+            id = descending ? matches.previousSetBit(id - 1) : matches.nextSetBit(id + 1);
+        }
+        return new Result(ids, matches.cardinality());
+    }
+
+    private void ensureCapacity(int id) {
+        if (id >= texts.length) {
+            int capacity = Math.max(id + 1, texts.length + (texts.length >> 1));
+            texts = Arrays.copyOf(texts, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+        }
+    }
+
+    private static long trigram(String text, int start) {
+        return ((long) text.charAt(start) << 32) | ((long) text.charAt(start + 1) << 16) | text.charAt(start + 2);
+    }
+
+    /**
+     * Ascending asset IDs, stored as varint-encoded gaps.
+     */
+    private static final class PostingList {
+        private byte[] data = new byte[4];
+        private int size;
+        private int count;
+        private int last = -1;
+
+        void add(int id) {
+            if (id > last) {
+                append(id - last);
+                last = id;
+                count++;
+            } else if (id < last) {
+                insert(id);
+            }
+        }
+
+        void trimToSize() {
+            data = Arrays.copyOf(data, size);
+        }
+
+        void decodeInto(BitSet target) {
+            int value = -1;
+            int pos = 0;
+            while (pos < size) {
+                int gap = 0;
+                int shift = 0;
+                byte b;
+                do {
+                    b = data[pos++];
+                    gap |= (b & 0x7F) << shift;
+                    shift += 7;
+                } while (b < 0);
+                value += gap;
+                target.set(value);
+            }
+        }
+
+        private void insert(int id) {
+            // Out of order (an older asset gained this trigram): rare, so re-encode
+            BitSet ids = new BitSet();
+            decodeInto(ids);
+            if (ids.get(id)) {
+                return;
+            }
+            ids.set(id);
+            size = 0;
+            count = 0;
+            last = -1;
+            for (int value = ids.nextSetBit(0); value >= 0; value = ids.nextSetBit(value + 1)) {
+                append(value - last);
+                last = value;
+                count++;
+            }
+        }
+
+        private void append(int gap) {
+            if (size + 5 > data.length) {
+                data = Arrays.copyOf(data, Math.max(size + 5, data.length + (data.length >> 1)));
+            }
+            while ((gap & ~0x7F) != 0) {
+                data[size++] = (byte) ((gap & 0x7F) | 0x80);
+                gap >>>= 7;
+            }
+            data[size++] = (byte) gap;
+        }
+    }
+}
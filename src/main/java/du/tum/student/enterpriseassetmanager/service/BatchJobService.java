@@ -0,0 +1,246 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.BatchHardwareRequest;
+import du.tum.student.enterpriseassetmanager.controller.dto.BatchJobDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.BatchSoftwareRequest;
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Runs batch asset creation as asynchronous jobs.
+ * <p>
+ * Each job runs on its own virtual thread, but only
+ * {@code application.batch-jobs.max-concurrent} jobs create assets at the same
+ * time; the others wait (as {@code QUEUED}) for a permit. A running job
+ * commits in chunks of {@code application.batch-jobs.chunk-size} assets, so it
+ * holds a database connection only for one chunk at a time and leaves the rest
+ * of the pool to interactive requests. Progress is published after every
+ * chunk.
+ * </p>
+ * <p>
+ * Unlike the synchronous endpoints, a failing job keeps the chunks committed
+ * before the failure; the job status reports how many assets were created.
+ * Finished jobs are kept for {@code application.batch-jobs.retention}.
+ * </p>
+ */
+@Slf4j
+@Service
+public class BatchJobService {
+
+    /**
+     * Builds the unsaved assets for the 1-based positions {@code from..to} of a
+     * batch.
+     */
+    @FunctionalInterface
+    private interface ChunkBuilder {
+        List<? extends Asset> build(int from, int to);
+    }
+
+    private final AssetService assetService;
+    private final TransactionTemplate transactionTemplate;
+    private final Semaphore permits;
+    private final int chunkSize;
+    private final Duration retention;
+
+    private final Map<UUID, BatchJob> jobs = new ConcurrentHashMap<>();
+    private final ExecutorService jobExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("batch-job-", 0).factory());
+
+    /**
+     * Creates the batch job service.
+     *
+     * @param assetService        builds and persists the assets
+     * @param transactionTemplate wraps each chunk in a transaction
+     * @param maxConcurrent       the maximum number of jobs creating assets at
+     *                            the same time
+     * @param chunkSize           the number of assets per transaction
+     * @param retention           how long finished jobs stay queryable
+     */
+    public BatchJobService(AssetService assetService,
+            TransactionTemplate transactionTemplate,
+            @Value("${application.batch-jobs.max-concurrent:2}") int maxConcurrent,
+            @Value("${application.batch-jobs.chunk-size:500}") int chunkSize,
+            @Value("${application.batch-jobs.retention:PT1H}") Duration retention) {
+        this.assetService = assetService;
+        this.transactionTemplate = transactionTemplate;
+        this.permits = new Semaphore(maxConcurrent, true);
+        this.chunkSize = chunkSize;
+        this.retention = retention;
+    }
+
+    /**
+     * Starts a job that creates a hardware batch.
+     *
+     * @param request the batch request
+     * @return the state of the new job
+     */
+    public BatchJobDto submitHardware(BatchHardwareRequest request) {
+        return submit(AssetType.HARDWARE, quantityOf(request.getQuantity()),
+                (from, to) -> assetService.buildBatchHardware(request, from, to));
+    }
+
+    /**
+     * Starts a job that creates a software batch.
+     *
+     * @param request the batch request
+     * @return the state of the new job
+     */
+    public BatchJobDto submitSoftware(BatchSoftwareRequest request) {
+        return submit(AssetType.SOFTWARE, quantityOf(request.getQuantity()),
+                (from, to) -> assetService.buildBatchSoftware(request, to - from + 1));
+    }
+
+    /**
+     * Returns the current state of a job.
+     *
+     * @param id the job ID
+     * @return the job state, or empty if unknown or expired
+     */
+    public Optional<BatchJobDto> getJob(UUID id) {
+        return Optional.ofNullable(jobs.get(id)).map(BatchJob::toDto);
+    }
+
+    /**
+     * Removes finished jobs older than the retention period.
+     */
+    @Scheduled(fixedDelayString = "${application.batch-jobs.retention:PT1H}")
+    public void evictFinishedJobs() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(retention);
+        jobs.values().removeIf(job -> job.finishedAt != null && job.finishedAt.isBefore(cutoff));
+    }
+
+    private BatchJobDto submit(AssetType type, int quantity, ChunkBuilder builder) {
+        BatchJob job = new BatchJob(UUID.randomUUID(), type, quantity);
+        jobs.put(job.id, job);
+        // Propagate the caller's security context so auditing records the submitter
+        jobExecutor.execute(new DelegatingSecurityContextRunnable(() -> run(job, builder)));
+        return job.toDto();
+    }
+
+    private void run(BatchJob job, ChunkBuilder builder) {
+        try {
+            permits.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.fail("Interrupted while queued");
+            return;
+        }
+
+        try {
+            job.start();
+            for (int from = 1; from <= job.quantity; from += chunkSize) {
+                int to = Math.min(from + chunkSize - 1, job.quantity);
+                List<? extends Asset> chunk = builder.build(from, to);
+                transactionTemplate.executeWithoutResult(status -> assetService.createAssets(chunk));
+                job.created.addAndGet(chunk.size());
+            }
+            job.succeed();
+        } catch (RuntimeException e) {
+            log.warn("Batch job {} failed after {} assets", job.id, job.created.get(), e);
+            job.fail(NestedExceptionUtils.getMostSpecificCause(e).getMessage());
+        } finally {
+            permits.release();
+        }
+    }
+
+    private static int quantityOf(Integer quantity) {
+        return quantity != null ? Math.max(0, quantity) : 0;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        jobExecutor.shutdownNow();
+    }
+
+    /**
+     * Mutable state of one job, written by its worker thread and read by status
+     * requests.
+     */
+    private static final class BatchJob {
+        private final UUID id;
+        private final AssetType type;
+        private final int quantity;
+        private final LocalDateTime submittedAt = LocalDateTime.now();
+        private final AtomicLong created = new AtomicLong();
+
+        private volatile BatchJobDto.Status status = BatchJobDto.Status.QUEUED;
+        private volatile LocalDateTime startedAt;
+        private volatile long startedNanos;
+        private volatile LocalDateTime finishedAt;
+        private volatile long finishedNanos;
+        private volatile String error;
+
+        BatchJob(UUID id, AssetType type, int quantity) {
+            this.id = id;
+            this.type = type;
+            this.quantity = quantity;
+        }
+
+        void start() {
+            startedNanos = System.nanoTime();
+            startedAt = LocalDateTime.now();
+            status = BatchJobDto.Status.RUNNING;
+        }
+
+        void succeed() {
+            finish(BatchJobDto.Status.SUCCEEDED);
+        }
+
+        void fail(String reason) {
+            error = reason;
+            finish(BatchJobDto.Status.FAILED);
+        }
+
+        private void finish(BatchJobDto.Status finalStatus) {
+            finishedNanos = System.nanoTime();
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        BatchJobDto toDto() {
+            // Read the status first: the fields it depends on are written before it
+            BatchJobDto.Status current = status;
+            long createdAssets = created.get();
+
+            double assetsPerSecond = 0;
+            if (current != BatchJobDto.Status.QUEUED && startedAt != null) {
+                long end = current == BatchJobDto.Status.RUNNING ? System.nanoTime() : finishedNanos;
+                double seconds = (end - startedNanos) / 1e9;
+                assetsPerSecond = seconds > 0 ? createdAssets / seconds : 0;
+            }
+
+            return BatchJobDto.builder()
+                    .id(id)
+                    .type(type)
+                    .status(current)
+                    .quantity(quantity)
+                    .createdAssets(createdAssets)
+                    .assetsPerSecond(assetsPerSecond)
+                    .submittedAt(submittedAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Maintains the persisted {@link Asset#getCurrentBookValue() current book
+ * value} of assets.
+ * <p>
+ * {@link AssetService} calls {@link #apply(Asset)} before every save, so a
+ * written asset always carries a value as of today. Because depreciation
+ * advances with the calendar, a scheduled job additionally refreshes every
+ * asset whose value was computed for an earlier date (and backfills assets
+ * that have none yet, once at startup).
+ * </p>
+ * <p>
+ * The refresh reads stale assets in chunks and handles each chunk in its own
+ * transaction. Only assets whose value actually changed are written, with one
+ * batched {@code UPDATE} of the two book-value columns, and only their rows
+ * of the read view are rebuilt; the cached search results and counts are
+ * dropped once such a chunk has committed. Assets whose value is unchanged
+ * (fully depreciated ones, for example) merely get their date advanced in the
+ * asset table and the read view by one set-based statement, so they are not
+ * read again until the next day. Neither write bumps the audit fields or
+ * publishes asset change events.
+ * </p>
+ * <p>
+ * Values are computed outside the write transaction, so both writes skip
+ * assets that are no longer stale: an asset saved through
+ * {@link AssetService} in the meantime already carries today's value, which
+ * must not be overwritten by one computed from its previous state.
+ * </p>
+ */
+@Slf4j
+@Component
+public class BookValueMaintainer {
+
+    // Both guarded, so a value written by AssetService since the chunk was read is kept
+    private static final String UPDATE_SQL = """
+            UPDATE asset SET current_book_value = ?, book_value_as_of = ?
+            WHERE id = ? AND (book_value_as_of IS NULL OR book_value_as_of < ?)
+            """;
+    private static final String ADVANCE_SQL = """
+            WITH advanced AS (
+                UPDATE asset SET book_value_as_of = ?
+                WHERE id IN (%s) AND (book_value_as_of IS NULL OR book_value_as_of < ?)
+                RETURNING id)
+            UPDATE asset_read_view v SET book_value_as_of = ? FROM advanced WHERE v.id = advanced.id
+            """;
+
+    private final ChunkedAssetReader chunkedAssetReader;
+    private final DepreciationCalculator depreciationCalculator;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final AssetReadViewMaintainer readViewMaintainer;
+    private final AssetSearchCache searchCache;
+    private final AssetCountEstimator countEstimator;
+    private final Clock clock;
+    private final int chunkSize;
+
+    /**
+     * Creates the book value maintainer.
+     *
+     * @param chunkedAssetReader     reads stale assets chunk by chunk
+     * @param depreciationCalculator computes the current values
+     * @param jdbcTemplate           executes the batched updates
+     * @param transactionTemplate    wraps each chunk in a transaction
+     * @param readViewMaintainer     rebuilds the read view rows of each chunk
+     * @param searchCache            the search results invalidated by each chunk
+     * @param countEstimator         the cached counts invalidated by each chunk
+     * @param clock                  determines today's date
+     * @param chunkSize              the number of assets per chunk
+     */
+    public BookValueMaintainer(ChunkedAssetReader chunkedAssetReader,
+            DepreciationCalculator depreciationCalculator,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            AssetReadViewMaintainer readViewMaintainer,
+            AssetSearchCache searchCache,
+            AssetCountEstimator countEstimator,
+            Clock clock,
+            @Value("${application.valuation.chunk-size:1000}") int chunkSize) {
+        this.chunkedAssetReader = chunkedAssetReader;
+        this.depreciationCalculator = depreciationCalculator;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.readViewMaintainer = readViewMaintainer;
+        this.searchCache = searchCache;
+        this.countEstimator = countEstimator;
+        this.clock = clock;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Recomputes the book value of the given asset as of today.
+     * <p>
+     * Only the entity is updated; the caller is responsible for saving it.
+     * </p>
+     *
+     * @param asset the asset to update
+     */
+    public void apply(Asset asset) {
+        LocalDate today = LocalDate.now(clock);
+        asset.setCurrentBookValue(depreciationCalculator.calculateValueAsOf(asset, today));
+        asset.setBookValueAsOf(today);
+    }
+
+    /**
+     * Backfills missing book values once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        refreshStale();
+    }
+
+    /**
+     * Refreshes every asset whose book value is not current for today.
+     *
+     * @return the number of assets whose book value changed
+     */
+    @Scheduled(cron = "${application.book-value.refresh-cron:0 5 0 * * *}")
+    public long refreshStale() {
+        LocalDate today = LocalDate.now(clock);
+        Date asOf = Date.valueOf(today);
+        long[] updated = { 0 };
+        long[] advanced = { 0 };
+
+        try {
+            chunkedAssetReader.forEachChunk(AssetSpecification.bookValueStale(today), chunkSize, chunk -> {
+                List<Object[]> rows = new ArrayList<>();
+                List<Long> changedIds = new ArrayList<>();
+                List<Long> unchangedIds = new ArrayList<>();
+                for (Asset asset : chunk) {
+                    BigDecimal value = depreciationCalculator.calculateValueAsOf(asset, today);
+                    if (asset.getCurrentBookValue() != null && asset.getCurrentBookValue().compareTo(value) == 0) {
+                        unchangedIds.add(asset.getId());
+                    } else {
+                        rows.add(new Object[] { value, asOf, asset.getId(), asOf });
+                        changedIds.add(asset.getId());
+                    }
+                }
+                int[] written = transactionTemplate.execute(status -> {
+                    int changed = 0;
+                    if (!rows.isEmpty()) {
+                        int[] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, rows);
+                        List<Long> writtenIds = new ArrayList<>(changedIds.size());
+                        for (int i = 0; i < counts.length; i++) {
+                            if (counts[i] != 0) {
+                                writtenIds.add(changedIds.get(i));
+                            }
+                        }
+                        readViewMaintainer.refresh(writtenIds);
+                        changed = writtenIds.size();
+                    }
+                    int unchanged = unchangedIds.isEmpty() ? 0 : advance(unchangedIds, asOf);
+                    return new int[] { changed, unchanged };
+                });
+                if (written[0] > 0) {
+                    // Cached results may filter, sort or show the old book values
+                    searchCache.invalidate();
+                    countEstimator.invalidate();
+                }
+                updated[0] += written[0];
+                advanced[0] += written[1];
+            });
+        } catch (RuntimeException e) {
+            // Chunks already written stay committed; the next run picks up the rest
+            log.warn("Book value refresh failed after {} assets", updated[0] + advanced[0], e);
+        }
+
+        if (updated[0] + advanced[0] > 0) {
+            log.info("Refreshed book values as of {}: {} changed, {} unchanged", today, updated[0], advanced[0]);
+        }
+        return updated[0];
+    }
+
+    private int advance(List<Long> ids, Date asOf) {
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> args = new ArrayList<>(ids.size() + 3);
+        args.add(asOf);
+        args.addAll(ids);
+        args.add(asOf);
+        args.add(asOf);
+        return jdbcTemplate.update(ADVANCE_SQL.formatted(placeholders), args.toArray());
+    }
+}
@@ -0,0 +1,89 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.repository.AssetRepository;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+
+/**
+ * Reads large sets of assets in fixed-size chunks ordered by ID.
+ * <p>
+ * Chunks are fetched with keyset pagination ({@code id > lastId}), so each
+ * query costs the same regardless of how far the iteration has progressed.
+ * The next chunk is prefetched on a background thread while the caller
+ * processes the current one. Every fetch runs outside the caller's
+ * persistence context, so at most two chunks of detached entities are held in
+ * memory at any time.
+ * </p>
+ */
+@Component
+@RequiredArgsConstructor
+public class ChunkedAssetReader {
+
+    private final AssetRepository assetRepository;
+
+    private final ExecutorService prefetchExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("asset-prefetch-", 0).factory());
+
+    /**
+     * Passes all assets matching the specification to the consumer, one chunk at
+     * a time.
+     *
+     * @param spec      the filter to apply
+     * @param chunkSize the maximum number of assets per chunk
+     * @param consumer  receives each non-empty chunk in ID order
+     */
+    public void forEachChunk(Specification<Asset> spec, int chunkSize, Consumer<List<Asset>> consumer) {
+        CompletableFuture<List<Asset>> next = fetchAsync(spec, null, chunkSize);
+        while (true) {
+            List<Asset> chunk = join(next);
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            // Prefetch the following chunk before handing this one out
+            next = chunk.size() < chunkSize
+                    ? CompletableFuture.completedFuture(List.of())
+                    : fetchAsync(spec, chunk.getLast().getId(), chunkSize);
+
+            consumer.accept(chunk);
+        }
+    }
+
+    private CompletableFuture<List<Asset>> fetchAsync(Specification<Asset> spec, Long lastId, int chunkSize) {
+        Specification<Asset> page = spec.and(AssetSpecification.idGreaterThan(lastId));
+        return CompletableFuture.supplyAsync(
+                () -> assetRepository.findBy(page, query -> query
+                        .sortBy(Sort.by("id"))
+                        .limit(chunkSize)
+                        .all()),
+                prefetchExecutor);
+    }
+
+    private static List<Asset> join(CompletableFuture<List<Asset>> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        prefetchExecutor.shutdownNow();
+    }
+}
@@ -0,0 +1,36 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import java.util.Locale;
+
+/**
+ * How paginated asset listings determine their total count.
+ */
+public enum CountMode {
+    /**
+     * Runs a {@code count(*)} query with the same filters (the default).
+     */
+    EXACT,
+
+    /**
+     * Returns a slice: the page content and whether more follows, without a
+     * total.
+     */
+    NONE,
+
+    /**
+     * Returns a page whose total is estimated without counting the filtered
+     * rows (see {@link AssetCountEstimator}).
+     */
+    ESTIMATED;
+
+    /**
+     * Parses a request parameter, ignoring case.
+     *
+     * @param value the parameter value, e.g. "exact"
+     * @return the matching mode
+     * @throws IllegalArgumentException if the value names no mode
+     */
+    public static CountMode fromParameter(String value) {
+        return valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+}
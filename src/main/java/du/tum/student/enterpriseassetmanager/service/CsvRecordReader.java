@@ -0,0 +1,97 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Minimal streaming CSV reader (RFC 4180).
+ * <p>
+ * Reads one record at a time from the underlying reader, so memory use is
+ * bounded by the longest record. Supports comma separators, double-quoted
+ * fields with embedded commas, line breaks and {@code ""} escapes, and both
+ * LF and CRLF line endings.
+ * </p>
+ */
+class CsvRecordReader {
+
+    private final Reader reader;
+    private int lookahead = -2;
+
+    /**
+     * Creates a reader over the given character stream.
+     *
+     * @param reader the source; should be buffered
+     */
+    CsvRecordReader(Reader reader) {
+        this.reader = reader;
+    }
+
+    /**
+     * Reads the next record.
+     *
+     * @return the fields of the record, or null at the end of the input
+     * @throws IOException if reading fails
+     */
+    List<String> next() throws IOException {
+        int c = read();
+        if (c == -1) {
+            return null;
+        }
+
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        while (true) {
+            if (quoted) {
+                if (c == -1) {
+                    throw new IOException("Unterminated quoted field");
+                }
+                if (c == '"') {
+                    if (peek() == '"') {
+                        read();
+                        field.append('"');
+                    } else {
+                        quoted = false;
+                    }
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"' && field.isEmpty()) {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == -1) {
+                break;
+            } else if (c == '\r') {
+                if (peek() == '\n') {
+                    read();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+            c = read();
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (lookahead != -2) {
+            int c = lookahead;
+            lookahead = -2;
+            return c;
+        }
+        return reader.read();
+    }
+
+    private int peek() throws IOException {
+        if (lookahead == -2) {
+            lookahead = reader.read();
+        }
+        return lookahead;
+    }
+}
@@ -0,0 +1,96 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.DashboardStatsDto;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Caching layer in front of the dashboard queries of {@link AssetService}.
+ * <p>
+ * Both the statistics and the recent-assets list are held as
+ * {@link RefreshingSnapshot}s: requests are answered from memory, and
+ * expired values as well as values invalidated by a committed asset write are
+ * refreshed in the background, so requests never wait for the queries once
+ * the first value has been loaded.
+ * </p>
+ */
+@Service
+public class DashboardService {
+
+    private final ExecutorService refreshExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("dashboard-refresh-", 0).factory());
+
+    private final RefreshingSnapshot<DashboardStatsDto> stats;
+    private final RefreshingSnapshot<List<AssetSummaryDto>> recentAssets;
+
+    /**
+     * Creates the dashboard cache.
+     *
+     * @param assetService  the service computing the underlying values
+     * @param meterRegistry the registry for cache metrics
+     * @param ttl           how long a cached value counts as fresh
+     */
+    public DashboardService(AssetService assetService, MeterRegistry meterRegistry,
+            @Value("${application.dashboard.cache-ttl:PT30S}") Duration ttl) {
+        this.stats = new RefreshingSnapshot<>("stats", assetService::getDashboardStats, ttl,
+                refreshExecutor, meterRegistry);
+        this.recentAssets = new RefreshingSnapshot<>("recent", assetService::findRecentAssets, ttl,
+                refreshExecutor, meterRegistry);
+    }
+
+    /**
+     * Returns the cached dashboard statistics.
+     *
+     * @return a {@link DashboardStatsDto}
+     */
+    public DashboardStatsDto getStats() {
+        return stats.get();
+    }
+
+    /**
+     * Returns the cached list of the 5 most recently created assets.
+     *
+     * @return a list of recent assets
+     */
+    public List<AssetSummaryDto> getRecentAssets() {
+        return recentAssets.get();
+    }
+
+    /**
+     * Invalidates both snapshots once an asset write has been committed.
+     *
+     * @param event the change event published by {@link AssetService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        stats.invalidate();
+        recentAssets.invalidate();
+    }
+
+    /**
+     * Invalidates both snapshots once a bulk update has been committed.
+     *
+     * @param event the bulk change event published by {@link AssetBulkService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetsBulkChanged(AssetsBulkChangedEvent event) {
+        stats.invalidate();
+        recentAssets.invalidate();
+    }
+
+    @PreDestroy
+    void shutdown() {
+        refreshExecutor.shutdownNow();
+    }
+}
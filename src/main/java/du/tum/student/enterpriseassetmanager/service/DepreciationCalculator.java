@@ -3,6 +3,7 @@ package du.tum.student.enterpriseassetmanager.service;
 import du.tum.student.enterpriseassetmanager.domain.Asset;
 
 import java.math.BigDecimal;
+import java.time.LocalDate;
 
 /**
  * Interface for calculating asset depreciation.
@@ -19,4 +20,31 @@ public interface DepreciationCalculator {
      * @return The calculated current value as {@link BigDecimal}.
      */
     BigDecimal calculateCurrentValue(Asset asset);
+
+    /**
+     * Calculates the value of the asset after the given number of complete years
+     * of use.
+     * <p>
+     * Used by schedule projections, which need the value at every anniversary
+     * rather than only today.
+     * </p>
+     *
+     * @param asset     The asset for which the value is calculated.
+     * @param yearsUsed The number of complete years since the purchase date.
+     * @return The calculated value as {@link BigDecimal}.
+     */
+    BigDecimal calculateValueAfterYears(Asset asset, long yearsUsed);
+
+    /**
+     * Calculates the value of the asset as of the given date.
+     * <p>
+     * {@link #calculateCurrentValue(Asset)} is this method for today's date; the
+     * explicit date allows point-in-time valuations without changing the clock.
+     * </p>
+     *
+     * @param asset The asset for which the value is calculated.
+     * @param asOf  The date the value is calculated for.
+     * @return The calculated value as {@link BigDecimal}.
+     */
+    BigDecimal calculateValueAsOf(Asset asset, LocalDate asOf);
 }
@@ -0,0 +1,140 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cache of precomputed per-year depreciation factors.
+ * <p>
+ * A factor table holds, for every year {@code y} of the useful life, the
+ * fraction of the depreciable amount (price - residual) that is still left
+ * after {@code y} years. Valuing an asset is then a lookup and a multiply:
+ * {@code value = residual + (price - residual) * factor[y]}.
+ * </p>
+ * <p>
+ * Tables are keyed by (method, useful life, residual ratio). The residual
+ * ratio ({@code residual / price}) is quantized to 4 decimals and only matters
+ * for declining balance, whose switch to straight-line depends on it; for
+ * sum-of-the-years'-digits it is normalized to 0 so all assets with the same
+ * life share one table.
+ * </p>
+ */
+@Component
+public class DepreciationFactorTables {
+
+    /**
+     * Scale of the stored factors.
+     */
+    private static final int FACTOR_SCALE = 12;
+
+    /**
+     * Scale of the quantized residual ratio used in the cache key.
+     */
+    private static final int RATIO_SCALE = 4;
+
+    private record Key(DepreciationMethod method, int usefulLifeYears, BigDecimal residualRatio) {
+    }
+
+    private final Map<Key, BigDecimal[]> tables = new ConcurrentHashMap<>();
+
+    /**
+     * Returns the remaining-value factor after the given number of years.
+     *
+     * @param method          the depreciation method (not straight-line)
+     * @param usefulLifeYears the useful life in years (at least 1)
+     * @param price           the purchase price
+     * @param residual        the residual value
+     * @param yearsUsed       complete years since purchase (clamped to
+     *                        {@code [0, usefulLifeYears]})
+     * @return the fraction of the depreciable amount still left
+     */
+    public BigDecimal factor(DepreciationMethod method, int usefulLifeYears, BigDecimal price, BigDecimal residual,
+            long yearsUsed) {
+        BigDecimal ratio = method == DepreciationMethod.DECLINING_BALANCE && price.signum() > 0
+                ? residual.divide(price, RATIO_SCALE, RoundingMode.HALF_UP)
+                : BigDecimal.ZERO.setScale(RATIO_SCALE);
+        BigDecimal[] table = tables.computeIfAbsent(new Key(method, usefulLifeYears, ratio),
+                DepreciationFactorTables::compute);
+
+        int year = (int) Math.max(0, Math.min(yearsUsed, usefulLifeYears));
+        return table[year];
+    }
+
+    /**
+     * Returns the number of cached tables.
+     *
+     * @return the cache size
+     */
+    public int size() {
+        return tables.size();
+    }
+
+    private static BigDecimal[] compute(Key key) {
+        return switch (key.method()) {
+            case SUM_OF_YEARS_DIGITS -> sumOfYearsDigits(key.usefulLifeYears());
+            case DECLINING_BALANCE -> decliningBalance(key.usefulLifeYears(), key.residualRatio());
+            case STRAIGHT_LINE -> straightLine(key.usefulLifeYears());
+        };
+    }
+
+    /**
+     * Remaining fraction after y years: (n - y)(n - y + 1) / (n(n + 1)).
+     */
+    private static BigDecimal[] sumOfYearsDigits(int n) {
+        BigDecimal[] table = new BigDecimal[n + 1];
+        BigDecimal denominator = BigDecimal.valueOf((long) n * (n + 1));
+        for (int y = 0; y <= n; y++) {
+            long remaining = (long) (n - y) * (n - y + 1);
+            table[y] = BigDecimal.valueOf(remaining).divide(denominator, FACTOR_SCALE, RoundingMode.HALF_UP);
+        }
+        return table;
+    }
+
+    /**
+     * Double-declining balance on a normalized price of 1 with residual
+     * {@code ratio}, switching to straight-line over the remaining life when
+     * that charge is larger.
+     */
+    private static BigDecimal[] decliningBalance(int n, BigDecimal ratio) {
+        BigDecimal[] table = new BigDecimal[n + 1];
+        MathContext mc = MathContext.DECIMAL64;
+        BigDecimal depreciable = BigDecimal.ONE.subtract(ratio);
+        if (depreciable.signum() <= 0) {
+            // Nothing to depreciate: keep the full value until the end of life
+            for (int y = 0; y < n; y++) {
+                table[y] = BigDecimal.ONE;
+            }
+            table[n] = BigDecimal.ZERO;
+            return table;
+        }
+
+        BigDecimal rate = BigDecimal.valueOf(2).divide(BigDecimal.valueOf(n), mc);
+        BigDecimal value = BigDecimal.ONE;
+        table[0] = BigDecimal.ONE.setScale(FACTOR_SCALE);
+        for (int y = 1; y <= n; y++) {
+            BigDecimal declining = value.multiply(rate, mc);
+            BigDecimal straight = value.subtract(ratio).divide(BigDecimal.valueOf(n - y + 1), mc);
+            value = value.subtract(declining.max(straight)).max(ratio);
+            table[y] = value.subtract(ratio).divide(depreciable, FACTOR_SCALE, RoundingMode.HALF_UP);
+        }
+        table[n] = BigDecimal.ZERO.setScale(FACTOR_SCALE);
+        return table;
+    }
+
+    /**
+     * Remaining fraction after y years: (n - y) / n.
+     */
+    private static BigDecimal[] straightLine(int n) {
+        BigDecimal[] table = new BigDecimal[n + 1];
+        for (int y = 0; y <= n; y++) {
+            table[y] = BigDecimal.valueOf(n - y).divide(BigDecimal.valueOf(n), FACTOR_SCALE, RoundingMode.HALF_UP);
+        }
+        return table;
+    }
+}
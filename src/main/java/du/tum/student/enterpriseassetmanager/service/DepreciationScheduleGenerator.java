@@ -0,0 +1,142 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.DepreciationScheduleRowDto;
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.function.Consumer;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Generates the book-value curve of assets from purchase date to the end of
+ * their useful life.
+ * <p>
+ * Works alongside {@link DepreciationCalculator}: yearly rows are the values
+ * the calculator returns at each anniversary, so they follow the asset's
+ * depreciation method and rounding exactly. Monthly rows spread each year's
+ * depreciation evenly over its 12 months, so they coincide with the yearly
+ * rows at every anniversary.
+ * </p>
+ * <p>
+ * Rows are produced lazily as a {@link Stream}; nothing is materialized per
+ * asset or per portfolio.
+ * </p>
+ */
+@Component
+public class DepreciationScheduleGenerator {
+
+    /**
+     * Resolution of a depreciation schedule.
+     */
+    public enum Granularity {
+        /**
+         * One row per year of useful life.
+         */
+        YEARLY,
+
+        /**
+         * One row per month of useful life.
+         */
+        MONTHLY
+    }
+
+    private static final BigDecimal MONTHS_PER_YEAR = BigDecimal.valueOf(12);
+
+    private final ChunkedAssetReader chunkedAssetReader;
+    private final DepreciationCalculator depreciationCalculator;
+    private final int chunkSize;
+
+    /**
+     * Creates the schedule generator.
+     *
+     * @param chunkedAssetReader     reads the assets chunk by chunk
+     * @param depreciationCalculator computes the value at each anniversary
+     * @param chunkSize              the number of assets per chunk
+     */
+    public DepreciationScheduleGenerator(ChunkedAssetReader chunkedAssetReader,
+            DepreciationCalculator depreciationCalculator,
+            @Value("${application.valuation.chunk-size:1000}") int chunkSize) {
+        this.chunkedAssetReader = chunkedAssetReader;
+        this.depreciationCalculator = depreciationCalculator;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Generates the schedule of a single asset.
+     *
+     * @param asset       the asset to project
+     * @param granularity yearly or monthly rows
+     * @return a lazy stream of rows, starting with period 0 (the purchase date)
+     */
+    public Stream<DepreciationScheduleRowDto> schedule(Asset asset, Granularity granularity) {
+        if (asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null
+                || asset.getPurchaseDate() == null) {
+            return Stream.empty();
+        }
+
+        int periodsPerYear = granularity == Granularity.MONTHLY ? 12 : 1;
+        int lastPeriod = asset.getUsefulLifeYears() * periodsPerYear;
+
+        BigDecimal price = asset.getPurchasePrice();
+
+        return IntStream.rangeClosed(0, lastPeriod).mapToObj(period -> {
+            BigDecimal bookValue = period == 0 ? price : bookValue(asset, period, periodsPerYear);
+            BigDecimal previous = period <= 1 ? price : bookValue(asset, period - 1, periodsPerYear);
+            LocalDate date = granularity == Granularity.MONTHLY
+                    ? asset.getPurchaseDate().plusMonths(period)
+                    : asset.getPurchaseDate().plusYears(period);
+
+            return DepreciationScheduleRowDto.builder()
+                    .assetId(asset.getId())
+                    .period(period)
+                    .date(date)
+                    .depreciation(previous.subtract(bookValue))
+                    .accumulatedDepreciation(price.subtract(bookValue))
+                    .bookValue(bookValue)
+                    .build();
+        });
+    }
+
+    /**
+     * Generates the schedules of all assets matching the criteria.
+     * <p>
+     * Assets are read in chunks and their rows are passed to {@code rowSink}
+     * asset by asset, in ID order.
+     * </p>
+     *
+     * @param criteria    the filter to apply
+     * @param granularity yearly or monthly rows
+     * @param rowSink     receives every row
+     */
+    public void schedules(AssetSearchCriteria criteria, Granularity granularity,
+            Consumer<DepreciationScheduleRowDto> rowSink) {
+        chunkedAssetReader.forEachChunk(AssetSpecification.matchingReadView(criteria), chunkSize,
+                chunk -> chunk.forEach(asset -> schedule(asset, granularity).forEach(rowSink)));
+    }
+
+    /**
+     * Book value at the end of the given period: the calculator's value at the
+     * last anniversary, minus the elapsed share of the current year's
+     * depreciation.
+     */
+    private BigDecimal bookValue(Asset asset, int period, int periodsPerYear) {
+        int years = period / periodsPerYear;
+        int months = period % periodsPerYear;
+
+        BigDecimal value = depreciationCalculator.calculateValueAfterYears(asset, years);
+        if (months == 0) {
+            return value;
+        }
+        BigDecimal nextValue = depreciationCalculator.calculateValueAfterYears(asset, years + 1);
+        BigDecimal partial = value.subtract(nextValue).multiply(BigDecimal.valueOf(months))
+                .divide(MONTHS_PER_YEAR, 2, RoundingMode.HALF_UP);
+        return value.subtract(partial);
+    }
+}
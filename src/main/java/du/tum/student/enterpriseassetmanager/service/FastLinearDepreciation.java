@@ -0,0 +1,262 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+
+/**
+ * Primitive implementation of the Straight-Line Depreciation method.
+ * <p>
+ * Produces exactly the same results as {@link LinearDepreciation} (including
+ * the 2-decimal HALF_UP rounding of the annual depreciation), but computes on
+ * long minor units (cents) instead of {@link BigDecimal}s. The
+ * {@link DepreciationCalculator} methods still convert the amounts of each
+ * asset and box the result; {@link #valueCentsAsOf} and
+ * {@link #currentValueCents} take cents and packed dates and perform no
+ * allocation at all. {@link PortfolioValuationService} uses them for
+ * totals-only valuations, converting each chunk once and summing longs. The
+ * "as-of" date of {@link #currentValueCents} is cached as a packed month/day
+ * value and only recomputed when the day changes.
+ * </p>
+ * <p>
+ * Enabled with {@code application.depreciation.mode=primitive}. Amounts with
+ * more than two decimal places, or a missing residual value, are delegated to
+ * {@link LinearDepreciation} so that results stay identical.
+ * </p>
+ */
+@Component("straightLineDepreciation")
+@ConditionalOnProperty(name = "application.depreciation.mode", havingValue = "primitive")
+public class FastLinearDepreciation implements DepreciationCalculator {
+
+    /**
+     * The packed "as-of" date and the instant (epoch millis) until which it is
+     * valid.
+     */
+    private record AsOf(long packedDate, long validUntilMillis) {
+    }
+
+    /**
+     * Marker for amounts that cannot be represented exactly in cents.
+     */
+    static final long NOT_CENTS = Long.MIN_VALUE;
+
+    private final Clock clock;
+    private final LinearDepreciation reference;
+    private volatile AsOf asOf = new AsOf(0, Long.MIN_VALUE);
+
+    /**
+     * Creates a calculator that values assets as of the system date.
+     */
+    public FastLinearDepreciation() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a calculator that values assets as of the date of the given clock.
+     *
+     * @param clock the clock providing the current date
+     */
+    @Autowired
+    public FastLinearDepreciation(Clock clock) {
+        this.clock = clock;
+        this.reference = new LinearDepreciation(clock);
+    }
+
+    /**
+     * Calculates the current value based on straight-line depreciation.
+     *
+     * @param asset the asset to evaluate
+     * @return the calculated current value, identical to
+     *         {@link LinearDepreciation#calculateCurrentValue(Asset)}
+     */
+    @Override
+    public BigDecimal calculateCurrentValue(Asset asset) {
+        if (asset == null || asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null)
+            return BigDecimal.ZERO;
+
+        long priceCents = toCents(asset.getPurchasePrice());
+        long residualCents = toCents(asset.getResidualValue());
+        if (priceCents == NOT_CENTS || residualCents == NOT_CENTS) {
+            return reference.calculateCurrentValue(asset);
+        }
+
+        long yearsUsed = yearsBetween(packDate(asset.getPurchaseDate()), currentPackedDate());
+        return valueAfterYears(asset, priceCents, residualCents, yearsUsed);
+    }
+
+    /**
+     * Calculates the straight-line value as of the given date.
+     *
+     * @param asset the asset to evaluate
+     * @param asOf  the date to value the asset at
+     * @return the calculated value, identical to
+     *         {@link LinearDepreciation#calculateValueAsOf(Asset, LocalDate)}
+     */
+    @Override
+    public BigDecimal calculateValueAsOf(Asset asset, LocalDate asOf) {
+        if (asset == null || asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null)
+            return BigDecimal.ZERO;
+
+        long priceCents = toCents(asset.getPurchasePrice());
+        long residualCents = toCents(asset.getResidualValue());
+        if (priceCents == NOT_CENTS || residualCents == NOT_CENTS) {
+            return reference.calculateValueAsOf(asset, asOf);
+        }
+
+        long yearsUsed = yearsBetween(packDate(asset.getPurchaseDate()), packDate(asOf));
+        return valueAfterYears(asset, priceCents, residualCents, yearsUsed);
+    }
+
+    /**
+     * Calculates the straight-line value after the given number of years.
+     *
+     * @param asset     the asset to evaluate
+     * @param yearsUsed the number of complete years since purchase
+     * @return the calculated value, identical to
+     *         {@link LinearDepreciation#calculateValueAfterYears(Asset, long)}
+     */
+    @Override
+    public BigDecimal calculateValueAfterYears(Asset asset, long yearsUsed) {
+        if (asset == null || asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null)
+            return BigDecimal.ZERO;
+
+        long priceCents = toCents(asset.getPurchasePrice());
+        long residualCents = toCents(asset.getResidualValue());
+        if (priceCents == NOT_CENTS || residualCents == NOT_CENTS) {
+            return reference.calculateValueAfterYears(asset, yearsUsed);
+        }
+        return valueAfterYears(asset, priceCents, residualCents, yearsUsed);
+    }
+
+    private static BigDecimal valueAfterYears(Asset asset, long priceCents, long residualCents, long yearsUsed) {
+        int usefulLifeYears = asset.getUsefulLifeYears();
+
+        // Mirror the reference implementation, which returns the residual value
+        // instance itself whenever it wins
+        if (yearsUsed >= usefulLifeYears) {
+            return asset.getResidualValue();
+        }
+        long valueCents = linearValueCents(priceCents, residualCents, usefulLifeYears, yearsUsed);
+        if (valueCents < residualCents) {
+            return asset.getResidualValue();
+        }
+        return BigDecimal.valueOf(valueCents, 2);
+    }
+
+    /**
+     * Calculates the current value in cents as of the cached current date.
+     *
+     * @param priceCents      the purchase price in cents
+     * @param residualCents   the residual value in cents
+     * @param usefulLifeYears the useful life in years (at least 1)
+     * @param purchasePacked  the purchase date, see {@link #packDate(LocalDate)}
+     * @return the current value in cents
+     */
+    public long currentValueCents(long priceCents, long residualCents, int usefulLifeYears, long purchasePacked) {
+        return valueCentsAsOf(priceCents, residualCents, usefulLifeYears, purchasePacked, currentPackedDate());
+    }
+
+    /**
+     * Calculates the value in cents as of the given packed date.
+     *
+     * @param priceCents      the purchase price in cents
+     * @param residualCents   the residual value in cents
+     * @param usefulLifeYears the useful life in years (at least 1)
+     * @param purchasePacked  the purchase date, see {@link #packDate(LocalDate)}
+     * @param asOfPacked      the valuation date, see {@link #packDate(LocalDate)}
+     * @return the value in cents, identical to
+     *         {@link LinearDepreciation#calculateValueAsOf(Asset, LocalDate)}
+     *         moved by two decimal places
+     */
+    public long valueCentsAsOf(long priceCents, long residualCents, int usefulLifeYears, long purchasePacked,
+            long asOfPacked) {
+        long yearsUsed = yearsBetween(purchasePacked, asOfPacked);
+        if (yearsUsed >= usefulLifeYears) {
+            return residualCents;
+        }
+        return Math.max(linearValueCents(priceCents, residualCents, usefulLifeYears, yearsUsed), residualCents);
+    }
+
+    /**
+     * Packs a date into a single long that preserves month/day ordering.
+     * <p>
+     * Uses the same encoding as {@code LocalDate.until(..., MONTHS)}, so
+     * {@link #yearsBetween(long, long)} matches {@code ChronoUnit.YEARS.between}.
+     * </p>
+     *
+     * @param date the date to pack
+     * @return the packed representation
+     */
+    public static long packDate(LocalDate date) {
+        long prolepticMonth = date.getYear() * 12L + date.getMonthValue() - 1;
+        return prolepticMonth * 32L + date.getDayOfMonth();
+    }
+
+    /**
+     * Computes the number of complete years between two packed dates, with the
+     * same truncation semantics as {@code ChronoUnit.YEARS.between}.
+     *
+     * @param startPacked the packed start date
+     * @param endPacked   the packed end date
+     * @return the number of complete years (negative if end is before start)
+     */
+    public static long yearsBetween(long startPacked, long endPacked) {
+        return ((endPacked - startPacked) / 32) / 12;
+    }
+
+    /**
+     * Straight-line value after the given number of years, before clamping to
+     * the residual value.
+     */
+    private static long linearValueCents(long priceCents, long residualCents, int usefulLifeYears,
+            long yearsUsed) {
+        long depreciationPerYear = divideHalfUp(priceCents - residualCents, usefulLifeYears);
+        return priceCents - depreciationPerYear * yearsUsed;
+    }
+
+    /**
+     * Integer division rounding half away from zero, like
+     * {@code RoundingMode.HALF_UP}.
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long quotient = dividend / divisor;
+        long remainder = dividend % divisor;
+        if (Math.abs(remainder) * 2 >= divisor) {
+            quotient += Long.signum(dividend);
+        }
+        return quotient;
+    }
+
+    /**
+     * Converts an amount to cents, or returns {@link #NOT_CENTS} if it cannot be
+     * represented exactly.
+     */
+    static long toCents(BigDecimal amount) {
+        if (amount == null || amount.scale() > 2 || amount.precision() - amount.scale() > 16) {
+            return NOT_CENTS;
+        }
+        return amount.movePointRight(2).longValueExact();
+    }
+
+    private long currentPackedDate() {
+        AsOf current = asOf;
+        long now = clock.millis();
+        if (now < current.validUntilMillis()) {
+            return current.packedDate();
+        }
+
+        // Day rollover (or first call): recompute once per day
+        ZoneId zone = clock.getZone();
+        LocalDate today = LocalDate.now(clock);
+        long validUntil = today.plusDays(1).atStartOfDay(zone).toInstant().toEpochMilli();
+        AsOf refreshed = new AsOf(packDate(today), validUntil);
+        asOf = refreshed;
+        return refreshed.packedDate();
+    }
+}
@@ -0,0 +1,298 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetSnapshot;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.annotation.Primary;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Search engine answering text, status and type queries from an in-process
+ * {@link AssetTrigramIndex}.
+ * <p>
+ * Enabled with {@code application.search.engine=memory}. The index is loaded
+ * from the {@code search_text} column of {@code asset_read_view} (no subtype
+ * join is needed to tell the type) once the application is ready, kept
+ * current from committed asset change events, and rebuilt nightly to drop
+ * stale postings. Only the rows on the requested page are read from the
+ * read view.
+ * </p>
+ * <p>
+ * Queries the index cannot answer are passed to {@link JpaAssetSearchEngine}:
+ * filters other than the text query, status and type, sorting by anything but the
+ * ID (including relevance), and any query before the index has been loaded.
+ * </p>
+ */
+@Slf4j
+@Service
+@Primary
+@ConditionalOnProperty(name = "application.search.engine", havingValue = "memory")
+public class InMemoryAssetSearchEngine implements AssetSearchEngine {
+
+    private static final String SELECT_SQL = "SELECT id, type, status, search_text FROM asset_read_view";
+    private static final String LOAD_SQL = SELECT_SQL + " WHERE status <> 'DISPOSED' ORDER BY id";
+    private static final String RELOAD_SQL = SELECT_SQL + " WHERE id IN (%s)";
+    private static final int RELOAD_CHUNK_SIZE = 1000;
+
+    private final ExecutorService loadExecutor = Executors.newThreadPerTaskExecutor(
+            Thread.ofVirtual().name("search-index-", 0).factory());
+
+    private final JpaAssetSearchEngine fallback;
+    private final AssetReadViewRepository readViewRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final int fetchSize;
+
+    private volatile AssetTrigramIndex index;
+    private volatile Set<Long> changedDuringLoad;
+    private volatile boolean idOverflow;
+
+    /**
+     * Creates the in-memory search engine.
+     *
+     * @param fallback            the engine for queries the index cannot answer
+     * @param readViewRepository  loads the rows of a result page
+     * @param jdbcTemplate        reads the search texts
+     * @param transactionTemplate wraps the initial load (required for cursor
+     *                            fetching)
+     * @param meterRegistry       the registry for index metrics
+     * @param fetchSize           the number of rows fetched per round trip while
+     *                            loading
+     */
+    public InMemoryAssetSearchEngine(JpaAssetSearchEngine fallback,
+            AssetReadViewRepository readViewRepository,
+            JdbcTemplate jdbcTemplate,
+            TransactionTemplate transactionTemplate,
+            MeterRegistry meterRegistry,
+            @Value("${application.search.memory.fetch-size:5000}") int fetchSize) {
+        this.fallback = fallback;
+        this.readViewRepository = readViewRepository;
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = transactionTemplate;
+        this.fetchSize = fetchSize;
+
+        Gauge.builder("search.index.documents", this, engine -> engine.index != null ? engine.index.size() : 0)
+                .description("Assets held by the in-memory search index")
+                .register(meterRegistry);
+        Gauge.builder("search.index.posting.bytes", this,
+                        engine -> engine.index != null ? engine.index.postingBytes() : 0)
+                .description("Memory used by the posting lists of the in-memory search index")
+                .baseUnit("bytes")
+                .register(meterRegistry);
+    }
+
+    @Override
+    public Page<AssetReadView> search(AssetSearchCriteria criteria, Pageable pageable) {
+        if (!canAnswer(criteria, pageable)) {
+            return fallback.search(criteria, pageable);
+        }
+        AssetTrigramIndex.Result result = searchIndex(criteria, pageable);
+
+        // Only the final page is read from the database, by primary key, in index order
+        Map<Long, AssetReadView> byId = readViewRepository.findAllById(result.ids()).stream()
+                .collect(Collectors.toMap(AssetReadView::getId, Function.identity()));
+        List<AssetReadView> content = result.ids().stream().map(byId::get).filter(Objects::nonNull).toList();
+        return new PageImpl<>(content, pageable, result.total());
+    }
+
+    @Override
+    public Slice<AssetReadView> searchSlice(AssetSearchCriteria criteria, Pageable pageable) {
+        // The index counts matches for free; only the fallback needs to avoid it
+        return canAnswer(criteria, pageable) ? search(criteria, pageable) : fallback.searchSlice(criteria, pageable);
+    }
+
+    /**
+     * Loads the index once the application has started.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void load() {
+        loadExecutor.execute(this::rebuild);
+    }
+
+    /**
+     * Rebuilds the index from the database, dropping stale postings.
+     * <p>
+     * The current index keeps serving queries, and receiving changes, until the
+     * new one is complete. Changes committed while loading are re-read into the
+     * new index afterwards.
+     * </p>
+     */
+    @Scheduled(cron = "${application.search.memory.rebuild-cron:0 30 3 * * *}")
+    public void rebuild() {
+        Set<Long> changed = ConcurrentHashMap.newKeySet();
+        changedDuringLoad = changed;
+        try {
+            long start = System.nanoTime();
+            AssetTrigramIndex fresh = new AssetTrigramIndex();
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.query(connection -> {
+                PreparedStatement statement = connection.prepareStatement(LOAD_SQL);
+                statement.setFetchSize(fetchSize);
+                return statement;
+            }, (RowCallbackHandler) rs -> put(fresh, rs)));
+            fresh.trimToSize();
+
+            index = fresh;
+            changedDuringLoad = null;
+            reload(fresh, changed);
+
+            log.info("Search index loaded: {} assets, {} KiB of postings in {} ms", fresh.size(),
+                    fresh.postingBytes() / 1024, (System.nanoTime() - start) / 1_000_000);
+        } catch (RuntimeException e) {
+            changedDuringLoad = null;
+            log.error("Loading the search index failed; searches use the database", e);
+        }
+    }
+
+    /**
+     * Applies a committed single-asset change to the index.
+     *
+     * @param event the change event published by {@link AssetService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetChanged(AssetChangedEvent event) {
+        AssetSnapshot changed = (event.after() != null) ? event.after() : event.before();
+        recordChange(List.of(changed.id()));
+
+        AssetTrigramIndex current = index;
+        if (current == null) {
+            return;
+        }
+        if (!fitsIndex(changed.id())) {
+            idOverflow = true;
+            return;
+        }
+        if (event.after() == null) {
+            current.remove(changed.id().intValue());
+        } else {
+            current.put(changed.id().intValue(), changed.type(), changed.status(), changed.searchText());
+        }
+    }
+
+    /**
+     * Re-reads the assets of a committed bulk update.
+     *
+     * @param event the bulk change event published by {@link AssetBulkService}
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onAssetsBulkChanged(AssetsBulkChangedEvent event) {
+        recordChange(event.assetIds());
+        AssetTrigramIndex current = index;
+        if (current != null) {
+            reload(current, event.assetIds());
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        loadExecutor.shutdownNow();
+    }
+
+    private void recordChange(Collection<Long> ids) {
+        Set<Long> changed = changedDuringLoad;
+        if (changed != null) {
+            changed.addAll(ids);
+        }
+    }
+
+    private void reload(AssetTrigramIndex target, Collection<Long> ids) {
+        List<Long> pending = new ArrayList<>(ids);
+        for (int from = 0; from < pending.size(); from += RELOAD_CHUNK_SIZE) {
+            List<Long> chunk = pending.subList(from, Math.min(from + RELOAD_CHUNK_SIZE, pending.size()));
+            Set<Long> missing = new HashSet<>(chunk);
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(RELOAD_SQL.formatted(placeholders), (RowCallbackHandler) rs -> {
+                missing.remove(rs.getLong("id"));
+                put(target, rs);
+            }, chunk.toArray());
+            missing.stream().filter(InMemoryAssetSearchEngine::fitsIndex)
+                    .forEach(id -> target.remove(id.intValue()));
+        }
+    }
+
+    private void put(AssetTrigramIndex target, ResultSet rs) throws SQLException {
+        long id = rs.getLong("id");
+        if (fitsIndex(id)) {
+            target.put((int) id, AssetType.valueOf(rs.getString("type")), AssetStatus.valueOf(rs.getString("status")),
+                    rs.getString("search_text"));
+        } else {
+            idOverflow = true;
+        }
+    }
+
+    private AssetTrigramIndex.Result searchIndex(AssetSearchCriteria criteria, Pageable pageable) {
+        Sort.Order order = idOrder(pageable.getSort());
+        String query = (criteria.getQuery() != null) ? criteria.getQuery().toLowerCase(Locale.ROOT) : null;
+        return index.search(query, criteria.getStatus(), criteria.getType(),
+                order.isDescending(), pageable.getOffset(), pageable.getPageSize());
+    }
+
+    private static boolean fitsIndex(long id) {
+        // IDs double as bitmap positions; larger IDs switch the engine to the fallback
+        return id >= 0 && id < Integer.MAX_VALUE;
+    }
+
+    private boolean canAnswer(AssetSearchCriteria criteria, Pageable pageable) {
+        return index != null && !idOverflow && pageable.isPaged() && idOrder(pageable.getSort()) != null
+                && onlyTextStatusAndType(criteria);
+    }
+
+    private static Sort.Order idOrder(Sort sort) {
+        if (sort.isUnsorted()) {
+            return Sort.Order.asc("id");
+        }
+        List<Sort.Order> orders = sort.toList();
+        return (orders.size() == 1 && orders.get(0).getProperty().equals("id")) ? orders.get(0) : null;
+    }
+
+    private static boolean onlyTextStatusAndType(AssetSearchCriteria criteria) {
+        return criteria.getSerialNumber() == null
+                && criteria.getAssignedToUserId() == null
+                && criteria.getMinBookValue() == null
+                && criteria.getMaxBookValue() == null
+                && criteria.getMinPrice() == null
+                && criteria.getMaxPrice() == null
+                && criteria.getPurchasedFrom() == null
+                && criteria.getPurchasedTo() == null;
+    }
+}
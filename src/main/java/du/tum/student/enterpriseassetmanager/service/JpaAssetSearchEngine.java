@@ -0,0 +1,84 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+/**
+ * Search engine querying {@code asset_read_view} through
+ * {@link AssetSpecification}.
+ * <p>
+ * The default engine, and the fallback of {@link InMemoryAssetSearchEngine}
+ * for queries it cannot answer. Every query reads that single table, so
+ * neither a type-restricted nor a polymorphic search joins a subtype table or
+ * {@code _user}.
+ * </p>
+ * <p>
+ * The relevance order ranks by {@code pg_trgm} functions. Without the
+ * extension, relevance-sorted searches fall back to ID order instead of
+ * failing.
+ * </p>
+ */
+@Service
+@RequiredArgsConstructor
+public class JpaAssetSearchEngine implements AssetSearchEngine {
+    private final AssetReadViewRepository readViewRepository;
+
+    // Only a positive answer is cached; the extension may be installed at startup after the first search
+    private volatile boolean trigramInstalled;
+
+    @Override
+    public Page<AssetReadView> search(AssetSearchCriteria criteria, Pageable pageable) {
+        boolean relevance = isRelevanceSorted(pageable);
+        return readViewRepository.findAll(spec(criteria, relevance), relevance ? withoutSort(pageable) : pageable);
+    }
+
+    @Override
+    public Slice<AssetReadView> searchSlice(AssetSearchCriteria criteria, Pageable pageable) {
+        boolean relevance = isRelevanceSorted(pageable);
+        return readViewRepository.findSlice(spec(criteria, relevance), relevance ? withoutSort(pageable) : pageable);
+    }
+
+    /**
+     * Counts the assets matching the criteria.
+     *
+     * @param criteria the search filters
+     * @return the number of matching assets
+     */
+    public long count(AssetSearchCriteria criteria) {
+        return readViewRepository.count(AssetSpecification.filterReadView(criteria));
+    }
+
+    static boolean isRelevanceSorted(Pageable pageable) {
+        return pageable.getSort().getOrderFor(RELEVANCE_SORT) != null;
+    }
+
+    private Specification<AssetReadView> spec(AssetSearchCriteria criteria, boolean relevance) {
+        Specification<AssetReadView> spec = AssetSpecification.filterReadView(criteria);
+        if (!relevance) {
+            return spec;
+        }
+        // A null term orders by ID
+        return spec.and(AssetSpecification.orderByRelevance(isTrigramInstalled() ? criteria.getQuery() : null));
+    }
+
+    private boolean isTrigramInstalled() {
+        if (!trigramInstalled) {
+            trigramInstalled = readViewRepository.isTrigramInstalled();
+        }
+        return trigramInstalled;
+    }
+
+    static Pageable withoutSort(Pageable pageable) {
+        // The relevance order is set by the specification
+        return PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+    }
+}
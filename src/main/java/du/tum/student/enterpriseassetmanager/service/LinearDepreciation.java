@@ -1,10 +1,13 @@
 package du.tum.student.enterpriseassetmanager.service;
 
 import du.tum.student.enterpriseassetmanager.domain.Asset;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 
 import java.math.BigDecimal;
 import java.math.RoundingMode;
+import java.time.Clock;
 import java.time.LocalDate;
 import java.time.temporal.ChronoUnit;
 
@@ -16,10 +19,34 @@ import java.time.temporal.ChronoUnit;
  * Formula: (Cost - Residual Value) / Useful Life = Annual Depreciation
  * Current Value = Cost - (Annual Depreciation * Years Used)
  * </p>
+ * <p>
+ * This is the default (BigDecimal) mode. See {@link FastLinearDepreciation}
+ * for the allocation-free primitive mode.
+ * </p>
  */
-@Component
+@Component("straightLineDepreciation")
+@ConditionalOnProperty(name = "application.depreciation.mode", havingValue = "bigdecimal", matchIfMissing = true)
 public class LinearDepreciation implements DepreciationCalculator {
 
+    private final Clock clock;
+
+    /**
+     * Creates a calculator that values assets as of the system date.
+     */
+    public LinearDepreciation() {
+        this(Clock.systemDefaultZone());
+    }
+
+    /**
+     * Creates a calculator that values assets as of the date of the given clock.
+     *
+     * @param clock the clock providing the current date
+     */
+    @Autowired
+    public LinearDepreciation(Clock clock) {
+        this.clock = clock;
+    }
+
     /**
      * Calculates the current value based on straight-line depreciation.
      * <p>
@@ -32,12 +59,38 @@ public class LinearDepreciation implements DepreciationCalculator {
      */
     @Override
     public BigDecimal calculateCurrentValue(Asset asset) {
+        return calculateValueAsOf(asset, LocalDate.now(clock));
+    }
+
+    /**
+     * Calculates the straight-line value as of the given date.
+     *
+     * @param asset the asset to evaluate
+     * @param asOf  the date to value the asset at
+     * @return the calculated value
+     */
+    @Override
+    public BigDecimal calculateValueAsOf(Asset asset, LocalDate asOf) {
+        if (asset == null || asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null)
+            return BigDecimal.ZERO;
+        long yearsUsed = ChronoUnit.YEARS.between(asset.getPurchaseDate(), asOf);
+        return calculateValueAfterYears(asset, yearsUsed);
+    }
+
+    /**
+     * Calculates the straight-line value after the given number of years.
+     *
+     * @param asset     the asset to evaluate
+     * @param yearsUsed the number of complete years since purchase
+     * @return the calculated value
+     */
+    @Override
+    public BigDecimal calculateValueAfterYears(Asset asset, long yearsUsed) {
         if (asset == null || asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null)
             return BigDecimal.ZERO;
         BigDecimal originalPrice = asset.getPurchasePrice();
         BigDecimal residualValue = asset.getResidualValue();
         Integer usefulLifeYears = asset.getUsefulLifeYears();
-        long yearsUsed = ChronoUnit.YEARS.between(asset.getPurchaseDate(), LocalDate.now());
 
         // Use residual value if useful life is exceeded
         if (yearsUsed >= usefulLifeYears) {
@@ -0,0 +1,114 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Primary;
+import org.springframework.stereotype.Component;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * {@link DepreciationCalculator} that applies the depreciation method chosen
+ * per asset.
+ * <p>
+ * Straight-line assets are delegated to the configured straight-line
+ * calculator ({@link LinearDepreciation} or {@link FastLinearDepreciation}),
+ * so their results are unchanged. Declining-balance and
+ * sum-of-the-years'-digits assets are valued from the precomputed
+ * {@link DepreciationFactorTables}: a table lookup and one multiply, rounded
+ * HALF_UP to 2 decimals.
+ * </p>
+ */
+@Primary
+@Component
+public class MethodAwareDepreciation implements DepreciationCalculator {
+
+    private final DepreciationCalculator straightLine;
+    private final DepreciationFactorTables factorTables;
+    private final Clock clock;
+
+    /**
+     * Creates the method-aware calculator.
+     *
+     * @param straightLine the calculator used for straight-line assets
+     * @param factorTables the cache of precomputed factors
+     * @param clock        the clock providing the current date
+     */
+    public MethodAwareDepreciation(@Qualifier("straightLineDepreciation") DepreciationCalculator straightLine,
+            DepreciationFactorTables factorTables, Clock clock) {
+        this.straightLine = straightLine;
+        this.factorTables = factorTables;
+        this.clock = clock;
+    }
+
+    /**
+     * Calculates the current value using the asset's depreciation method.
+     *
+     * @param asset the asset to evaluate
+     * @return the calculated current value
+     */
+    @Override
+    public BigDecimal calculateCurrentValue(Asset asset) {
+        if (isStraightLine(asset)) {
+            return straightLine.calculateCurrentValue(asset);
+        }
+        return calculateValueAsOf(asset, LocalDate.now(clock));
+    }
+
+    /**
+     * Calculates the value as of the given date using the asset's depreciation
+     * method.
+     *
+     * @param asset the asset to evaluate
+     * @param asOf  the date to value the asset at
+     * @return the calculated value
+     */
+    @Override
+    public BigDecimal calculateValueAsOf(Asset asset, LocalDate asOf) {
+        if (isStraightLine(asset)) {
+            return straightLine.calculateValueAsOf(asset, asOf);
+        }
+        if (asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null)
+            return BigDecimal.ZERO;
+        long yearsUsed = ChronoUnit.YEARS.between(asset.getPurchaseDate(), asOf);
+        return calculateValueAfterYears(asset, yearsUsed);
+    }
+
+    /**
+     * Calculates the value after the given number of years using the asset's
+     * depreciation method.
+     *
+     * @param asset     the asset to evaluate
+     * @param yearsUsed the number of complete years since purchase
+     * @return the calculated value
+     */
+    @Override
+    public BigDecimal calculateValueAfterYears(Asset asset, long yearsUsed) {
+        if (isStraightLine(asset)) {
+            return straightLine.calculateValueAfterYears(asset, yearsUsed);
+        }
+        if (asset.getPurchasePrice() == null || asset.getUsefulLifeYears() == null)
+            return BigDecimal.ZERO;
+
+        BigDecimal price = asset.getPurchasePrice();
+        BigDecimal residual = asset.getResidualValue() != null ? asset.getResidualValue() : BigDecimal.ZERO;
+        if (yearsUsed >= asset.getUsefulLifeYears()) {
+            return residual;
+        }
+
+        BigDecimal factor = factorTables.factor(asset.getDepreciationMethod(), asset.getUsefulLifeYears(),
+                price, residual, yearsUsed);
+        return residual.add(price.subtract(residual).multiply(factor)).setScale(2, RoundingMode.HALF_UP);
+    }
+
+    private static boolean isStraightLine(Asset asset) {
+        return asset == null
+                || asset.getDepreciationMethod() == null
+                || asset.getDepreciationMethod() == DepreciationMethod.STRAIGHT_LINE;
+    }
+}
@@ -0,0 +1,322 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetValuationDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.PointInTimeValuationDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.PortfolioValuationDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.StatusValuationDto;
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import du.tum.student.enterpriseassetmanager.repository.AssetSpecification;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.stereotype.Service;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Service for valuing the whole asset portfolio (or a filtered part of it) in
+ * one pass.
+ * <p>
+ * Assets are streamed from the database in chunks by
+ * {@link ChunkedAssetReader}; the current value of each chunk is computed in
+ * parallel on the fork-join pool while the next chunk is being fetched.
+ * Memory use is bounded by the chunk size, not by the portfolio size.
+ * </p>
+ * <p>
+ * With {@code application.depreciation.mode=primitive}, totals-only
+ * valuations convert the amounts of each chunk to cents once and sum the
+ * straight-line values as longs through {@link FastLinearDepreciation},
+ * without a {@link BigDecimal} per asset. Other depreciation methods and
+ * amounts that are not whole cents are valued as usual.
+ * </p>
+ */
+@Service
+public class PortfolioValuationService {
+
+    private final ChunkedAssetReader chunkedAssetReader;
+    private final DepreciationCalculator depreciationCalculator;
+    private final FastLinearDepreciation primitiveCalculator;
+    private final int chunkSize;
+
+    /**
+     * Creates the valuation service.
+     *
+     * @param chunkedAssetReader     reads the assets chunk by chunk
+     * @param depreciationCalculator computes the value of a single asset
+     * @param straightLine           the configured straight-line calculator;
+     *                               totals are summed in cents if it is a
+     *                               {@link FastLinearDepreciation}
+     * @param chunkSize              the number of assets per chunk
+     */
+    public PortfolioValuationService(ChunkedAssetReader chunkedAssetReader,
+            DepreciationCalculator depreciationCalculator,
+            @Qualifier("straightLineDepreciation") DepreciationCalculator straightLine,
+            @Value("${application.valuation.chunk-size:1000}") int chunkSize) {
+        this.chunkedAssetReader = chunkedAssetReader;
+        this.depreciationCalculator = depreciationCalculator;
+        this.primitiveCalculator = straightLine instanceof FastLinearDepreciation fast ? fast : null;
+        this.chunkSize = chunkSize;
+    }
+
+    /**
+     * Values all assets matching the criteria and returns the totals only.
+     *
+     * @param criteria the filter to apply
+     * @return the aggregated {@link PortfolioValuationDto}
+     */
+    public PortfolioValuationDto valuate(AssetSearchCriteria criteria) {
+        return valuate(criteria, LocalDate.now());
+    }
+
+    /**
+     * Values all assets matching the criteria as of the given date and returns
+     * the totals only.
+     * <p>
+     * Assets purchased after the date are not counted.
+     * </p>
+     *
+     * @param criteria      the filter to apply
+     * @param valuationDate the date to value the assets at
+     * @return the aggregated {@link PortfolioValuationDto}
+     */
+    public PortfolioValuationDto valuate(AssetSearchCriteria criteria, LocalDate valuationDate) {
+        if (primitiveCalculator == null) {
+            return valuate(criteria, valuationDate, row -> {
+            });
+        }
+
+        long asOfPacked = FastLinearDepreciation.packDate(valuationDate);
+        long[] assetCount = { 0 };
+        long[] totalCents = { 0, 0 };
+        BigDecimal[] totals = { BigDecimal.ZERO, BigDecimal.ZERO };
+
+        // Converted once per chunk, reused across chunks
+        long[] priceCents = new long[chunkSize];
+        long[] residualCents = new long[chunkSize];
+        int[] usefulLifeYears = new int[chunkSize];
+        long[] purchasePacked = new long[chunkSize];
+
+        chunkedAssetReader.forEachChunk(valuationSpec(criteria, valuationDate), chunkSize, chunk -> {
+            // 1. Convert the straight-line assets to cents; value the rest as usual
+            int converted = 0;
+            for (Asset asset : chunk) {
+                assetCount[0]++;
+                long price = FastLinearDepreciation.toCents(asset.getPurchasePrice());
+                long residual = FastLinearDepreciation.toCents(asset.getResidualValue());
+                if (price != FastLinearDepreciation.NOT_CENTS && residual != FastLinearDepreciation.NOT_CENTS
+                        && asset.getUsefulLifeYears() != null && asset.getPurchaseDate() != null
+                        && isStraightLine(asset)) {
+                    priceCents[converted] = price;
+                    residualCents[converted] = residual;
+                    usefulLifeYears[converted] = asset.getUsefulLifeYears();
+                    purchasePacked[converted] = FastLinearDepreciation.packDate(asset.getPurchaseDate());
+                    converted++;
+                } else {
+                    totals[0] = totals[0].add(asset.getPurchasePrice());
+                    totals[1] = totals[1].add(depreciationCalculator.calculateValueAsOf(asset, valuationDate));
+                }
+            }
+
+            // 2. Sum the converted assets as longs
+            for (int i = 0; i < converted; i++) {
+                totalCents[0] += priceCents[i];
+                totalCents[1] += primitiveCalculator.valueCentsAsOf(priceCents[i], residualCents[i],
+                        usefulLifeYears[i], purchasePacked[i], asOfPacked);
+            }
+        });
+
+        return PortfolioValuationDto.builder()
+                .valuationDate(valuationDate)
+                .assetCount(assetCount[0])
+                .totalPurchaseValue(totals[0].add(BigDecimal.valueOf(totalCents[0], 2)))
+                .totalCurrentValue(totals[1].add(BigDecimal.valueOf(totalCents[1], 2)))
+                .build();
+    }
+
+    /**
+     * Values all assets matching the criteria.
+     * <p>
+     * Each per-asset result is passed to {@code rowSink} in ID order as soon as
+     * its chunk has been computed, so callers can stream the rows out instead of
+     * collecting them.
+     * </p>
+     *
+     * @param criteria the filter to apply
+     * @param rowSink  receives the valuation of every asset
+     * @return the aggregated {@link PortfolioValuationDto}
+     */
+    public PortfolioValuationDto valuate(AssetSearchCriteria criteria, Consumer<AssetValuationDto> rowSink) {
+        return valuate(criteria, LocalDate.now(), rowSink);
+    }
+
+    /**
+     * Values all assets matching the criteria as of the given date.
+     * <p>
+     * Assets purchased after the date are not counted.
+     * </p>
+     *
+     * @param criteria      the filter to apply
+     * @param valuationDate the date to value the assets at
+     * @param rowSink       receives the valuation of every asset
+     * @return the aggregated {@link PortfolioValuationDto}
+     */
+    public PortfolioValuationDto valuate(AssetSearchCriteria criteria, LocalDate valuationDate,
+            Consumer<AssetValuationDto> rowSink) {
+        long[] assetCount = { 0 };
+        BigDecimal[] totals = { BigDecimal.ZERO, BigDecimal.ZERO };
+
+        chunkedAssetReader.forEachChunk(valuationSpec(criteria, valuationDate), chunkSize, chunk -> {
+            // 1. Compute current values in parallel (order is preserved)
+            List<AssetValuationDto> rows = chunk.parallelStream()
+                    .map(asset -> toValuation(asset, valuationDate))
+                    .toList();
+
+            // 2. Accumulate totals and hand rows out sequentially
+            for (AssetValuationDto row : rows) {
+                assetCount[0]++;
+                totals[0] = totals[0].add(row.getPurchasePrice());
+                totals[1] = totals[1].add(row.getCurrentValue());
+                rowSink.accept(row);
+            }
+        });
+
+        return PortfolioValuationDto.builder()
+                .valuationDate(valuationDate)
+                .assetCount(assetCount[0])
+                .totalPurchaseValue(totals[0])
+                .totalCurrentValue(totals[1])
+                .build();
+    }
+
+    /**
+     * Values all assets matching the criteria on each of the given dates, in a
+     * single pass over the data.
+     * <p>
+     * Every asset is read once and valued for all dates; assets purchased after
+     * a date are not counted for that date. The breakdown uses each asset's
+     * current status, since status history is not recorded.
+     * </p>
+     *
+     * @param criteria the filter to apply
+     * @param dates    the valuation dates
+     * @return one {@link PointInTimeValuationDto} per date, in the order given
+     */
+    public List<PointInTimeValuationDto> valuateAsOf(AssetSearchCriteria criteria, List<LocalDate> dates) {
+        List<Map<AssetStatus, StatusTotals>> totalsByDate = new ArrayList<>(dates.size());
+        for (int d = 0; d < dates.size(); d++) {
+            totalsByDate.add(new EnumMap<>(AssetStatus.class));
+        }
+
+        chunkedAssetReader.forEachChunk(AssetSpecification.matchingReadView(criteria), chunkSize, chunk -> {
+            // 1. Compute the values for all dates in parallel (order is preserved)
+            List<BigDecimal[]> values = chunk.parallelStream()
+                    .map(asset -> valuesAsOf(asset, dates))
+                    .toList();
+
+            // 2. Accumulate sequentially
+            for (int i = 0; i < chunk.size(); i++) {
+                Asset asset = chunk.get(i);
+                BigDecimal[] assetValues = values.get(i);
+                for (int d = 0; d < assetValues.length; d++) {
+                    if (assetValues[d] != null) {
+                        totalsByDate.get(d).computeIfAbsent(asset.getStatus(), status -> new StatusTotals())
+                                .add(asset.getPurchasePrice(), assetValues[d]);
+                    }
+                }
+            }
+        });
+
+        List<PointInTimeValuationDto> result = new ArrayList<>(dates.size());
+        for (int d = 0; d < dates.size(); d++) {
+            StatusTotals total = new StatusTotals();
+            Map<AssetStatus, StatusValuationDto> byStatus = new EnumMap<>(AssetStatus.class);
+            totalsByDate.get(d).forEach((status, totals) -> {
+                total.add(totals);
+                byStatus.put(status, totals.toDto());
+            });
+
+            result.add(PointInTimeValuationDto.builder()
+                    .valuationDate(dates.get(d))
+                    .assetCount(total.assetCount)
+                    .totalPurchaseValue(total.purchaseValue)
+                    .totalValue(total.value)
+                    .byStatus(byStatus)
+                    .build());
+        }
+        return result;
+    }
+
+    private static Specification<Asset> valuationSpec(AssetSearchCriteria criteria, LocalDate valuationDate) {
+        return AssetSpecification.matchingReadView(criteria)
+                .and(AssetSpecification.purchasedOnOrBefore(valuationDate));
+    }
+
+    private static boolean isStraightLine(Asset asset) {
+        return asset.getDepreciationMethod() == null
+                || asset.getDepreciationMethod() == DepreciationMethod.STRAIGHT_LINE;
+    }
+
+    /**
+     * Values one asset on every date; null where it was not yet purchased.
+     */
+    private BigDecimal[] valuesAsOf(Asset asset, List<LocalDate> dates) {
+        BigDecimal[] values = new BigDecimal[dates.size()];
+        for (int d = 0; d < values.length; d++) {
+            LocalDate date = dates.get(d);
+            if (asset.getPurchaseDate() != null && !asset.getPurchaseDate().isAfter(date)) {
+                values[d] = depreciationCalculator.calculateValueAsOf(asset, date);
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Running totals of one status on one date.
+     */
+    private static final class StatusTotals {
+        private long assetCount;
+        private BigDecimal purchaseValue = BigDecimal.ZERO;
+        private BigDecimal value = BigDecimal.ZERO;
+
+        void add(BigDecimal purchasePrice, BigDecimal assetValue) {
+            assetCount++;
+            purchaseValue = purchaseValue.add(purchasePrice);
+            value = value.add(assetValue);
+        }
+
+        void add(StatusTotals other) {
+            assetCount += other.assetCount;
+            purchaseValue = purchaseValue.add(other.purchaseValue);
+            value = value.add(other.value);
+        }
+
+        StatusValuationDto toDto() {
+            return StatusValuationDto.builder()
+                    .assetCount(assetCount)
+                    .totalPurchaseValue(purchaseValue)
+                    .totalValue(value)
+                    .build();
+        }
+    }
+
+    private AssetValuationDto toValuation(Asset asset, LocalDate valuationDate) {
+        return AssetValuationDto.builder()
+                .id(asset.getId())
+                .name(asset.getName())
+                .type(AssetType.of(asset))
+                .status(asset.getStatus())
+                .purchasePrice(asset.getPurchasePrice())
+                .currentValue(depreciationCalculator.calculateValueAsOf(asset, valuationDate))
+                .build();
+    }
+}
@@ -0,0 +1,155 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+/**
+ * A single cached value with stale-while-revalidate semantics.
+ * <p>
+ * A fresh value is served directly. Once the TTL has expired, or the value
+ * has been {@link #invalidate() invalidated}, the stale value is still served
+ * immediately while one background reload is started. Only when no value is
+ * present yet (first access) does the caller wait for a load; concurrent
+ * callers share that load.
+ * </p>
+ * <p>
+ * Hits, stale hits and misses are counted in {@code dashboard.cache.requests},
+ * load latency is recorded in {@code dashboard.cache.load}; both are tagged
+ * with the cache name.
+ * </p>
+ *
+ * @param <T> the type of the cached value
+ */
+class RefreshingSnapshot<T> {
+
+    private record Entry<T>(T value, long loadedAtNanos, long generation) {
+    }
+
+    private record Load<T>(long generation, CompletableFuture<T> future) {
+    }
+
+    private final Supplier<T> loader;
+    private final long ttlNanos;
+    private final Executor executor;
+
+    private final AtomicReference<Entry<T>> current = new AtomicReference<>();
+    private final AtomicReference<Load<T>> inFlight = new AtomicReference<>();
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hits;
+    private final Counter staleHits;
+    private final Counter misses;
+    private final Timer loadTimer;
+
+    /**
+     * Creates a new snapshot.
+     *
+     * @param name          the cache name used as metric tag
+     * @param loader        computes a fresh value
+     * @param ttl           how long a loaded value counts as fresh
+     * @param executor      runs the loads
+     * @param meterRegistry the registry to publish metrics to
+     */
+    RefreshingSnapshot(String name, Supplier<T> loader, Duration ttl, Executor executor,
+            MeterRegistry meterRegistry) {
+        this.loader = loader;
+        this.ttlNanos = ttl.toNanos();
+        this.executor = executor;
+        this.hits = requestCounter(meterRegistry, name, "hit");
+        this.staleHits = requestCounter(meterRegistry, name, "stale");
+        this.misses = requestCounter(meterRegistry, name, "miss");
+        this.loadTimer = Timer.builder("dashboard.cache.load")
+                .description("Time spent recomputing a cached dashboard value")
+                .tag("cache", name)
+                .register(meterRegistry);
+    }
+
+    /**
+     * Returns the cached value, loading or refreshing it as required.
+     *
+     * @return the current (possibly stale) value
+     */
+    T get() {
+        Entry<T> entry = current.get();
+        if (entry == null) {
+            misses.increment();
+            try {
+                return load().join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException cause) {
+                    throw cause;
+                }
+                throw e;
+            }
+        }
+
+        if (entry.generation() != generation.get() || System.nanoTime() - entry.loadedAtNanos() >= ttlNanos) {
+            staleHits.increment();
+            load();
+        } else {
+            hits.increment();
+        }
+        return entry.value();
+    }
+
+    /**
+     * Marks the cached value as stale, so that the next access starts a reload
+     * and keeps serving the value until the reload has completed.
+     * <p>
+     * Loads that were started before the invalidation do not count as fresh.
+     * </p>
+     */
+    void invalidate() {
+        generation.incrementAndGet();
+    }
+
+    private CompletableFuture<T> load() {
+        while (true) {
+            long gen = generation.get();
+            Load<T> running = inFlight.get();
+            if (running != null && running.generation() == gen) {
+                return running.future();
+            }
+
+            Load<T> created = new Load<>(gen, new CompletableFuture<>());
+            if (inFlight.compareAndSet(running, created)) {
+                executor.execute(() -> run(created));
+                return created.future();
+            }
+        }
+    }
+
+    private void run(Load<T> load) {
+        Timer.Sample sample = Timer.start();
+        try {
+            T value = loader.get();
+            // Never replace the result of a later load
+            Entry<T> loaded = new Entry<>(value, System.nanoTime(), load.generation());
+            current.accumulateAndGet(loaded, (previous, next) ->
+                    previous == null || previous.generation() <= next.generation() ? next : previous);
+            load.future().complete(value);
+        } catch (Throwable t) {
+            load.future().completeExceptionally(t);
+        } finally {
+            sample.stop(loadTimer);
+            inFlight.compareAndSet(load, null);
+        }
+    }
+
+    private static Counter requestCounter(MeterRegistry meterRegistry, String name, String result) {
+        return Counter.builder("dashboard.cache.requests")
+                .description("Dashboard cache lookups by result")
+                .tag("cache", name)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+}
@@ -0,0 +1,85 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Collects the IDs of changed assets per transaction, so a listener handles
+ * all changes of a transaction at once instead of one event at a time.
+ * <p>
+ * The IDs are bound to the current transaction under the given owner; the
+ * action runs once with all of them right before the transaction commits or
+ * right after it has committed. Nothing runs on rollback. Without an active
+ * transaction the action runs immediately.
+ * </p>
+ */
+final class TransactionBatches {
+
+    private TransactionBatches() {
+    }
+
+    /**
+     * Adds the IDs to the batch the owner handles right before the current
+     * transaction commits.
+     *
+     * @param owner  the listener the batch belongs to
+     * @param ids    the changed asset IDs
+     * @param action handles the batch
+     */
+    static void beforeCommit(Object owner, Collection<Long> ids, Consumer<Set<Long>> action) {
+        collect(owner, ids, action, true);
+    }
+
+    /**
+     * Adds the IDs to the batch the owner handles once the current transaction
+     * has committed.
+     *
+     * @param owner  the listener the batch belongs to
+     * @param ids    the changed asset IDs
+     * @param action handles the batch
+     */
+    static void afterCommit(Object owner, Collection<Long> ids, Consumer<Set<Long>> action) {
+        collect(owner, ids, action, false);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void collect(Object owner, Collection<Long> ids, Consumer<Set<Long>> action,
+            boolean beforeCommit) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.accept(new LinkedHashSet<>(ids));
+            return;
+        }
+        Set<Long> pending = (Set<Long>) TransactionSynchronizationManager.getResource(owner);
+        if (pending == null) {
+            Set<Long> collected = new LinkedHashSet<>();
+            TransactionSynchronizationManager.bindResource(owner, collected);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (beforeCommit) {
+                        action.accept(collected);
+                    }
+                }
+
+                @Override
+                public void afterCommit() {
+                    if (!beforeCommit) {
+                        action.accept(collected);
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(owner);
+                }
+            });
+            pending = collected;
+        }
+        pending.addAll(ids);
+    }
+}
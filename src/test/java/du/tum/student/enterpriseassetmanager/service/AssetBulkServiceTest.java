@@ -0,0 +1,216 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkAssignRequest;
+import du.tum.student.enterpriseassetmanager.controller.dto.BulkOperationResultDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.Role;
+import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.User;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetsBulkChangedEvent;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.AssetRepository;
+import du.tum.student.enterpriseassetmanager.repository.UserRepository;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.AuditorAware;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.event.ApplicationEvents;
+import org.springframework.test.context.event.RecordApplicationEvents;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Bulk status changes and assignments through {@link AssetBulkService}: only
+ * assets that actually change are reported, published and applied to the
+ * dashboard counters as deltas.
+ */
+@RecordApplicationEvents
+class AssetBulkServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetBulkService bulkService;
+
+    @Autowired
+    private AssetStatsCounters statsCounters;
+
+    @Autowired
+    private AssetReadViewMaintainer readViewMaintainer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEvents events;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private AssetReadViewRepository readViewRepository;
+
+    @Autowired
+    private AuditorAware<String> auditorAware;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    private String marker;
+    private Long available;
+    private Long repairing;
+    private Long disposed;
+    private Long license;
+    private Long drifted;
+
+    @BeforeEach
+    void createAssets() {
+        marker = "bulk" + System.nanoTime();
+        available = hardware(marker + "-1", AssetStatus.AVAILABLE);
+        repairing = hardware(marker + "-2", AssetStatus.REPAIRING);
+        disposed = hardware(marker + "-3", AssetStatus.AVAILABLE);
+        assetService.deleteAsset(disposed);
+        license = assetService.createAsset(new SoftwareAsset(marker + " License", new BigDecimal("90.00"),
+                LocalDate.of(2024, 2, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 3, marker + "-KEY",
+                null)).getId();
+        drifted = hardware(marker + "-4", AssetStatus.AVAILABLE);
+
+        statsCounters.reconcile();
+        // Drift a reconciliation would pick up, but the deltas of a bulk update must not
+        jdbcTemplate.update("UPDATE asset_read_view SET status = 'REPAIRING' WHERE id = ?", drifted);
+    }
+
+    @AfterEach
+    void repairDrift() {
+        readViewMaintainer.refresh(List.of(drifted));
+        statsCounters.reconcile();
+    }
+
+    @Test
+    void statusChangesReportPublishAndCountOnlyChangedAssets() {
+        long availableBefore = statsCounters.countByStatus(AssetStatus.AVAILABLE);
+        long repairingBefore = statsCounters.countByStatus(AssetStatus.REPAIRING);
+        long hardwareBefore = statsCounters.countByType(AssetType.HARDWARE);
+
+        BulkOperationResultDto result = bulkService.changeStatus(
+                List.of(available, repairing, disposed, available, -1L), AssetStatus.REPAIRING);
+
+        assertEquals(4, result.getRequested());
+        assertEquals(1, result.getAffected());
+        assertEquals(List.of(List.of(available)), publishedIds());
+        assertEquals(availableBefore - 1, statsCounters.countByStatus(AssetStatus.AVAILABLE));
+        assertEquals(repairingBefore + 1, statsCounters.countByStatus(AssetStatus.REPAIRING));
+        assertEquals(hardwareBefore, statsCounters.countByType(AssetType.HARDWARE));
+    }
+
+    @Test
+    void disposalsRemoveValueAndLicensesFromTheCounters() {
+        long hardwareBefore = statsCounters.countByType(AssetType.HARDWARE);
+        long softwareBefore = statsCounters.countByType(AssetType.SOFTWARE);
+        long licensesBefore = statsCounters.snapshot().getActiveLicenses();
+        BigDecimal valueBefore = statsCounters.snapshot().getTotalValue();
+
+        BulkOperationResultDto result = bulkService.dispose(List.of(repairing, license, disposed));
+
+        assertEquals(2, result.getAffected());
+        assertEquals(List.of(List.of(repairing, license)), publishedIds());
+        assertEquals(hardwareBefore - 1, statsCounters.countByType(AssetType.HARDWARE));
+        assertEquals(softwareBefore - 1, statsCounters.countByType(AssetType.SOFTWARE));
+        assertEquals(licensesBefore - 1, statsCounters.snapshot().getActiveLicenses());
+        assertEquals(0, valueBefore.subtract(new BigDecimal("990.00"))
+                .compareTo(statsCounters.snapshot().getTotalValue()));
+    }
+
+    @Test
+    void assignmentsSkipUnknownUsersAndDisposedAssets() {
+        String username = "bulk" + System.nanoTime();
+        User owner = userRepository.save(User.builder().username(username).firstname("B").lastname("U")
+                .email(username + "@example.com").password("x").role(Role.USER).build());
+        long assignedBefore = statsCounters.countByStatus(AssetStatus.ASSIGNED);
+
+        BulkOperationResultDto result = bulkService.assign(List.of(
+                new BulkAssignRequest.Assignment(available, owner.getId()),
+                new BulkAssignRequest.Assignment(repairing, -1L),
+                new BulkAssignRequest.Assignment(disposed, owner.getId())));
+
+        assertEquals(1, result.getAffected());
+        assertEquals(List.of(List.of(available)), publishedIds());
+        assertEquals(assignedBefore + 1, statsCounters.countByStatus(AssetStatus.ASSIGNED));
+    }
+
+    @Test
+    void disposalByCriteriaRequiresAFilter() {
+        AssetSearchCriteria blankQuery = new AssetSearchCriteria();
+        blankQuery.setQuery("");
+
+        for (AssetSearchCriteria criteria : List.of(new AssetSearchCriteria(), blankQuery)) {
+            assertThrows(IllegalArgumentException.class, () -> bulkService.dispose(criteria));
+        }
+        assertEquals(List.of(), publishedIds());
+    }
+
+    @Test
+    void disposalByCriteriaSelectsTheIdsInSlices() {
+        // Two IDs per statement, so the four matching assets take two slices and an empty third read
+        AssetBulkService slicing = new AssetBulkService(assetRepository, readViewRepository, jdbcTemplate,
+                auditorAware, eventPublisher, 2);
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(marker);
+
+        BulkOperationResultDto result = transactionTemplate.execute(status -> slicing.dispose(criteria));
+
+        assertEquals(4, result.getRequested());
+        assertEquals(4, result.getAffected());
+        assertEquals(List.of(List.of(available, repairing, license, drifted)), publishedIds());
+        assertEquals(0L, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM asset WHERE id IN (?, ?, ?, ?) AND status <> 'DISPOSED'", Long.class,
+                available, repairing, license, drifted));
+    }
+
+    @Test
+    void bulkChangesCarryNoSearchTextAfterTheChange() {
+        String username = "bulk" + System.nanoTime();
+        User owner = userRepository.save(User.builder().username(username).firstname("B").lastname("U")
+                .email(username + "@example.com").password("x").role(Role.USER).build());
+
+        bulkService.assign(List.of(new BulkAssignRequest.Assignment(available, owner.getId())));
+
+        AssetChangedEvent change = events.stream(AssetsBulkChangedEvent.class).findFirst().orElseThrow()
+                .changes().getFirst();
+        assertTrue(change.before().searchText().contains(marker.toLowerCase()));
+        assertEquals(AssetStatus.ASSIGNED, change.after().status());
+        assertNull(change.after().searchText());
+    }
+
+    private List<List<Long>> publishedIds() {
+        return events.stream(AssetsBulkChangedEvent.class).map(AssetsBulkChangedEvent::assetIds).toList();
+    }
+
+    private Long hardware(String name, AssetStatus status) {
+        return assetService.createAsset(new HardwareAsset(name, new BigDecimal("900.00"), LocalDate.of(2024, 2, 1),
+                status, BigDecimal.ZERO, 4, name, "Office A", null, null)).getId();
+    }
+}
@@ -0,0 +1,119 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.Locale;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Totals of paginated searches in every {@link CountMode}, and the cached
+ * counts and counter fallback of {@link AssetCountEstimator}.
+ */
+class AssetCountEstimatorTest extends PostgresIntegrationTest {
+
+    private static final int ASSETS = 7;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetCountEstimator countEstimator;
+
+    @Autowired
+    private AssetStatsCounters statsCounters;
+
+    private String marker;
+
+    @BeforeEach
+    void createAssets() {
+        marker = "estimate" + System.nanoTime();
+        for (int i = 0; i < ASSETS; i++) {
+            create(marker + " Laptop " + i);
+        }
+        countEstimator.invalidate();
+    }
+
+    @Test
+    void everyCountModeDeterminesTheTotalItsOwnWay() {
+        Slice<AssetSummaryDto> exact = search(criteria(marker), 0, CountMode.EXACT);
+        assertEquals(ASSETS, assertInstanceOf(Page.class, exact).getTotalElements());
+
+        Slice<AssetSummaryDto> none = search(criteria(marker), 0, CountMode.NONE);
+        assertFalse(none instanceof Page);
+        assertEquals(2, none.getNumberOfElements());
+        assertTrue(none.hasNext());
+
+        Slice<AssetSummaryDto> estimated = search(criteria(marker), 0, CountMode.ESTIMATED);
+        assertEquals(ASSETS, assertInstanceOf(Page.class, estimated).getTotalElements());
+
+        // The last page proves the total without a count
+        Slice<AssetSummaryDto> last = search(criteria(marker), 3, CountMode.ESTIMATED);
+        assertEquals(1, last.getNumberOfElements());
+        assertEquals(ASSETS, ((Page<?>) last).getTotalElements());
+    }
+
+    @Test
+    void countsAreReusedForEquivalentCriteriaUntilInvalidated() {
+        AssetSearchCriteria first = criteria(marker);
+        assertEquals(ASSETS, estimatedTotal(first));
+        // Changing the caller's object afterwards does not touch the cached key
+        first.setQuery(marker + " nothing");
+
+        create(marker + " Laptop " + ASSETS);
+
+        // Same assets, differently spelled: served from the cached count
+        assertEquals(ASSETS, estimatedTotal(criteria(marker.toUpperCase(Locale.ROOT))));
+        assertEquals(ASSETS, estimatedTotal(criteria(marker)));
+
+        countEstimator.invalidate();
+        assertEquals(ASSETS + 1, estimatedTotal(criteria(marker)));
+    }
+
+    @Test
+    void statusOnlyFiltersAreAnsweredFromTheCounters() {
+        statsCounters.reconcile();
+        AssetSearchCriteria available = new AssetSearchCriteria();
+        available.setStatus(AssetStatus.AVAILABLE);
+
+        Slice<AssetSummaryDto> page = assetService.searchAssets(available, PageRequest.of(0, 1),
+                CountMode.ESTIMATED);
+
+        assertEquals(Math.max(statsCounters.countByStatus(AssetStatus.AVAILABLE), 2),
+                ((Page<?>) page).getTotalElements());
+    }
+
+    private long estimatedTotal(AssetSearchCriteria criteria) {
+        return ((Page<?>) search(criteria, 0, CountMode.ESTIMATED)).getTotalElements();
+    }
+
+    private Slice<AssetSummaryDto> search(AssetSearchCriteria criteria, int page, CountMode countMode) {
+        return assetService.searchAssets(criteria, PageRequest.of(page, 2), countMode);
+    }
+
+    private void create(String name) {
+        assetService.createAsset(new HardwareAsset(name, new BigDecimal("500.00"), LocalDate.of(2024, 5, 1),
+                AssetStatus.AVAILABLE, BigDecimal.ZERO, 4, name, "Office A", null, null));
+    }
+
+    private static AssetSearchCriteria criteria(String query) {
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(query);
+        return criteria;
+    }
+}
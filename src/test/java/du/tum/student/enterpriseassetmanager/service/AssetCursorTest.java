@@ -0,0 +1,87 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.Sort;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Encoding, decoding and validation of {@link AssetCursor} tokens.
+ */
+class AssetCursorTest {
+
+    @Test
+    void roundTripsEveryKeyType() {
+        List<AssetCursor> cursors = List.of(
+                new AssetCursor("id", Sort.Direction.ASC, 42L, 42),
+                new AssetCursor("name", Sort.Direction.DESC, "Laptop\n14\" / model\nB", 7),
+                new AssetCursor("name", Sort.Direction.ASC, "", 8),
+                new AssetCursor("name", Sort.Direction.ASC, "\u00dcberwachung \u2013 \u76d1\u89c6\u5668 \r\n", 9),
+                new AssetCursor("purchasePrice", Sort.Direction.ASC, new BigDecimal("1500.00"), 10),
+                new AssetCursor("purchasePrice", Sort.Direction.DESC, new BigDecimal("-0.005"), 11),
+                new AssetCursor("purchaseDate", Sort.Direction.ASC, LocalDate.of(2024, 2, 29), 12),
+                new AssetCursor("createdAt", Sort.Direction.DESC, LocalDateTime.of(2024, 3, 1, 8, 30, 0, 123456789),
+                        13),
+                new AssetCursor("createdAt", Sort.Direction.ASC, LocalDateTime.of(2024, 3, 1, 0, 0), 14));
+
+        for (AssetCursor cursor : cursors) {
+            String token = cursor.encode();
+            assertTrue(token.matches("[A-Za-z0-9_-]+"), token);
+            assertEquals(cursor, AssetCursor.decode(token));
+        }
+    }
+
+    @Test
+    void scientificDecimalsDecodeToTheSameValue() {
+        // Encoded in plain notation, so only the scale may differ
+        AssetCursor decoded = AssetCursor.decode(
+                new AssetCursor("purchasePrice", Sort.Direction.ASC, new BigDecimal("1E+3"), 1).encode());
+        assertEquals(0, new BigDecimal("1000").compareTo((BigDecimal) decoded.key()));
+    }
+
+    @Test
+    void roundTripsNullKeys() {
+        for (String sortBy : List.of("name", "purchasePrice", "purchaseDate", "createdAt")) {
+            AssetCursor cursor = new AssetCursor(sortBy, Sort.Direction.DESC, null, 5);
+            assertEquals(cursor, AssetCursor.decode(cursor.encode()));
+        }
+        // An empty name is a key, not a missing one
+        assertEquals("", AssetCursor.decode(new AssetCursor("name", Sort.Direction.ASC, "", 5).encode()).key());
+    }
+
+    @Test
+    void rejectsMalformedAndTamperedTokens() {
+        List<String> tokens = List.of(
+                "",
+                "not base64!",
+                encode("name\nASC"),
+                encode("serialNumber\nASC\n1\nx"),
+                encode("name\nSIDEWAYS\n1\nx"),
+                encode("name\nASC\none\nx"),
+                encode("id\nASC\n1\nx"),
+                encode("purchasePrice\nASC\n1\n12,50"),
+                encode("purchasePrice\nASC\n1\n1E+999999999"),
+                encode("purchasePrice\nASC\n1\n0." + "1".repeat(40)),
+                encode("purchaseDate\nASC\n1\n2024-02-30"),
+                encode("purchaseDate\nASC\n1\n+10000-01-01"),
+                encode("createdAt\nDESC\n1\n0000-12-31T00:00"),
+                encode("name\nASC\n1\nnul\0byte"));
+
+        for (String token : tokens) {
+            assertThrows(IllegalArgumentException.class, () -> AssetCursor.decode(token), token);
+        }
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
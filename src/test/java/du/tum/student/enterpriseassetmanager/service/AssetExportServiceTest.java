@@ -0,0 +1,175 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.AssetExportController;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetExportDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.ImportReportDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Exports through {@link AssetExportService} and
+ * {@link AssetExportController}: filtering, CSV escaping, NDJSON lines and
+ * importing an exported CSV again.
+ */
+class AssetExportServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetExportService exportService;
+
+    @Autowired
+    private AssetExportController exportController;
+
+    @Autowired
+    private AssetImportService importService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    private String marker;
+    private HardwareAsset laptop;
+    private SoftwareAsset suite;
+
+    @BeforeEach
+    void createAssets() {
+        marker = "export" + System.nanoTime();
+        HardwareAsset hardware = new HardwareAsset(marker + " Laptop, 14\"", new BigDecimal("1200.50"),
+                LocalDate.of(2024, 1, 15), AssetStatus.AVAILABLE, new BigDecimal("100.00"), 4,
+                marker + "-SN", "Office A", null, null);
+        hardware.setWarrantyDate(LocalDate.of(2027, 1, 15));
+        laptop = assetService.createAsset(hardware);
+        suite = assetService.createAsset(new SoftwareAsset(marker + " Suite\nPro", new BigDecimal("300.00"),
+                LocalDate.of(2024, 2, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 3,
+                marker + "-KEY", LocalDate.of(2027, 2, 1)));
+        // Outside the filter
+        assetService.createAsset(new HardwareAsset("Unrelated Laptop", new BigDecimal("900.00"),
+                LocalDate.of(2024, 1, 15), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                "unrelated-" + System.nanoTime(), "Office A", null, null));
+    }
+
+    @Test
+    void csvContainsTheFilteredAssetsEscaped() throws IOException {
+        String csv = exportCsv(criteria(marker, null));
+        List<List<String>> records = parse(csv);
+
+        assertEquals(AssetCsvFormat.COLUMNS, records.getFirst());
+        assertEquals(3, records.size(), "header and the two matching assets");
+        assertTrue(csv.contains("\"" + marker + " Laptop, 14\"\"\""), csv);
+        assertTrue(csv.contains("\"" + marker + " Suite\nPro\""), csv);
+
+        List<String> laptopRow = records.get(1);
+        assertEquals(laptop.getId().toString(), cell(laptopRow, "id"));
+        assertEquals("HARDWARE", cell(laptopRow, "type"));
+        assertEquals(marker + " Laptop, 14\"", cell(laptopRow, "name"));
+        assertEquals("1200.50", cell(laptopRow, "purchasePrice"));
+        assertEquals(marker + "-SN", cell(laptopRow, "serialNumber"));
+        assertEquals("2027-01-15", cell(laptopRow, "warrantyDate"));
+        assertEquals("", cell(laptopRow, "licenseKey"));
+
+        List<String> suiteRow = records.get(2);
+        assertEquals(suite.getId().toString(), cell(suiteRow, "id"));
+        assertEquals(marker + " Suite\nPro", cell(suiteRow, "name"));
+        assertEquals(marker + "-KEY", cell(suiteRow, "licenseKey"));
+        assertEquals("", cell(suiteRow, "serialNumber"));
+    }
+
+    @Test
+    void ndjsonHasOneLinePerFilteredAsset() throws IOException {
+        ResponseEntity<StreamingResponseBody> response =
+                exportController.exportAssets(criteria(marker, AssetType.SOFTWARE), "ndjson");
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        List<String> lines = out.toString(StandardCharsets.UTF_8).lines().toList();
+
+        assertEquals("application/x-ndjson", response.getHeaders().getContentType().toString());
+        assertEquals(1, lines.size(), "the line break in the name is escaped");
+        AssetExportDto row = objectMapper.readValue(lines.getFirst(), AssetExportDto.class);
+        assertEquals(suite.getId(), row.getId());
+        assertEquals(marker + " Suite\nPro", row.getName());
+        assertEquals(marker + "-KEY", row.getLicenseKey());
+        assertEquals(0, new BigDecimal("300.00").compareTo(row.getPurchasePrice()));
+    }
+
+    @Test
+    void exportedCsvCanBeImportedAgain() throws IOException {
+        String exported = exportCsv(criteria(marker, null));
+        // Serial numbers and license keys are unique, so the copy gets its own
+        String copy = "copy" + System.nanoTime();
+
+        ImportReportDto report = importService.importCsv(
+                new ByteArrayInputStream(exported.replace(marker, copy).getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals(2, report.getTotalRows());
+        assertEquals(2, report.getImportedRows(), () -> String.valueOf(report.getErrors()));
+        assertEquals(0, report.getFailedRows());
+
+        List<List<String>> original = parse(exported);
+        List<List<String>> imported = parse(exportCsv(criteria(copy, null)));
+        assertEquals(original.size(), imported.size());
+        for (int i = 1; i < original.size(); i++) {
+            assertEquals(withoutGeneratedColumns(original.get(i)),
+                    withoutGeneratedColumns(imported.get(i)).stream().map(v -> v.replace(copy, marker)).toList(),
+                    "row " + i);
+        }
+    }
+
+    private String exportCsv(AssetSearchCriteria criteria) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        exportService.exportCsv(criteria, out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static List<List<String>> parse(String csv) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+
+    private static String cell(List<String> record, String column) {
+        return record.get(AssetCsvFormat.COLUMNS.indexOf(column));
+    }
+
+    private static List<String> withoutGeneratedColumns(List<String> record) {
+        List<String> values = new ArrayList<>(record);
+        // Remove from the back so the earlier index stays valid
+        values.remove(AssetCsvFormat.COLUMNS.indexOf("createdAt"));
+        values.remove(AssetCsvFormat.COLUMNS.indexOf("id"));
+        return values;
+    }
+
+    private static AssetSearchCriteria criteria(String query, AssetType type) {
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(query);
+        criteria.setType(type);
+        return criteria;
+    }
+}
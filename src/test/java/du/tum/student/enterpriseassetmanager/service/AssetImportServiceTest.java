@@ -0,0 +1,89 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.ImportErrorDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.ImportReportDto;
+import du.tum.student.enterpriseassetmanager.exception.AssetNotFoundException;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * CSV imports through {@link AssetImportService}: a row the database rejects
+ * fails alone, while the rest of its chunk is retried and imported.
+ */
+class AssetImportServiceTest extends PostgresIntegrationTest {
+
+    private static final String HEADER =
+            "type,name,purchasePrice,purchaseDate,usefulLifeYears,serialNumber,location,licenseKey\r\n";
+
+    @Autowired
+    private AssetImportService importService;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Test
+    void aRowFailingInTheDatabaseIsReportedAndTheRestOfItsChunkIsImported() throws IOException {
+        String marker = "import" + System.nanoTime();
+        String csv = HEADER
+                + "HARDWARE,\"Laptop, 14\"\"\",1200.00,2024-01-15,4," + marker + "-1,Office A,\r\n"
+                + "SOFTWARE,Office Suite,300.00,2024-01-15,3,,,\"" + marker + "-KEY\"\r\n"
+                // Same serial number as row 1: only the database notices
+                + "HARDWARE,Laptop copy,1200.00,2024-01-15,4," + marker + "-1,Office A,\r\n"
+                + "HARDWARE,\"Dock\nwith cable\",150.00,2024-01-15,4," + marker + "-2,Office B,\r\n";
+
+        ImportReportDto report = importCsv(csv);
+
+        assertEquals(4, report.getTotalRows());
+        assertEquals(3, report.getImportedRows());
+        assertEquals(1, report.getFailedRows());
+        assertEquals(List.of(3L), rows(report));
+        assertTrue(report.getErrors().getFirst().getMessage().contains("duplicate key"),
+                report.getErrors().getFirst().getMessage());
+        assertFalse(report.isErrorsTruncated());
+
+        assertEquals("Laptop, 14\"", assetService.getAssetBySerialNumber(marker + "-1").getName());
+        assertEquals("Dock\nwith cable", assetService.getAssetBySerialNumber(marker + "-2").getName());
+    }
+
+    @Test
+    void invalidRowsAreReportedWithTheirRowNumbers() throws IOException {
+        String marker = "import" + System.nanoTime();
+        String csv = HEADER
+                + "HARDWARE,Monitor,0,2024-01-15,4," + marker + "-1,Office A,\r\n"
+                + "HARDWARE,Monitor,300.00,2024-01-15,4\r\n"
+                + "\r\n"
+                + "GADGET,Monitor,300.00,2024-01-15,4," + marker + "-2,Office A,\r\n"
+                + "HARDWARE,Monitor,300.00,2024-01-15,4,,Office A,\r\n"
+                + "HARDWARE,Monitor,300.00,2024-01-15,4," + marker + "-3,Office A,";
+
+        ImportReportDto report = importCsv(csv);
+
+        // The blank line is skipped and not numbered
+        assertEquals(5, report.getTotalRows());
+        assertEquals(1, report.getImportedRows());
+        assertEquals(List.of(1L, 2L, 3L, 4L), rows(report));
+        assertTrue(report.getErrors().get(1).getMessage().contains("Expected 8 columns but found 5"));
+        assertTrue(report.getErrors().get(3).getMessage().contains("serialNumber"));
+        assertThrows(AssetNotFoundException.class, () -> assetService.getAssetBySerialNumber(marker + "-1"));
+        assertEquals("Monitor", assetService.getAssetBySerialNumber(marker + "-3").getName());
+    }
+
+    private ImportReportDto importCsv(String csv) throws IOException {
+        return importService.importCsv(new ByteArrayInputStream(csv.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static List<Long> rows(ImportReportDto report) {
+        return report.getErrors().stream().map(ImportErrorDto::getRow).toList();
+    }
+}
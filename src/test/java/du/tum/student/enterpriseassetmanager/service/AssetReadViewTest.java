@@ -0,0 +1,128 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.Role;
+import du.tum.student.enterpriseassetmanager.domain.User;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.UserRepository;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Keeping {@code asset_read_view} in sync with the asset tables: single and
+ * bulk writes, and the rebuild repairing stale and missing rows.
+ */
+class AssetReadViewTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetBulkService assetBulkService;
+
+    @Autowired
+    private AssetReadViewRepository readViewRepository;
+
+    @Autowired
+    private AssetReadViewMaintainer readViewMaintainer;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private HardwareAsset laptop;
+
+    @BeforeEach
+    void createAsset() {
+        laptop = assetService.createAsset(new HardwareAsset("View Laptop", new BigDecimal("1500.00"),
+                LocalDate.of(2024, 3, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                "VIEW-" + System.nanoTime(), "Office C", null, null));
+    }
+
+    @Test
+    void rowFollowsCreateUpdateAssignAndDelete() {
+        AssetReadView created = row(laptop.getId());
+        assertEquals(AssetType.HARDWARE, created.getType());
+        assertEquals("Office C", created.getLocation());
+        assertEquals(laptop.getSerialNumber(), created.getSerialNumber());
+        assertNull(created.getLicenseKey());
+
+        HardwareAsset details = new HardwareAsset("View Laptop Pro", new BigDecimal("1500.00"),
+                LocalDate.of(2024, 3, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                laptop.getSerialNumber(), "Office D", null, null);
+        assetService.updateAsset(laptop.getId(), details);
+        assertEquals("View Laptop Pro", row(laptop.getId()).getName());
+        assertEquals("Office D", row(laptop.getId()).getLocation());
+
+        String username = "viewer" + System.nanoTime();
+        User owner = userRepository.save(User.builder().username(username).firstname("V").lastname("W")
+                .email(username + "@example.com").password("x").role(Role.USER).build());
+        assetService.assignAsset(laptop.getId(), owner.getId());
+        AssetReadView assigned = row(laptop.getId());
+        assertEquals(AssetStatus.ASSIGNED, assigned.getStatus());
+        assertEquals(username, assigned.getAssignedToUsername());
+        assertTrue(assigned.getSearchText().contains(username));
+
+        assetService.deleteAsset(laptop.getId());
+        assertTrue(readViewRepository.findById(laptop.getId()).isEmpty());
+    }
+
+    @Test
+    void bulkStatusChangeRebuildsAllRows() {
+        HardwareAsset second = assetService.createAsset(new HardwareAsset("View Monitor", new BigDecimal("300.00"),
+                LocalDate.of(2024, 3, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                "VIEW-M-" + System.nanoTime(), "Office C", null, null));
+
+        assetBulkService.changeStatus(List.of(laptop.getId(), second.getId()), AssetStatus.REPAIRING);
+
+        assertEquals(AssetStatus.REPAIRING, row(laptop.getId()).getStatus());
+        assertEquals(AssetStatus.REPAIRING, row(second.getId()).getStatus());
+    }
+
+    @Test
+    void rebuildRepairsStaleRows() {
+        // Changed behind the maintainer's back, e.g. by manual SQL
+        jdbcTemplate.update("UPDATE asset SET name = 'View Laptop Renamed' WHERE id = ?", laptop.getId());
+        assertEquals("View Laptop", row(laptop.getId()).getName());
+
+        assertTrue(readViewMaintainer.rebuild() >= 1);
+        AssetReadView repaired = row(laptop.getId());
+        assertEquals("View Laptop Renamed", repaired.getName());
+        assertTrue(repaired.getSearchText().contains("view laptop renamed"));
+    }
+
+    @Test
+    void rebuildRestoresMissingRowsAndSkipsCurrentOnes() {
+        jdbcTemplate.update("DELETE FROM asset_read_view WHERE id = ?", laptop.getId());
+        assertTrue(readViewRepository.findById(laptop.getId()).isEmpty());
+
+        assertTrue(readViewMaintainer.rebuild() >= 1);
+        assertEquals("View Laptop", row(laptop.getId()).getName());
+
+        // A current row is not written again: its row version stays the same
+        String version = "SELECT xmin::text FROM asset_read_view WHERE id = ?";
+        String before = jdbcTemplate.queryForObject(version, String.class, laptop.getId());
+        readViewMaintainer.rebuild();
+        assertEquals(before, jdbcTemplate.queryForObject(version, String.class, laptop.getId()));
+    }
+
+    private AssetReadView row(Long id) {
+        return readViewRepository.findById(id).orElseThrow();
+    }
+}
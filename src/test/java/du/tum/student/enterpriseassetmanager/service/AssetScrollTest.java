@@ -0,0 +1,121 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.AssetController;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetWindowDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.HashSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Keyset pagination through {@code /scroll}: windows over duplicate sort keys
+ * neither skip nor repeat rows, and a bad cursor is a client error.
+ */
+class AssetScrollTest extends PostgresIntegrationTest {
+
+    private static final int ASSETS = 9;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetController assetController;
+
+    private AssetSearchCriteria criteria;
+
+    @BeforeEach
+    void createAssets() {
+        String marker = "scroll" + System.nanoTime();
+        for (int i = 0; i < ASSETS; i++) {
+            // Three assets share every name, price and purchase date
+            int group = i % 3;
+            assetService.createAsset(new HardwareAsset(marker + " Group " + group,
+                    new BigDecimal(100 * (group + 1) + ".00"), LocalDate.of(2024, 1, 1 + group),
+                    AssetStatus.AVAILABLE, BigDecimal.ZERO, 4, marker + "-" + i, "Office A", null, null));
+        }
+        criteria = new AssetSearchCriteria();
+        criteria.setQuery(marker);
+    }
+
+    @Test
+    void windowsOverDuplicateKeysNeitherSkipNorRepeatRows() {
+        for (String sortBy : List.of("id", "name", "purchasePrice", "purchaseDate", "createdAt")) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                List<Long> expected = ids(assetService.scrollAssets(criteria, null, sortBy, direction, 100));
+                assertEquals(ASSETS, expected.size());
+
+                List<Long> scrolled = new ArrayList<>();
+                AssetWindowDto window = assetService.scrollAssets(criteria, null, sortBy, direction, 2);
+                scrolled.addAll(ids(window));
+                while (window.isHasNext()) {
+                    window = assetService.scrollAssets(criteria, AssetCursor.decode(window.getNextCursor()), sortBy,
+                            direction, 2);
+                    scrolled.addAll(ids(window));
+                }
+
+                assertEquals(expected, scrolled, sortBy + " " + direction);
+                assertEquals(ASSETS, new HashSet<>(scrolled).size());
+            }
+        }
+    }
+
+    @Test
+    void nullKeysContinueAmongTheNulls() {
+        // No name is null: ascending, nulls come last; descending, first
+        AssetCursor ascending = new AssetCursor("name", Sort.Direction.ASC, null, 0);
+        assertTrue(assetService.scrollAssets(criteria, ascending, "name", Sort.Direction.ASC, 100)
+                .getContent().isEmpty());
+
+        AssetCursor descending = new AssetCursor("name", Sort.Direction.DESC, null, 0);
+        assertEquals(ASSETS, assetService.scrollAssets(criteria, descending, "name", Sort.Direction.DESC, 100)
+                .getContent().size());
+    }
+
+    @Test
+    void malformedOrTamperedCursorsAreRejectedWithBadRequest() {
+        List<String> cursors = List.of(
+                "%%%",
+                encode("name\nASC"),
+                encode("password\nASC\n1\nx"),
+                encode("purchasePrice\nASC\n1\n1E+999999999"),
+                encode("purchaseDate\nASC\n1\n+99999-01-01"),
+                encode("name\nASC\n1\nnul\0byte"));
+
+        for (String cursor : cursors) {
+            assertEquals(HttpStatus.BAD_REQUEST,
+                    assetController.scrollAssets(criteria, cursor, 10, "id", "asc").getStatusCode(), cursor);
+        }
+
+        String valid = new AssetCursor("name", Sort.Direction.ASC, "", 0).encode();
+        AssetWindowDto window = assetController.scrollAssets(criteria, valid, 10, "id", "asc").getBody();
+        assertEquals(ASSETS, window.getContent().size());
+        assertFalse(window.isHasNext());
+    }
+
+    private static List<Long> ids(AssetWindowDto window) {
+        return window.getContent().stream().map(AssetSummaryDto::getId).toList();
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,91 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Keying, invalidation and eviction of {@link AssetSearchCache}.
+ */
+class AssetSearchCacheTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private final AssetSearchCache cache = new AssetSearchCache(meterRegistry, 2, 100);
+    private final AtomicInteger searches = new AtomicInteger();
+
+    @Test
+    void answersTheSameNormalizedSearchFromTheCache() {
+        Slice<AssetSummaryDto> first = search(criteria("Laptop", AssetStatus.AVAILABLE), 10);
+        Slice<AssetSummaryDto> second = search(criteria("lAPTOP", AssetStatus.AVAILABLE), 10);
+        search(criteria("laptop", AssetStatus.ASSIGNED), 10);
+
+        assertSame(first, second);
+        assertEquals(2, searches.get());
+        assertEquals(1.0 / 3, meterRegistry.get("search.cache.hit.ratio").gauge().value(), 1e-9);
+    }
+
+    @Test
+    void commitsInvalidateCachedAndInFlightResults() {
+        search(criteria("", null), 10);
+        cache.invalidate();
+        search(criteria(null, null), 10);
+        assertEquals(2, searches.get());
+
+        // A write committed while the search runs keeps its result out of the cache
+        cache.get(criteria("desk", null), PageRequest.of(0, 10), CountMode.EXACT, () -> {
+            cache.invalidate();
+            return page(1);
+        });
+        search(criteria("desk", null), 10);
+        assertEquals(3, searches.get());
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedResultBeyondTheBounds() {
+        search(criteria("a", null), 10);
+        search(criteria("b", null), 10);
+        search(criteria("a", null), 10);
+        search(criteria("c", null), 10);
+
+        search(criteria("a", null), 10);
+        assertEquals(3, searches.get());
+        search(criteria("b", null), 10);
+        assertEquals(4, searches.get());
+
+        // Heavier than the whole cache: never stored
+        search(criteria("big", null), 200);
+        search(criteria("big", null), 200);
+        assertEquals(6, searches.get());
+    }
+
+    private Slice<AssetSummaryDto> search(AssetSearchCriteria criteria, int size) {
+        return cache.get(criteria, PageRequest.of(0, 10), CountMode.EXACT, () -> {
+            searches.incrementAndGet();
+            return page(size);
+        });
+    }
+
+    private static Slice<AssetSummaryDto> page(int size) {
+        List<AssetSummaryDto> content = Collections.nCopies(size, null);
+        return new PageImpl<>(content, PageRequest.of(0, Math.max(size, 1)), size);
+    }
+
+    private static AssetSearchCriteria criteria(String query, AssetStatus status) {
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(query);
+        criteria.setStatus(status);
+        return criteria;
+    }
+}
@@ -0,0 +1,249 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetFacetsDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.Role;
+import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.User;
+import du.tum.student.enterpriseassetmanager.repository.UserRepository;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Checks the SQL issued for searches: typed and untyped searches, counts and
+ * facets read the flat read view alone, exact filters compare their own
+ * columns, and no search statement joins a subtype or the user table.
+ */
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "du.tum.student.enterpriseassetmanager.service.AssetSearchQueryPlanTest$CapturingInspector")
+class AssetSearchQueryPlanTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private HardwareAsset laptop;
+    private SoftwareAsset license;
+
+    /**
+     * Records every SQL statement Hibernate prepares.
+     */
+    public static class CapturingInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql.toLowerCase(Locale.ROOT));
+            return sql;
+        }
+    }
+
+    @BeforeEach
+    void createAssets() {
+        laptop = assetService.createAsset(new HardwareAsset("Plan Laptop", new BigDecimal("1200.00"),
+                LocalDate.of(2024, 1, 10), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                "PLAN-" + System.nanoTime(), "Office A", null, null));
+        license = assetService.createAsset(new SoftwareAsset("Plan License", new BigDecimal("200.00"),
+                LocalDate.of(2024, 1, 10), AssetStatus.AVAILABLE, BigDecimal.ZERO, 3,
+                "PLAN-KEY-" + System.nanoTime(), LocalDate.of(2027, 1, 10)));
+        CapturingInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void typedSearchesReadOnlyTheReadView() {
+        List<Long> software = search(AssetType.SOFTWARE);
+
+        assertTrue(software.contains(license.getId()));
+        assertFalse(software.contains(laptop.getId()));
+        assertEquals(1, CapturingInspector.STATEMENTS.size(), String.join("\n", CapturingInspector.STATEMENTS));
+        assertTrue(CapturingInspector.STATEMENTS.get(0).contains("type=?"), CapturingInspector.STATEMENTS.get(0));
+        assertReadViewOnly(CapturingInspector.STATEMENTS.get(0));
+
+        CapturingInspector.STATEMENTS.clear();
+        List<Long> hardware = search(AssetType.HARDWARE);
+
+        assertTrue(hardware.contains(laptop.getId()));
+        assertFalse(hardware.contains(license.getId()));
+        CapturingInspector.STATEMENTS.forEach(sql -> assertReadViewOnly(sql));
+    }
+
+    @Test
+    void untypedSearchReadsOnlyTheReadView() {
+        List<Long> ids = search(null);
+
+        assertTrue(ids.containsAll(List.of(laptop.getId(), license.getId())));
+        assertEquals(1, CapturingInspector.STATEMENTS.size(), String.join("\n", CapturingInspector.STATEMENTS));
+        assertReadViewOnly(CapturingInspector.STATEMENTS.get(0));
+    }
+
+    @Test
+    void typedListingCountReadsOnlyTheReadView() {
+        // A full first page makes the exact mode issue its count query
+        AssetSearchCriteria criteria = criteria(AssetType.SOFTWARE);
+        assetService.searchAssets(criteria, PageRequest.of(0, 1), CountMode.EXACT);
+
+        List<String> searches = CapturingInspector.STATEMENTS;
+        assertEquals(2, searches.size(), String.join("\n", searches));
+        assertTrue(searches.stream().anyMatch(sql -> sql.contains("count(")));
+        searches.forEach(sql -> assertReadViewOnly(sql));
+    }
+
+    @Test
+    void listingWithoutCountIssuesASingleStatement() {
+        List<Long> ids = assetService.searchAssets(criteria(null), PageRequest.of(0, 50), CountMode.NONE)
+                .map(AssetSummaryDto::getId).getContent();
+
+        assertTrue(ids.containsAll(List.of(laptop.getId(), license.getId())));
+        List<String> searches = CapturingInspector.STATEMENTS;
+        assertEquals(1, searches.size(), String.join("\n", searches));
+        assertFalse(searches.get(0).contains("count("));
+        assertReadViewOnly(searches.get(0));
+    }
+
+    @Test
+    void serialNumberLookupIsASingleHardwareStatement() {
+        HardwareAsset found = assetService.getAssetBySerialNumber(laptop.getSerialNumber());
+
+        assertEquals(laptop.getId(), found.getId());
+        List<String> lookups = assetStatements();
+        assertEquals(1, lookups.size(), String.join("\n", lookups));
+        assertTrue(lookups.get(0).contains("serial_number=?"), lookups.get(0));
+        assertFalse(lookups.get(0).contains("software_asset"), lookups.get(0));
+    }
+
+    @Test
+    void exactFiltersUseTheirColumnsWithoutJoins() {
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setSerialNumber(laptop.getSerialNumber());
+        criteria.setMinPrice(new BigDecimal("1000.00"));
+        criteria.setPurchasedFrom(LocalDate.of(2024, 1, 1));
+        List<Long> ids = assetService.searchAssets(criteria, PageRequest.of(0, 10), CountMode.NONE)
+                .map(AssetSummaryDto::getId).getContent();
+
+        assertEquals(List.of(laptop.getId()), ids);
+        CapturingInspector.STATEMENTS.forEach(sql -> {
+            assertTrue(sql.contains("serial_number=?"), sql);
+            assertReadViewOnly(sql);
+        });
+
+        criteria = new AssetSearchCriteria();
+        criteria.setAssignedToUserId(-1L);
+        CapturingInspector.STATEMENTS.clear();
+        assertTrue(assetService.searchAssets(criteria, PageRequest.of(0, 10), CountMode.NONE).isEmpty());
+        CapturingInspector.STATEMENTS.forEach(sql -> {
+            assertTrue(sql.contains("assigned_to_id=?"), sql);
+            assertReadViewOnly(sql);
+        });
+    }
+
+    @Test
+    void facetsComeFromOneGroupedStatement() {
+        String marker = "facet" + System.nanoTime();
+        User owner = userRepository.save(User.builder().username(marker).firstname("Fay").lastname("Cet")
+                .email(marker + "@example.com").password("x").role(Role.USER).build());
+        HardwareAsset desk = assetService.createAsset(new HardwareAsset(marker + " Desk", new BigDecimal("300.00"),
+                LocalDate.of(2024, 1, 10), AssetStatus.AVAILABLE, BigDecimal.ZERO, 5,
+                marker + "-1", "Room 1", null, null));
+        assetService.createAsset(new HardwareAsset(marker + " Chair", new BigDecimal("100.00"),
+                LocalDate.of(2024, 1, 10), AssetStatus.AVAILABLE, BigDecimal.ZERO, 5,
+                marker + "-2", "Room 2", null, null));
+        assetService.createAsset(new SoftwareAsset(marker + " Suite", new BigDecimal("50.00"),
+                LocalDate.of(2024, 1, 10), AssetStatus.AVAILABLE, BigDecimal.ZERO, 3,
+                marker + "-KEY", LocalDate.of(2027, 1, 10)));
+        assetService.assignAsset(desk.getId(), owner.getId());
+        CapturingInspector.STATEMENTS.clear();
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(marker);
+        AssetFacetsDto facets = assetService.getFacets(criteria);
+
+        assertEquals(Map.of(AssetStatus.ASSIGNED, 1L, AssetStatus.AVAILABLE, 2L), facets.getStatus());
+        assertEquals(Map.of(AssetType.HARDWARE, 2L, AssetType.SOFTWARE, 1L), facets.getType());
+        assertEquals(Map.of("Room 1", 1L, "Room 2", 1L), facets.getLocation());
+        assertEquals(1, facets.getAssigned());
+        assertEquals(2, facets.getUnassigned());
+        assertEquals(1, CapturingInspector.STATEMENTS.size(), String.join("\n", CapturingInspector.STATEMENTS));
+        assertTrue(CapturingInspector.STATEMENTS.get(0).contains("group by"));
+        assertReadViewOnly(CapturingInspector.STATEMENTS.get(0));
+    }
+
+    @Test
+    void listingsReadAssigneesFromTheReadView() {
+        String marker = "owners" + System.nanoTime();
+        for (int i = 0; i < 3; i++) {
+            User owner = userRepository.save(User.builder().username(marker + i).firstname("O").lastname("W")
+                    .email(marker + i + "@example.com").password("x").role(Role.USER).build());
+            HardwareAsset asset = assetService.createAsset(new HardwareAsset(marker + " Phone " + i,
+                    new BigDecimal("400.00"), LocalDate.of(2024, 1, 10), AssetStatus.AVAILABLE, BigDecimal.ZERO, 3,
+                    marker + "-" + i, "Office B", null, null));
+            assetService.assignAsset(asset.getId(), owner.getId());
+        }
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(marker);
+        CapturingInspector.STATEMENTS.clear();
+        List<AssetSummaryDto> found = assetService.searchAssets(criteria, PageRequest.of(0, 10), CountMode.NONE)
+                .getContent();
+
+        assertEquals(3, found.size());
+        assertEquals(Set.of(marker + 0, marker + 1, marker + 2),
+                found.stream().map(AssetSummaryDto::getAssignedToUsername).collect(Collectors.toSet()));
+        assertEquals(1, CapturingInspector.STATEMENTS.size(), String.join("\n", CapturingInspector.STATEMENTS));
+        assertReadViewOnly(CapturingInspector.STATEMENTS.get(0));
+
+        CapturingInspector.STATEMENTS.clear();
+        assertEquals(5, assetService.findRecentAssets().size());
+        assertEquals(1, CapturingInspector.STATEMENTS.size(), String.join("\n", CapturingInspector.STATEMENTS));
+        assertReadViewOnly(CapturingInspector.STATEMENTS.get(0));
+    }
+
+    private List<Long> search(AssetType type) {
+        return assetService.searchAssets(criteria(type), PageRequest.of(0, 500), CountMode.NONE)
+                .map(AssetSummaryDto::getId).getContent();
+    }
+
+    private static AssetSearchCriteria criteria(AssetType type) {
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery("plan");
+        criteria.setType(type);
+        return criteria;
+    }
+
+    private static void assertReadViewOnly(String sql) {
+        assertTrue(sql.contains("asset_read_view"), sql);
+        assertFalse(sql.contains(" join "), sql);
+        assertFalse(sql.contains("hardware_asset"), sql);
+        assertFalse(sql.contains(" _user "), sql);
+    }
+
+    private static List<String> assetStatements() {
+        // Statements of the search itself; secondary selects of other tables are left out
+        return CapturingInspector.STATEMENTS.stream()
+                .filter(sql -> sql.startsWith("select") && sql.contains(" asset "))
+                .toList();
+    }
+}
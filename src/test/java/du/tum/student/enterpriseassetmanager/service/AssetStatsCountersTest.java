@@ -0,0 +1,228 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.event.AssetChangedEvent;
+import du.tum.student.enterpriseassetmanager.event.AssetSnapshot;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.StatusBreakdown;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Deltas applied to {@link AssetStatsCounters} while a reconciliation reads
+ * the database are neither lost nor counted twice, whether their transaction
+ * committed before, during or after the reconciliation's snapshot.
+ */
+class AssetStatsCountersTest {
+
+    private final Clock clock = Clock.fixed(
+            LocalDate.of(2026, 2, 28).atStartOfDay(ZoneId.of("UTC")).toInstant(), ZoneId.of("UTC"));
+
+    /**
+     * The committed hardware assets per status, as the aggregate queries see them.
+     */
+    private final Map<AssetStatus, Long> database = new EnumMap<>(AssetStatus.class);
+
+    /**
+     * Transactions that have passed their before-commit phase but not yet
+     * committed, and the ID the next transaction gets.
+     */
+    private final Set<Long> inProgress = new TreeSet<>();
+    private long nextTransactionId = 100;
+    private long currentTransactionId;
+
+    /**
+     * Run before the reconciliation takes its snapshot, and while it queries
+     * the database.
+     */
+    private Runnable beforeSnapshot = () -> { };
+    private Runnable duringQuery = () -> { };
+
+    private final AssetStatsCounters counters = new AssetStatsCounters(repository(), transactionManager(), clock);
+
+    @Test
+    void deltasCommittedDuringReconciliationSurviveTheReset() {
+        database.put(AssetStatus.AVAILABLE, 3L);
+        counters.reconcile();
+        assertEquals(3, counters.countByStatus(AssetStatus.AVAILABLE));
+
+        // Committed after the snapshot was taken: the queries still return 3
+        duringQuery = () -> commit(begin(AssetChangedEvent.created(hardware(4L, AssetStatus.AVAILABLE))),
+                () -> database.put(AssetStatus.AVAILABLE, 4L));
+        counters.reconcile();
+
+        assertEquals(4, counters.countByStatus(AssetStatus.AVAILABLE));
+        assertEquals(4, counters.countByType(AssetType.HARDWARE));
+        assertEquals(new BigDecimal("400.00"), counters.snapshot().getTotalValue());
+    }
+
+    @Test
+    void deltasCommittedBeforeTheSnapshotAreNotReplayed() {
+        database.put(AssetStatus.AVAILABLE, 3L);
+        counters.reconcile();
+
+        // Delivered while the reconciliation runs, but already in its snapshot
+        beforeSnapshot = () -> commit(begin(AssetChangedEvent.created(hardware(4L, AssetStatus.AVAILABLE))),
+                () -> database.put(AssetStatus.AVAILABLE, 4L));
+        counters.reconcile();
+
+        assertEquals(4, counters.countByStatus(AssetStatus.AVAILABLE));
+        assertEquals(4, counters.snapshot().getTotalAssets());
+        assertEquals(new BigDecimal("400.00"), counters.snapshot().getTotalValue());
+    }
+
+    @Test
+    void deltasOfTransactionsInProgressAtTheSnapshotAreReplayed() {
+        database.put(AssetStatus.AVAILABLE, 3L);
+        counters.reconcile();
+
+        // Committing while the snapshot is taken, so the snapshot does not see it
+        long transaction = begin(AssetChangedEvent.created(hardware(4L, AssetStatus.AVAILABLE)));
+        duringQuery = () -> {
+            duringQuery = () -> { };
+            commit(transaction, () -> database.put(AssetStatus.AVAILABLE, 4L));
+        };
+        counters.reconcile();
+
+        assertEquals(4, counters.countByStatus(AssetStatus.AVAILABLE));
+        counters.reconcile();
+        assertEquals(4, counters.countByStatus(AssetStatus.AVAILABLE));
+    }
+
+    @Test
+    void deltasAppliedBeforeReconciliationAreNotReplayed() {
+        database.put(AssetStatus.AVAILABLE, 3L);
+        counters.reconcile();
+
+        commit(begin(AssetChangedEvent.updated(hardware(1L, AssetStatus.AVAILABLE),
+                hardware(1L, AssetStatus.REPAIRING))), () -> {
+                    database.put(AssetStatus.AVAILABLE, 2L);
+                    database.put(AssetStatus.REPAIRING, 1L);
+                });
+        assertEquals(2, counters.countByStatus(AssetStatus.AVAILABLE));
+
+        counters.reconcile();
+        counters.reconcile();
+
+        assertEquals(2, counters.countByStatus(AssetStatus.AVAILABLE));
+        assertEquals(1, counters.countByStatus(AssetStatus.REPAIRING));
+        assertEquals(3, counters.countByType(AssetType.HARDWARE));
+    }
+
+    @Test
+    void rolledBackChangesAreNeverApplied() {
+        database.put(AssetStatus.AVAILABLE, 3L);
+        counters.reconcile();
+
+        begin(AssetChangedEvent.created(hardware(4L, AssetStatus.AVAILABLE)));
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertEquals(3, counters.countByStatus(AssetStatus.AVAILABLE));
+    }
+
+    /**
+     * Publishes the event in a new transaction and runs it up to its commit.
+     */
+    private long begin(AssetChangedEvent event) {
+        long transaction = nextTransactionId++;
+        inProgress.add(transaction);
+        TransactionSynchronizationManager.initSynchronization();
+        counters.onAssetChanged(event);
+        currentTransactionId = transaction;
+        TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+        return transaction;
+    }
+
+    /**
+     * Commits a transaction started by {@link #begin}, writing its rows first.
+     */
+    private void commit(long transaction, Runnable write) {
+        write.run();
+        inProgress.remove(transaction);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        synchronizations.forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_COMMITTED));
+        TransactionSynchronizationManager.clearSynchronization();
+    }
+
+    /**
+     * The snapshot a new transaction would take, in PostgreSQL's text form.
+     */
+    private String currentSnapshot() {
+        long xmin = inProgress.isEmpty() ? nextTransactionId : inProgress.iterator().next();
+        return xmin + ":" + nextTransactionId + ":"
+                + inProgress.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    private static AssetSnapshot hardware(Long id, AssetStatus status) {
+        return new AssetSnapshot(id, AssetType.HARDWARE, status, new BigDecimal("100.00"), null, "laptop");
+    }
+
+    private AssetReadViewRepository repository() {
+        return (AssetReadViewRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { AssetReadViewRepository.class }, (proxy, method, args) -> switch (method.getName()) {
+                    case "summarizeByStatus" -> {
+                        if (args[0] == AssetType.SOFTWARE) {
+                            yield List.of();
+                        }
+                        List<StatusBreakdown> rows = new ArrayList<>();
+                        database.forEach((status, count) -> rows.add(new Row(status, count,
+                                new BigDecimal("100.00").multiply(BigDecimal.valueOf(count)))));
+                        duringQuery.run();
+                        yield rows;
+                    }
+                    case "countActiveLicenses" -> 0L;
+                    case "currentSnapshot" -> {
+                        beforeSnapshot.run();
+                        beforeSnapshot = () -> { };
+                        yield currentSnapshot();
+                    }
+                    case "currentTransactionId" -> String.valueOf(currentTransactionId);
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private static PlatformTransactionManager transactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+
+    private record Row(AssetStatus getStatus, long getAssetCount, BigDecimal getTotalValue)
+            implements StatusBreakdown {
+    }
+}
@@ -0,0 +1,62 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSuggestionDto.Field;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Prefix completion, reference counting and replacement in
+ * {@link AssetSuggestIndex}.
+ */
+class AssetSuggestIndexTest {
+
+    private final AssetSuggestIndex index = new AssetSuggestIndex();
+
+    @Test
+    void completesPrefixesCaseInsensitivelyShortestFirst() {
+        index.put(1, List.of(term("Zenbook Notebook", Field.NAME), term("ZB-7731", Field.SERIAL_NUMBER)));
+        index.put(2, List.of(term("Zenbook", Field.NAME)));
+        index.put(3, List.of(term("Office Suite", Field.NAME), term("zoe", Field.USERNAME)));
+
+        assertEquals(List.of("Zenbook", "Zenbook Notebook"), texts(index.complete("ZEN", 10)));
+        assertEquals(List.of("ZB-7731", "Zenbook", "Zenbook Notebook", "zoe"), texts(index.complete("z", 10)));
+        assertEquals(List.of("ZB-7731", "Zenbook"), texts(index.complete("z", 2)));
+        assertTrue(index.complete("x", 10).isEmpty());
+    }
+
+    @Test
+    void countsSharedValuesAndDropsThemWithTheLastAsset() {
+        index.put(1, List.of(term("Monitor", Field.NAME)));
+        index.put(2, List.of(term("Monitor", Field.NAME)));
+        assertEquals(2, index.complete("mon", 10).get(0).assets());
+
+        index.remove(1);
+        assertEquals(1, index.complete("mon", 10).get(0).assets());
+
+        index.remove(2);
+        assertTrue(index.complete("mon", 10).isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void putReplacesThePreviousValuesOfAnAsset() {
+        index.put(1, List.of(term("Old Name", Field.NAME)));
+        index.put(1, List.of(term("New Name", Field.NAME), term(" ", Field.USERNAME)));
+
+        assertTrue(index.complete("old", 10).isEmpty());
+        assertEquals(List.of("New Name"), texts(index.complete("new", 10)));
+        assertEquals(1, index.size());
+    }
+
+    private static AssetSuggestIndex.Term term(String text, Field field) {
+        return new AssetSuggestIndex.Term(text, field);
+    }
+
+    private static List<String> texts(List<AssetSuggestIndex.Entry> entries) {
+        return entries.stream().map(entry -> entry.term().text()).toList();
+    }
+}
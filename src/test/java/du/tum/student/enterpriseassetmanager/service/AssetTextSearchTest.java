@@ -0,0 +1,127 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.Role;
+import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.User;
+import du.tum.student.enterpriseassetmanager.repository.AssetReadViewRepository;
+import du.tum.student.enterpriseassetmanager.repository.UserRepository;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Text search against a PostgreSQL container: matching through the search
+ * text of the read view, its trigram index and relevance ranking.
+ */
+class AssetTextSearchTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private AssetReadViewRepository readViewRepository;
+
+    private HardwareAsset notebook;
+    private HardwareAsset notebookDock;
+    private SoftwareAsset license;
+
+    @BeforeEach
+    void createAssets() {
+        User owner = userRepository.findByUsername("ksearcher").orElseGet(() -> userRepository.save(User.builder()
+                .username("ksearcher").firstname("Kim").lastname("Searcher").email("ksearcher@example.com")
+                .password("x").role(Role.USER).build()));
+
+        notebook = assetService.createAsset(hardware("Zenbook Notebook", "ZB-7731-Q"));
+        notebookDock = assetService.createAsset(hardware("Docking Station for Zenbook Notebook", "DS-0042-Q"));
+        license = assetService.createAsset(software("Office Suite", "KEY-QX-5521"));
+        assetService.assignAsset(license.getId(), owner.getId());
+    }
+
+    @Test
+    void trigramIndexIsCreated() {
+        Integer indexes = jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM pg_indexes WHERE indexname = 'idx_asset_read_view_search_text_trgm'", Integer.class);
+        assertEquals(1, indexes);
+    }
+
+    @Test
+    void matchesNameSerialLicenseAndUsernameCaseInsensitively() {
+        assertTrue(search("zenBOOK").contains(notebook.getId()));
+        assertTrue(search("7731-q").contains(notebook.getId()));
+        assertTrue(search("qx-5521").contains(license.getId()));
+        assertTrue(search("KSEARCH").contains(license.getId()));
+        assertTrue(search("no such asset anywhere").isEmpty());
+    }
+
+    @Test
+    void relevanceRanksTheCloserMatchFirst() {
+        AssetSearchCriteria criteria = criteria("zenbook notebook");
+        List<Long> ranked = assetService.searchAssets(criteria,
+                        PageRequest.of(0, 50, Sort.by(AssetSearchEngine.RELEVANCE_SORT)), CountMode.NONE)
+                .map(AssetSummaryDto::getId).getContent();
+
+        assertTrue(ranked.indexOf(notebook.getId()) < ranked.indexOf(notebookDock.getId()));
+    }
+
+    @Test
+    void relevanceFallsBackToIdOrderWithoutTheTrigramExtension() {
+        jdbcTemplate.execute("DROP EXTENSION pg_trgm CASCADE");
+        try {
+            List<Long> ranked = new JpaAssetSearchEngine(readViewRepository).search(criteria("zenbook notebook"),
+                            PageRequest.of(0, 50, Sort.by(AssetSearchEngine.RELEVANCE_SORT)))
+                    .map(AssetReadView::getId).getContent();
+
+            assertTrue(ranked.indexOf(notebook.getId()) >= 0);
+            assertTrue(ranked.indexOf(notebook.getId()) < ranked.indexOf(notebookDock.getId()));
+            assertEquals(ranked.stream().sorted().toList(), ranked, "ordered by ID");
+        } finally {
+            jdbcTemplate.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+            jdbcTemplate.execute("CREATE INDEX IF NOT EXISTS idx_asset_read_view_search_text_trgm"
+                    + " ON asset_read_view USING gin (search_text gin_trgm_ops)");
+        }
+    }
+
+    private List<Long> search(String query) {
+        return assetService.searchAssets(criteria(query), PageRequest.of(0, 50), CountMode.NONE)
+                .map(AssetSummaryDto::getId).getContent();
+    }
+
+    private static AssetSearchCriteria criteria(String query) {
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(query);
+        return criteria;
+    }
+
+    private static HardwareAsset hardware(String name, String serialNumber) {
+        return new HardwareAsset(name, new BigDecimal("1500.00"), LocalDate.of(2024, 3, 1),
+                AssetStatus.AVAILABLE, BigDecimal.ZERO, 4, serialNumber + "-" + System.nanoTime(), "Office B",
+                null, null);
+    }
+
+    private static SoftwareAsset software(String name, String licenseKey) {
+        return new SoftwareAsset(name, new BigDecimal("300.00"), LocalDate.of(2024, 3, 1),
+                AssetStatus.AVAILABLE, BigDecimal.ZERO, 3, licenseKey, LocalDate.of(2027, 3, 1));
+    }
+}
@@ -0,0 +1,169 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Substring matching, updates, removal and paging in
+ * {@link AssetTrigramIndex}, checked against a brute-force scan.
+ */
+class AssetTrigramIndexTest {
+
+    private final AssetTrigramIndex index = new AssetTrigramIndex();
+
+    @Test
+    void matchesSubstringsOfAnyLengthAndFiltersByStatusAndType() {
+        index.put(1, AssetType.HARDWARE, AssetStatus.AVAILABLE, "zenbook notebook zb-7731");
+        index.put(2, AssetType.HARDWARE, AssetStatus.ASSIGNED, "docking station zb-0042 kim");
+        index.put(3, AssetType.SOFTWARE, AssetStatus.AVAILABLE, "office suite key-qx-5521");
+
+        assertEquals(List.of(1L, 2L), ids("zb-"));
+        assertEquals(List.of(1L), ids("book"));
+        assertEquals(List.of(2L), ids("ki"));
+        assertEquals(List.of(1L, 2L, 3L), ids("o"));
+        assertEquals(List.of(1L, 2L, 3L), ids(""));
+        assertTrue(ids("notebook station").isEmpty());
+        assertTrue(ids("xyz").isEmpty());
+
+        assertEquals(List.of(1L, 3L), index.search(null, AssetStatus.AVAILABLE, null, false, 0, 10).ids());
+        assertEquals(List.of(3L), index.search("suite", null, AssetType.SOFTWARE, false, 0, 10).ids());
+        assertTrue(index.search("zb-", AssetStatus.AVAILABLE, AssetType.SOFTWARE, false, 0, 10).ids().isEmpty());
+    }
+
+    @Test
+    void putReplacesTextAndStatusOfAnAsset() {
+        index.put(1, AssetType.HARDWARE, AssetStatus.AVAILABLE, "old monitor");
+        index.put(1, AssetType.HARDWARE, AssetStatus.REPAIRING, "new display");
+
+        // The stale postings of "old monitor" remain, but are filtered out
+        assertTrue(ids("monitor").isEmpty());
+        assertEquals(List.of(1L), ids("display"));
+        assertTrue(index.search(null, AssetStatus.AVAILABLE, null, false, 0, 10).ids().isEmpty());
+        assertEquals(List.of(1L), index.search(null, AssetStatus.REPAIRING, null, false, 0, 10).ids());
+        assertEquals(1, index.size());
+
+        // Changing back re-adds the asset under the old trigrams
+        index.put(1, AssetType.HARDWARE, AssetStatus.AVAILABLE, "old monitor");
+        assertEquals(List.of(1L), ids("monitor"));
+    }
+
+    @Test
+    void removeAndDisposalDropTheAsset() {
+        index.put(1, AssetType.HARDWARE, AssetStatus.AVAILABLE, "printer");
+        index.put(2, AssetType.SOFTWARE, AssetStatus.AVAILABLE, "printer driver");
+
+        index.remove(1);
+        index.put(2, AssetType.SOFTWARE, AssetStatus.DISPOSED, "printer driver");
+        index.remove(42);
+
+        assertTrue(ids("printer").isEmpty());
+        assertTrue(index.search(null, null, AssetType.HARDWARE, false, 0, 10).ids().isEmpty());
+        assertEquals(0, index.size());
+    }
+
+    @Test
+    void indexesIdsArrivingOutOfOrderAndBeyondTheInitialCapacity() {
+        index.put(500, AssetType.HARDWARE, AssetStatus.AVAILABLE, "laptop 500");
+        index.put(5000, AssetType.HARDWARE, AssetStatus.AVAILABLE, "laptop 5000");
+        index.put(10, AssetType.HARDWARE, AssetStatus.AVAILABLE, "laptop 10");
+        index.put(300, AssetType.HARDWARE, AssetStatus.AVAILABLE, "laptop 300");
+        index.put(300, AssetType.HARDWARE, AssetStatus.AVAILABLE, "laptop 300 dock");
+
+        assertEquals(List.of(10L, 300L, 500L, 5000L), ids("laptop"));
+        assertEquals(List.of(5000L, 500L, 300L, 10L), index.search("lap", null, null, true, 0, 10).ids());
+        assertEquals(List.of(500L, 5000L), ids("500"));
+
+        index.trimToSize();
+        index.put(7, AssetType.HARDWARE, AssetStatus.AVAILABLE, "laptop 7");
+        assertEquals(List.of(7L, 10L, 300L, 500L, 5000L), ids("laptop"));
+    }
+
+    @Test
+    void agreesWithABruteForceScanInBothDirectionsAndAtEveryOffset() {
+        Random random = new Random(42);
+        Map<Integer, Document> documents = new TreeMap<>();
+
+        // Random inserts in random ID order, with updates and removals mixed in
+        for (int step = 0; step < 3000; step++) {
+            int id = random.nextInt(2000);
+            if (random.nextInt(10) == 0) {
+                index.remove(id);
+                documents.remove(id);
+                continue;
+            }
+            AssetType type = AssetType.values()[random.nextInt(AssetType.values().length)];
+            AssetStatus status = AssetStatus.values()[random.nextInt(AssetStatus.values().length)];
+            String text = randomText(random, 4 + random.nextInt(20));
+            if (documents.containsKey(id)) {
+                // The type of an asset never changes
+                type = documents.get(id).type();
+            }
+            index.put(id, type, status, text);
+            if (status == AssetStatus.DISPOSED) {
+                documents.remove(id);
+            } else {
+                documents.put(id, new Document(type, status, text));
+            }
+        }
+        assertEquals(documents.size(), index.size());
+
+        for (int q = 0; q < 300; q++) {
+            String query = (q % 10 == 0) ? null : randomText(random, 1 + random.nextInt(4));
+            AssetStatus status = random.nextBoolean()
+                    ? AssetStatus.values()[random.nextInt(AssetStatus.values().length)] : null;
+            AssetType type = random.nextBoolean() ? AssetType.values()[random.nextInt(AssetType.values().length)]
+                    : null;
+            boolean descending = random.nextBoolean();
+
+            List<Long> expected = new ArrayList<>();
+            documents.forEach((id, document) -> {
+                if ((query == null || document.text().contains(query))
+                        && (status == null || document.status() == status)
+                        && (type == null || document.type() == type)) {
+                    expected.add((long) id);
+                }
+            });
+            if (descending) {
+                expected.sort(Comparator.reverseOrder());
+            }
+
+            int limit = 1 + random.nextInt(25);
+            for (int offset = 0; offset <= expected.size() + limit; offset += limit) {
+                AssetTrigramIndex.Result result = index.search(query, status, type, descending, offset, limit);
+                String description = "query=" + query + " status=" + status + " type=" + type
+                        + " descending=" + descending + " offset=" + offset;
+                assertEquals(expected.size(), result.total(), description);
+                assertEquals(expected.subList(Math.min(offset, expected.size()),
+                        Math.min(offset + limit, expected.size())), result.ids(), description);
+            }
+        }
+    }
+
+    private List<Long> ids(String query) {
+        return index.search(query, null, null, false, 0, 100).ids();
+    }
+
+    private static String randomText(Random random, int length) {
+        // A small alphabet, so that trigrams are shared and queries hit
+        String alphabet = "abcde -";
+        StringBuilder text = new StringBuilder(length);
+        for (int i = 0; i < length; i++) {
+            text.append(alphabet.charAt(random.nextInt(alphabet.length())));
+        }
+        return text.toString();
+    }
+
+    private record Document(AssetType type, AssetStatus status, String text) {
+    }
+}
@@ -0,0 +1,95 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.BatchHardwareRequest;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.repository.AssetRepository;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Benchmark: batch hardware creation through {@code saveAll} with JDBC
+ * batching versus one flushed INSERT round trip per asset (the behavior of the
+ * former IDENTITY-based loop).
+ * <p>
+ * Excluded from {@code test}; run with {@code ./gradlew benchmark} (requires
+ * Docker for the PostgreSQL container).
+ * </p>
+ */
+@Tag("benchmark")
+class BatchInsertBenchmarkTest extends PostgresIntegrationTest {
+
+    private static final int QUANTITY = 2_000;
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Test
+    void batchedInsertsVersusRowByRow() {
+        // The database is shared with the other tests of the context
+        long existing = assetRepository.count();
+
+        // Warm up both paths (connection pool, JIT, statement cache)
+        insertRowByRow("WARM-ROW-", 200);
+        assetService.createBatchHardware(request("WARM-BATCH-", 200));
+
+        long start = System.nanoTime();
+        insertRowByRow("ROW-", QUANTITY);
+        double rowByRowSeconds = (System.nanoTime() - start) / 1e9;
+
+        start = System.nanoTime();
+        assetService.createBatchHardware(request("BATCH-", QUANTITY));
+        double batchedSeconds = (System.nanoTime() - start) / 1e9;
+
+        System.out.printf("Row-by-row: %,d assets in %.2f s (%,.0f inserts/s)%n",
+                QUANTITY, rowByRowSeconds, QUANTITY / rowByRowSeconds);
+        System.out.printf("Batched:    %,d assets in %.2f s (%,.0f inserts/s), speed-up %.1fx%n",
+                QUANTITY, batchedSeconds, QUANTITY / batchedSeconds, rowByRowSeconds / batchedSeconds);
+
+        assertEquals(existing + 2L * (QUANTITY + 200), assetRepository.count());
+    }
+
+    private void insertRowByRow(String prefix, int quantity) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (int i = 1; i <= quantity; i++) {
+                HardwareAsset asset = new HardwareAsset();
+                asset.setName("Laptop");
+                asset.setPurchasePrice(new BigDecimal("1200.00"));
+                asset.setPurchaseDate(LocalDate.of(2024, 1, 15));
+                asset.setStatus(AssetStatus.AVAILABLE);
+                asset.setUsefulLifeYears(4);
+                asset.setLocation("Office A");
+                asset.setSerialNumber(prefix + i);
+                assetRepository.saveAndFlush(asset);
+            }
+        });
+    }
+
+    private static BatchHardwareRequest request(String prefix, int quantity) {
+        BatchHardwareRequest request = new BatchHardwareRequest();
+        request.setName("Laptop");
+        request.setPurchasePrice(new BigDecimal("1200.00"));
+        request.setPurchaseDate(LocalDate.of(2024, 1, 15));
+        request.setStatus(AssetStatus.AVAILABLE);
+        request.setResidualValue(BigDecimal.ZERO);
+        request.setUsefulLifeYears(4);
+        request.setLocation("Office A");
+        request.setSerialNumberPrefix(prefix);
+        request.setQuantity(quantity);
+        return request;
+    }
+}
@@ -0,0 +1,226 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.BatchHardwareRequest;
+import du.tum.student.enterpriseassetmanager.controller.dto.BatchJobDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Asynchronous batch jobs of {@link BatchJobService}: chunked commits,
+ * failures, the concurrency limit and the eviction of finished jobs.
+ */
+class BatchJobServiceTest extends PostgresIntegrationTest {
+
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final List<BatchJobService> services = new ArrayList<>();
+    private final String prefix = "JOB-" + System.nanoTime() + "-";
+
+    @AfterEach
+    void shutdownServices() {
+        services.forEach(BatchJobService::shutdown);
+    }
+
+    @Test
+    void jobCommitsInChunksAndSucceeds() {
+        ChunkTransactions transactions = new ChunkTransactions(transactionManager);
+        BatchJobService service = service(transactions, 2, 4, RETENTION);
+
+        BatchJobDto submitted = service.submitHardware(request(prefix, 10));
+        BatchJobDto job = awaitFinished(service, submitted.getId());
+
+        assertEquals(BatchJobDto.Status.SUCCEEDED, job.getStatus());
+        assertEquals(10, job.getQuantity());
+        assertEquals(10, job.getCreatedAssets());
+        assertNotNull(job.getStartedAt());
+        assertNotNull(job.getFinishedAt());
+        assertNull(job.getError());
+        assertEquals(3, transactions.started.get(), "chunks of 4, 4 and 2");
+        assertEquals(10, committedRows());
+    }
+
+    @Test
+    void failingChunkKeepsTheChunksCommittedBeforeIt() {
+        // Position 6 of the batch collides with an existing serial number, so the second chunk fails
+        assetService.createAsset(new HardwareAsset("Taken", new BigDecimal("100.00"), LocalDate.of(2024, 1, 15),
+                AssetStatus.AVAILABLE, BigDecimal.ZERO, 4, prefix + "006", "Office A", null, null));
+        ChunkTransactions transactions = new ChunkTransactions(transactionManager);
+        BatchJobService service = service(transactions, 2, 4, RETENTION);
+
+        BatchJobDto job = awaitFinished(service, service.submitHardware(request(prefix, 10)).getId());
+
+        assertEquals(BatchJobDto.Status.FAILED, job.getStatus());
+        assertEquals(4, job.getCreatedAssets());
+        assertNotNull(job.getError());
+        assertNotNull(job.getFinishedAt());
+        assertEquals(2, transactions.started.get(), "no chunk after the failing one");
+        assertEquals(4 + 1, committedRows(), "the first chunk and the colliding asset");
+    }
+
+    @Test
+    void jobsBeyondTheLimitWaitQueued() throws InterruptedException {
+        ChunkTransactions transactions = new ChunkTransactions(transactionManager);
+        transactions.gate = new CountDownLatch(1);
+        BatchJobService service = service(transactions, 1, 4, RETENTION);
+
+        UUID first = service.submitHardware(request(prefix + "A-", 4)).getId();
+        awaitStatus(service, first, BatchJobDto.Status.RUNNING);
+        UUID second = service.submitHardware(request(prefix + "B-", 4)).getId();
+        // Give the second job time to take a permit, if the limit did not hold it back
+        Thread.sleep(200);
+
+        assertEquals(BatchJobDto.Status.QUEUED, service.getJob(second).orElseThrow().getStatus());
+        assertEquals(1, transactions.started.get());
+
+        transactions.gate.countDown();
+        assertEquals(BatchJobDto.Status.SUCCEEDED, awaitFinished(service, first).getStatus());
+        assertEquals(BatchJobDto.Status.SUCCEEDED, awaitFinished(service, second).getStatus());
+        assertEquals(1, transactions.maxRunning.get(), "chunks of both jobs never overlapped");
+        assertEquals(8, committedRows());
+    }
+
+    @Test
+    void onlyFinishedJobsAreEvicted() throws InterruptedException {
+        ChunkTransactions transactions = new ChunkTransactions(transactionManager);
+        transactions.gate = new CountDownLatch(1);
+        BatchJobService kept = service(new ChunkTransactions(transactionManager), 2, 4, RETENTION);
+        BatchJobService expiring = service(transactions, 2, 4, Duration.ZERO);
+
+        UUID keptJob = kept.submitHardware(request(prefix + "A-", 2)).getId();
+        awaitFinished(kept, keptJob);
+        kept.evictFinishedJobs();
+        assertTrue(kept.getJob(keptJob).isPresent(), "finished within the retention");
+
+        UUID running = expiring.submitHardware(request(prefix + "B-", 2)).getId();
+        awaitStatus(expiring, running, BatchJobDto.Status.RUNNING);
+        expiring.evictFinishedJobs();
+        assertTrue(expiring.getJob(running).isPresent(), "running jobs are never evicted");
+
+        transactions.gate.countDown();
+        awaitFinished(expiring, running);
+        // Let the clock move past the finish time
+        Thread.sleep(10);
+        expiring.evictFinishedJobs();
+        assertTrue(expiring.getJob(running).isEmpty(), "finished beyond the retention");
+    }
+
+    private BatchJobService service(TransactionTemplate transactions, int maxConcurrent, int chunkSize,
+            Duration retention) {
+        BatchJobService service = new BatchJobService(assetService, transactions, maxConcurrent, chunkSize,
+                retention);
+        services.add(service);
+        return service;
+    }
+
+    private int committedRows() {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM hardware_asset WHERE serial_number LIKE ?",
+                Integer.class, prefix + "%");
+    }
+
+    private static BatchJobDto awaitFinished(BatchJobService service, UUID id) {
+        return await(service, id, "finished", job -> job.getStatus() == BatchJobDto.Status.SUCCEEDED
+                || job.getStatus() == BatchJobDto.Status.FAILED);
+    }
+
+    private static BatchJobDto awaitStatus(BatchJobService service, UUID id, BatchJobDto.Status status) {
+        return await(service, id, status.name(), job -> job.getStatus() == status);
+    }
+
+    private static BatchJobDto await(BatchJobService service, UUID id, String state,
+            Predicate<BatchJobDto> condition) {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(30);
+        while (System.nanoTime() < deadline) {
+            BatchJobDto job = service.getJob(id).orElseThrow();
+            if (condition.test(job)) {
+                return job;
+            }
+            try {
+                Thread.sleep(10);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+        }
+        return fail("Job " + id + " not " + state + " in time");
+    }
+
+    private static BatchHardwareRequest request(String prefix, int quantity) {
+        BatchHardwareRequest request = new BatchHardwareRequest();
+        request.setName("Laptop");
+        request.setPurchasePrice(new BigDecimal("1200.00"));
+        request.setPurchaseDate(LocalDate.of(2024, 1, 15));
+        request.setStatus(AssetStatus.AVAILABLE);
+        request.setResidualValue(BigDecimal.ZERO);
+        request.setUsefulLifeYears(4);
+        request.setLocation("Office A");
+        request.setSerialNumberPrefix(prefix);
+        request.setQuantity(quantity);
+        return request;
+    }
+
+    /**
+     * Chunk transactions that are counted and, while the gate is closed, held
+     * before they begin.
+     */
+    private static final class ChunkTransactions extends TransactionTemplate {
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger running = new AtomicInteger();
+        private final AtomicInteger maxRunning = new AtomicInteger();
+        private volatile CountDownLatch gate = new CountDownLatch(0);
+
+        ChunkTransactions(PlatformTransactionManager transactionManager) {
+            super(transactionManager);
+        }
+
+        @Override
+        public <T> T execute(TransactionCallback<T> action) {
+            started.incrementAndGet();
+            maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+            try {
+                if (!gate.await(30, TimeUnit.SECONDS)) {
+                    throw new IllegalStateException("Gate not opened");
+                }
+                return super.execute(action);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(e);
+            } finally {
+                running.decrementAndGet();
+            }
+        }
+    }
+}
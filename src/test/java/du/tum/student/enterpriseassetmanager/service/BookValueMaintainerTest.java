@@ -0,0 +1,151 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSummaryDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.Asset;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.repository.AssetRepository;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The scheduled refresh of persisted book values by
+ * {@link BookValueMaintainer}.
+ */
+class BookValueMaintainerTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private BookValueMaintainer bookValueMaintainer;
+
+    @Autowired
+    private AssetReadViewMaintainer readViewMaintainer;
+
+    @Autowired
+    private AssetSearchCache searchCache;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private Clock clock;
+
+    @Autowired
+    private AssetRepository assetRepository;
+
+    @Autowired
+    private DepreciationCalculator depreciationCalculator;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private AssetCountEstimator countEstimator;
+
+    @Test
+    void refreshInvalidatesCachedSearchesOnTheBookValue() {
+        String marker = "bookvalue" + System.nanoTime();
+        HardwareAsset asset = assetService.createAsset(new HardwareAsset(marker, new BigDecimal("1500.00"),
+                LocalDate.of(2024, 3, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                marker, "Office A", null, null));
+        // A value computed long ago, copied to the read view like a past refresh would
+        jdbcTemplate.update("UPDATE asset SET current_book_value = 0, book_value_as_of = ? WHERE id = ?",
+                LocalDate.of(2020, 1, 1), asset.getId());
+        readViewMaintainer.refresh(List.of(asset.getId()));
+        searchCache.invalidate();
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(marker);
+        criteria.setMinBookValue(BigDecimal.ONE);
+        assertTrue(search(criteria).isEmpty());
+
+        assertTrue(bookValueMaintainer.refreshStale() >= 1);
+
+        assertEquals(List.of(asset.getId()), search(criteria));
+    }
+
+    @Test
+    void unchangedValuesOnlyAdvanceTheirDate() {
+        String marker = "bookvalue" + System.nanoTime();
+        // Purchased long ago, so the value has reached the residual value
+        HardwareAsset asset = assetService.createAsset(new HardwareAsset(marker, new BigDecimal("1500.00"),
+                LocalDate.of(2001, 3, 1), AssetStatus.AVAILABLE, new BigDecimal("100.00"), 4,
+                marker, "Office A", null, null));
+        jdbcTemplate.update("UPDATE asset SET book_value_as_of = ? WHERE id = ?",
+                LocalDate.of(2020, 1, 1), asset.getId());
+        readViewMaintainer.refresh(List.of(asset.getId()));
+        BigDecimal value = jdbcTemplate.queryForObject(
+                "SELECT current_book_value FROM asset WHERE id = ?", BigDecimal.class, asset.getId());
+
+        bookValueMaintainer.refreshStale();
+
+        LocalDate today = LocalDate.now(clock);
+        assertEquals(0, value.compareTo(jdbcTemplate.queryForObject(
+                "SELECT current_book_value FROM asset WHERE id = ?", BigDecimal.class, asset.getId())));
+        assertEquals(today, jdbcTemplate.queryForObject(
+                "SELECT book_value_as_of FROM asset WHERE id = ?", LocalDate.class, asset.getId()));
+        assertEquals(today, jdbcTemplate.queryForObject(
+                "SELECT book_value_as_of FROM asset_read_view WHERE id = ?", LocalDate.class, asset.getId()));
+    }
+
+    @Test
+    void valuesSavedWhileTheChunkIsComputedAreNotOverwritten() {
+        String marker = "bookvalue" + System.nanoTime();
+        HardwareAsset asset = assetService.createAsset(new HardwareAsset(marker, new BigDecimal("1500.00"),
+                LocalDate.of(2024, 3, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                marker, "Office A", null, null));
+        jdbcTemplate.update("UPDATE asset SET current_book_value = 0, book_value_as_of = ? WHERE id = ?",
+                LocalDate.of(2020, 1, 1), asset.getId());
+
+        // The price changes after the stale chunk was read, before it is written
+        boolean[] updated = { false };
+        ChunkedAssetReader racingReader = new ChunkedAssetReader(assetRepository) {
+            @Override
+            public void forEachChunk(Specification<Asset> spec, int chunkSize, Consumer<List<Asset>> consumer) {
+                super.forEachChunk(spec, chunkSize, chunk -> {
+                    if (!updated[0] && chunk.stream().anyMatch(a -> a.getId().equals(asset.getId()))) {
+                        updated[0] = true;
+                        assetService.updateAsset(asset.getId(), new HardwareAsset(marker, new BigDecimal("3000.00"),
+                                LocalDate.of(2024, 3, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4,
+                                marker, "Office A", null, null));
+                    }
+                    consumer.accept(chunk);
+                });
+            }
+        };
+        BookValueMaintainer racingMaintainer = new BookValueMaintainer(racingReader, depreciationCalculator,
+                jdbcTemplate, transactionTemplate, readViewMaintainer, searchCache, countEstimator, clock, 1000);
+
+        racingMaintainer.refreshStale();
+
+        assertTrue(updated[0]);
+        BigDecimal expected = depreciationCalculator.calculateValueAsOf(
+                assetRepository.findById(asset.getId()).orElseThrow(), LocalDate.now(clock));
+        assertEquals(0, expected.compareTo(jdbcTemplate.queryForObject(
+                "SELECT current_book_value FROM asset WHERE id = ?", BigDecimal.class, asset.getId())));
+        assertEquals(0, expected.compareTo(jdbcTemplate.queryForObject(
+                "SELECT current_book_value FROM asset_read_view WHERE id = ?", BigDecimal.class, asset.getId())));
+    }
+
+    private List<Long> search(AssetSearchCriteria criteria) {
+        return assetService.searchAssets(criteria, PageRequest.of(0, 10), CountMode.NONE)
+                .map(AssetSummaryDto::getId).getContent();
+    }
+}
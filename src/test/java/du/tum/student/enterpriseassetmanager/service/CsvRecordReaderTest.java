@@ -0,0 +1,65 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Quoting, escaping and line endings in {@link CsvRecordReader}.
+ */
+class CsvRecordReaderTest {
+
+    @Test
+    void quotedFieldsKeepSeparatorsQuotesAndLineBreaks() throws IOException {
+        assertEquals(List.of(List.of("a", "b,c", "d")), records("a,\"b,c\",d\n"));
+        assertEquals(List.of(List.of("say \"hi\"", "x")), records("\"say \"\"hi\"\"\",x\n"));
+        assertEquals(List.of(List.of("\"", "")), records("\"\"\"\",\"\"\n"));
+        assertEquals(List.of(List.of("line 1\nline 2", "x"), List.of("y", "z")),
+                records("\"line 1\nline 2\",x\ny,z\n"));
+        assertEquals(List.of(List.of("line 1\r\nline 2")), records("\"line 1\r\nline 2\"\r\n"));
+    }
+
+    @Test
+    void quotesInsideUnquotedFieldsAreLiteral() throws IOException {
+        assertEquals(List.of(List.of("14\" display", "5'11")), records("14\" display,5'11\n"));
+    }
+
+    @Test
+    void acceptsLfCrLfAndAMissingFinalLineBreak() throws IOException {
+        List<List<String>> expected = List.of(List.of("a", "b"), List.of("c", "d"));
+        assertEquals(expected, records("a,b\nc,d\n"));
+        assertEquals(expected, records("a,b\r\nc,d\r\n"));
+        assertEquals(expected, records("a,b\r\nc,d"));
+        assertEquals(expected, records("a,b\rc,d"));
+    }
+
+    @Test
+    void keepsEmptyFieldsAndEmptyLines() throws IOException {
+        assertEquals(List.of(List.of("a", "b", "")), records("a,b,\n"));
+        assertEquals(List.of(List.of("a", "")), records("a,"));
+        assertEquals(List.of(List.of("", "", "")), records(",,\r\n"));
+        assertEquals(List.of(List.of("a"), List.of(""), List.of("b")), records("a\n\nb\n"));
+        assertEquals(List.of(), records(""));
+    }
+
+    @Test
+    void rejectsAnUnterminatedQuotedField() {
+        assertThrows(IOException.class, () -> records("a,\"b\nc\n"));
+    }
+
+    private static List<List<String>> records(String input) throws IOException {
+        CsvRecordReader reader = new CsvRecordReader(new StringReader(input));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.next()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}
@@ -0,0 +1,87 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * The per-method factors of {@link DepreciationFactorTables}, year by year,
+ * including the years before purchase and past the useful life.
+ */
+class DepreciationFactorTablesTest {
+
+    private final DepreciationFactorTables factorTables = new DepreciationFactorTables();
+
+    @Test
+    void factorsFollowTheMethodInEveryYear() {
+        List<Row> rows = List.of(
+                // Sum-of-the-years'-digits, 4 years: (4 - y)(5 - y) / 20
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, "1000", "100", 0, "1"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, "1000", "100", 1, "0.6"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, "1000", "100", 2, "0.3"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, "1000", "100", 3, "0.1"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, "1000", "100", 4, "0"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 1, "1000", "0", 0, "1"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 1, "1000", "0", 1, "0"),
+                // Declining balance without residual: halves until the switch in year 3
+                new Row(DepreciationMethod.DECLINING_BALANCE, 4, "1000", "0", 0, "1"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 4, "1000", "0", 1, "0.5"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 4, "1000", "0", 2, "0.25"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 4, "1000", "0", 3, "0.125"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 4, "1000", "0", 4, "0"),
+                // Declining balance at 40 % down to a residual ratio of 0.1
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, "1000", "100", 1, "0.555555555556"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, "1000", "100", 2, "0.288888888889"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, "1000", "100", 3, "0.128888888889"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, "1000", "100", 4, "0.032888888889"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, "1000", "100", 5, "0"),
+                // Nothing to depreciate: the full value is kept until the end of life
+                new Row(DepreciationMethod.DECLINING_BALANCE, 3, "1000", "1000", 2, "1"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 3, "1000", "1200", 3, "0"),
+                new Row(DepreciationMethod.STRAIGHT_LINE, 4, "1000", "100", 1, "0.75"),
+                new Row(DepreciationMethod.STRAIGHT_LINE, 4, "1000", "100", 4, "0"));
+
+        for (Row row : rows) {
+            assertEquals(0, new BigDecimal(row.factor()).compareTo(factor(row, row.yearsUsed())), row.toString());
+        }
+    }
+
+    @Test
+    void yearsOutsideTheUsefulLifeAreClamped() {
+        for (DepreciationMethod method : DepreciationMethod.values()) {
+            Row row = new Row(method, 5, "1000", "100", 0, null);
+            assertEquals(0, BigDecimal.ONE.compareTo(factor(row, -1)), method.name());
+            assertEquals(0, BigDecimal.ZERO.compareTo(factor(row, 5)), method.name());
+            assertEquals(0, BigDecimal.ZERO.compareTo(factor(row, 6)), method.name());
+            assertEquals(0, BigDecimal.ZERO.compareTo(factor(row, Long.MAX_VALUE)), method.name());
+        }
+    }
+
+    @Test
+    void onlyDecliningBalanceTablesDependOnTheResidualRatio() {
+        factorTables.factor(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, new BigDecimal("1000"), BigDecimal.ZERO, 1);
+        factorTables.factor(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, new BigDecimal("500"), new BigDecimal("50"),
+                1);
+        assertEquals(1, factorTables.size());
+
+        factorTables.factor(DepreciationMethod.DECLINING_BALANCE, 4, new BigDecimal("1000"), BigDecimal.ZERO, 1);
+        factorTables.factor(DepreciationMethod.DECLINING_BALANCE, 4, new BigDecimal("1000"), new BigDecimal("100"),
+                1);
+        factorTables.factor(DepreciationMethod.DECLINING_BALANCE, 4, new BigDecimal("500"), new BigDecimal("50"),
+                1);
+        assertEquals(3, factorTables.size());
+    }
+
+    private BigDecimal factor(Row row, long yearsUsed) {
+        return factorTables.factor(row.method(), row.usefulLifeYears(), new BigDecimal(row.price()),
+                new BigDecimal(row.residual()), yearsUsed);
+    }
+
+    private record Row(DepreciationMethod method, int usefulLifeYears, String price, String residual,
+            long yearsUsed, String factor) {
+    }
+}
@@ -0,0 +1,135 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.DepreciationScheduleRowDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.service.DepreciationScheduleGenerator.Granularity;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Length, end value and rounding of the schedules produced by
+ * {@link DepreciationScheduleGenerator}, for every depreciation method.
+ */
+class DepreciationScheduleGeneratorTest {
+
+    private static final LocalDate PURCHASED = LocalDate.of(2023, 1, 31);
+
+    private final Clock clock = Clock.fixed(
+            LocalDate.of(2026, 2, 28).atStartOfDay(ZoneId.of("UTC")).toInstant(), ZoneId.of("UTC"));
+    private final MethodAwareDepreciation calculator = new MethodAwareDepreciation(
+            new LinearDepreciation(clock), new DepreciationFactorTables(), clock);
+    private final DepreciationScheduleGenerator generator = new DepreciationScheduleGenerator(null, calculator, 1000);
+
+    @Test
+    void hasOneRowPerPeriodFromPurchaseToTheEndOfLife() {
+        HardwareAsset asset = asset(DepreciationMethod.STRAIGHT_LINE, "1000.00", "100.00", 4);
+
+        List<DepreciationScheduleRowDto> yearly = schedule(asset, Granularity.YEARLY);
+        List<DepreciationScheduleRowDto> monthly = schedule(asset, Granularity.MONTHLY);
+
+        assertEquals(5, yearly.size());
+        assertEquals(49, monthly.size());
+        for (int i = 0; i < yearly.size(); i++) {
+            assertEquals(i, yearly.get(i).getPeriod());
+            assertEquals(PURCHASED.plusYears(i), yearly.get(i).getDate());
+            assertEquals(42L, yearly.get(i).getAssetId());
+        }
+        // Month ends are clamped, but never drift
+        assertEquals(LocalDate.of(2023, 2, 28), monthly.get(1).getDate());
+        assertEquals(LocalDate.of(2023, 3, 31), monthly.get(2).getDate());
+        assertEquals(LocalDate.of(2027, 1, 31), monthly.getLast().getDate());
+
+        assertEquals(0, new BigDecimal("1000.00").compareTo(yearly.getFirst().getBookValue()));
+        assertEquals(0, BigDecimal.ZERO.compareTo(yearly.getFirst().getDepreciation()));
+    }
+
+    @Test
+    void endsAtTheResidualValueAndSumsToTheDepreciableAmount() {
+        // Amounts that do not divide evenly by the useful life or by 12
+        List<HardwareAsset> assets = List.of(
+                asset(DepreciationMethod.STRAIGHT_LINE, "1000.01", "0.02", 3),
+                asset(DepreciationMethod.STRAIGHT_LINE, "999.99", "0.00", 7),
+                asset(DepreciationMethod.DECLINING_BALANCE, "1234.57", "100.01", 5),
+                asset(DepreciationMethod.DECLINING_BALANCE, "333.33", "0.00", 1),
+                asset(DepreciationMethod.SUM_OF_YEARS_DIGITS, "777.77", "77.77", 6),
+                asset(DepreciationMethod.SUM_OF_YEARS_DIGITS, "10.00", "3.33", 9));
+
+        for (HardwareAsset asset : assets) {
+            for (Granularity granularity : Granularity.values()) {
+                String description = asset.getDepreciationMethod() + " " + asset.getPurchasePrice() + " over "
+                        + asset.getUsefulLifeYears() + " years, " + granularity;
+                List<DepreciationScheduleRowDto> rows = schedule(asset, granularity);
+                BigDecimal depreciable = asset.getPurchasePrice().subtract(asset.getResidualValue());
+
+                DepreciationScheduleRowDto last = rows.getLast();
+                assertEquals(0, asset.getResidualValue().compareTo(last.getBookValue()), description);
+                assertEquals(0, depreciable.compareTo(last.getAccumulatedDepreciation()), description);
+
+                BigDecimal accumulated = BigDecimal.ZERO;
+                BigDecimal previous = asset.getPurchasePrice();
+                for (DepreciationScheduleRowDto row : rows) {
+                    accumulated = accumulated.add(row.getDepreciation());
+                    // Whole cents in every column, and each row adds up with the ones before it
+                    assertTrue(row.getDepreciation().scale() <= 2, description);
+                    assertTrue(row.getBookValue().scale() <= 2, description);
+                    assertTrue(row.getDepreciation().signum() >= 0, description);
+                    assertEquals(0, accumulated.compareTo(row.getAccumulatedDepreciation()), description);
+                    assertEquals(0, previous.subtract(row.getDepreciation()).compareTo(row.getBookValue()),
+                            description);
+                    previous = row.getBookValue();
+                }
+                assertEquals(0, depreciable.compareTo(accumulated), description);
+            }
+        }
+    }
+
+    @Test
+    void monthlyRowsMeetTheYearlyRowsAtEveryAnniversary() {
+        for (DepreciationMethod method : DepreciationMethod.values()) {
+            HardwareAsset asset = asset(method, "1234.57", "100.01", 5);
+            List<DepreciationScheduleRowDto> yearly = schedule(asset, Granularity.YEARLY);
+            List<DepreciationScheduleRowDto> monthly = schedule(asset, Granularity.MONTHLY);
+
+            for (DepreciationScheduleRowDto year : yearly) {
+                DepreciationScheduleRowDto month = monthly.get(year.getPeriod() * 12);
+                assertEquals(year.getDate(), month.getDate(), method.name());
+                assertEquals(0, year.getBookValue().compareTo(month.getBookValue()), method + " " + year.getPeriod());
+                assertEquals(0, year.getBookValue().compareTo(
+                        calculator.calculateValueAfterYears(asset, year.getPeriod())), method.name());
+            }
+        }
+    }
+
+    @Test
+    void assetsWithoutPriceLifeOrPurchaseDateHaveNoSchedule() {
+        HardwareAsset withoutDate = asset(DepreciationMethod.STRAIGHT_LINE, "1000.00", "0.00", 4);
+        withoutDate.setPurchaseDate(null);
+        HardwareAsset withoutLife = asset(DepreciationMethod.STRAIGHT_LINE, "1000.00", "0.00", 4);
+        withoutLife.setUsefulLifeYears(null);
+
+        assertTrue(schedule(withoutDate, Granularity.YEARLY).isEmpty());
+        assertTrue(schedule(withoutLife, Granularity.MONTHLY).isEmpty());
+    }
+
+    private List<DepreciationScheduleRowDto> schedule(HardwareAsset asset, Granularity granularity) {
+        return generator.schedule(asset, granularity).toList();
+    }
+
+    private static HardwareAsset asset(DepreciationMethod method, String price, String residual, int life) {
+        HardwareAsset asset = new HardwareAsset("Laptop", new BigDecimal(price), PURCHASED, AssetStatus.AVAILABLE,
+                new BigDecimal(residual), life, "SN", "Office", null, null);
+        asset.setId(42L);
+        asset.setDepreciationMethod(method);
+        return asset;
+    }
+}
@@ -0,0 +1,138 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Property test: {@link FastLinearDepreciation} must return exactly the same
+ * {@link BigDecimal} (value and scale) as {@link LinearDepreciation}.
+ */
+class FastLinearDepreciationTest {
+
+    private static final int ITERATIONS = 200_000;
+
+    private final Clock clock = Clock.fixed(
+            LocalDate.of(2026, 2, 28).atStartOfDay(ZoneId.of("UTC")).toInstant(), ZoneId.of("UTC"));
+    private final LinearDepreciation reference = new LinearDepreciation(clock);
+    private final FastLinearDepreciation fast = new FastLinearDepreciation(clock);
+
+    @Test
+    void matchesBigDecimalImplementationForRandomAssets() {
+        Random random = new Random(20260228L);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            HardwareAsset asset = randomAsset(random);
+
+            BigDecimal expected = reference.calculateCurrentValue(asset);
+            BigDecimal actual = fast.calculateCurrentValue(asset);
+
+            assertEquals(expected, actual, () -> "Mismatch for price=" + asset.getPurchasePrice()
+                    + ", residual=" + asset.getResidualValue()
+                    + ", life=" + asset.getUsefulLifeYears()
+                    + ", purchased=" + asset.getPurchaseDate());
+        }
+    }
+
+    @Test
+    void valueAsOfMatchesBigDecimalImplementationForRandomDates() {
+        Random random = new Random(20231231L);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            HardwareAsset asset = randomAsset(random);
+            LocalDate asOf = randomDate(random);
+
+            assertEquals(reference.calculateValueAsOf(asset, asOf), fast.calculateValueAsOf(asset, asOf),
+                    () -> "Mismatch for asset " + asset.getPurchasePrice() + " / " + asset.getPurchaseDate()
+                            + " as of " + asOf);
+        }
+    }
+
+    @Test
+    void primitivePathMatchesBigDecimalImplementation() {
+        Random random = new Random(42L);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            long priceCents = 1 + (long) (random.nextDouble() * 1_000_000_00L);
+            long residualCents = (long) (random.nextDouble() * priceCents);
+            int life = 1 + random.nextInt(40);
+            LocalDate purchaseDate = randomDate(random);
+
+            HardwareAsset asset = asset(BigDecimal.valueOf(priceCents, 2), BigDecimal.valueOf(residualCents, 2),
+                    life, purchaseDate);
+            BigDecimal expected = reference.calculateCurrentValue(asset);
+
+            long actual = fast.currentValueCents(priceCents, residualCents, life,
+                    FastLinearDepreciation.packDate(purchaseDate));
+
+            assertEquals(0, expected.compareTo(BigDecimal.valueOf(actual, 2)),
+                    () -> "Mismatch for asset " + asset.getPurchasePrice() + " / " + purchaseDate);
+        }
+    }
+
+    @Test
+    void yearsBetweenMatchesChronoUnit() {
+        Random random = new Random(7L);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            LocalDate start = randomDate(random);
+            LocalDate end = randomDate(random);
+
+            assertEquals(java.time.temporal.ChronoUnit.YEARS.between(start, end),
+                    FastLinearDepreciation.yearsBetween(
+                            FastLinearDepreciation.packDate(start), FastLinearDepreciation.packDate(end)),
+                    () -> start + " -> " + end);
+        }
+    }
+
+    private static HardwareAsset randomAsset(Random random) {
+        BigDecimal price = randomAmount(random, 1_000_000_00L, true);
+        BigDecimal residual;
+        int kind = random.nextInt(10);
+        if (kind == 0) {
+            residual = BigDecimal.ZERO;
+        } else if (kind == 1) {
+            // Residual above the purchase price (negative depreciation)
+            residual = price.add(randomAmount(random, 1_000_00L, false));
+        } else {
+            residual = randomAmount(random, price.movePointRight(2).longValue(), false);
+        }
+        return asset(price, residual, 1 + random.nextInt(40), randomDate(random));
+    }
+
+    /**
+     * Random amount with 0, 1 or 2 decimal places.
+     */
+    private static BigDecimal randomAmount(Random random, long maxCents, boolean positive) {
+        long cents = (long) (random.nextDouble() * maxCents) + (positive ? 1 : 0);
+        BigDecimal amount = BigDecimal.valueOf(cents, 2);
+        return switch (random.nextInt(3)) {
+            case 0 -> amount.setScale(0, java.math.RoundingMode.DOWN).max(positive ? BigDecimal.ONE : BigDecimal.ZERO);
+            case 1 -> amount.setScale(1, java.math.RoundingMode.DOWN);
+            default -> amount;
+        };
+    }
+
+    /**
+     * Random date between 1980 and 2060, so past, current and future purchases
+     * are covered.
+     */
+    private static LocalDate randomDate(Random random) {
+        long from = LocalDate.of(1980, 1, 1).toEpochDay();
+        long to = LocalDate.of(2060, 12, 31).toEpochDay();
+        return LocalDate.ofEpochDay(from + (long) (random.nextDouble() * (to - from)));
+    }
+
+    private static HardwareAsset asset(BigDecimal price, BigDecimal residual, int life, LocalDate purchaseDate) {
+        return new HardwareAsset("Laptop", price, purchaseDate, AssetStatus.AVAILABLE, residual, life,
+                "SN", "Office", null, null);
+    }
+}
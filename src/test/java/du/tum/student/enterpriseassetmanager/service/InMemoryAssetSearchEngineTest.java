@@ -0,0 +1,134 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.domain.AssetReadView;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.AssetType;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.domain.SoftwareAsset;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.test.context.TestPropertySource;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * The in-memory search engine against a PostgreSQL container: the same
+ * results as the database engine, and committed changes applied to the index.
+ */
+@TestPropertySource(properties = "application.search.engine=memory")
+class InMemoryAssetSearchEngineTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private InMemoryAssetSearchEngine memoryEngine;
+
+    @Autowired
+    private JpaAssetSearchEngine jpaEngine;
+
+    private String marker;
+    private final List<Long> created = new ArrayList<>();
+
+    @BeforeEach
+    void createAssets() {
+        marker = "memory" + System.nanoTime();
+        for (int i = 0; i < 12; i++) {
+            AssetStatus status = (i % 3 == 0) ? AssetStatus.REPAIRING : AssetStatus.AVAILABLE;
+            created.add(i % 2 == 0
+                    ? assetService.createAsset(new HardwareAsset(marker + " Laptop " + i, new BigDecimal("900.00"),
+                            LocalDate.of(2024, 2, 1), status, BigDecimal.ZERO, 4, marker + "-SN-" + i,
+                            "Office A", null, null)).getId()
+                    : assetService.createAsset(new SoftwareAsset(marker + " License " + i, new BigDecimal("90.00"),
+                            LocalDate.of(2024, 2, 1), status, BigDecimal.ZERO, 3, marker + "-KEY-" + i,
+                            LocalDate.of(2027, 2, 1))).getId());
+        }
+        memoryEngine.rebuild();
+    }
+
+    @Test
+    void answersLikeTheDatabaseInBothDirectionsAndAtEveryOffset() {
+        List<AssetSearchCriteria> searches = List.of(
+                criteria(marker, null, null),
+                criteria(marker + " lap", null, null),
+                criteria(marker, AssetStatus.REPAIRING, null),
+                criteria(marker, null, AssetType.SOFTWARE),
+                criteria(marker + "-key-1", AssetStatus.AVAILABLE, AssetType.SOFTWARE),
+                criteria(marker + " nothing", null, null));
+
+        for (AssetSearchCriteria criteria : searches) {
+            for (Sort.Direction direction : Sort.Direction.values()) {
+                for (int page = 0; page < 4; page++) {
+                    Pageable pageable = PageRequest.of(page, 4, Sort.by(direction, "id"));
+                    assertEquals(ids(jpaEngine.search(criteria, pageable)),
+                            ids(memoryEngine.search(criteria, pageable)), criteria + " " + pageable);
+                    assertEquals(jpaEngine.search(criteria, pageable).getTotalElements(),
+                            memoryEngine.search(criteria, pageable).getTotalElements());
+                }
+            }
+        }
+    }
+
+    @Test
+    void queriesTheIndexCannotAnswerFallBackToTheDatabase() {
+        AssetSearchCriteria byPrice = criteria(marker, null, null);
+        byPrice.setMinPrice(new BigDecimal("500.00"));
+        Pageable byName = PageRequest.of(0, 20, Sort.by("name"));
+
+        assertEquals(ids(jpaEngine.search(byPrice, PageRequest.of(0, 20))),
+                ids(memoryEngine.search(byPrice, PageRequest.of(0, 20))));
+        assertEquals(6, memoryEngine.search(byPrice, PageRequest.of(0, 20)).getTotalElements());
+        assertEquals(ids(jpaEngine.search(criteria(marker, null, null), byName)),
+                ids(memoryEngine.search(criteria(marker, null, null), byName)));
+    }
+
+    @Test
+    void committedChangesReachTheIndex() {
+        Long renamed = created.get(1);
+        Long deleted = created.get(2);
+        SoftwareAsset details = new SoftwareAsset(marker + " Renamed", new BigDecimal("90.00"),
+                LocalDate.of(2024, 2, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 3, null, null);
+        assetService.updateAsset(renamed, details);
+        assetService.deleteAsset(deleted);
+        HardwareAsset added = assetService.createAsset(new HardwareAsset(marker + " Dock", new BigDecimal("150.00"),
+                LocalDate.of(2024, 2, 1), AssetStatus.AVAILABLE, BigDecimal.ZERO, 4, marker + "-DOCK",
+                "Office A", null, null));
+
+        List<Long> found = ids(memoryEngine.search(criteria(marker, null, null), PageRequest.of(0, 50)));
+
+        assertTrue(found.contains(renamed));
+        assertEquals(List.of(renamed),
+                ids(memoryEngine.search(criteria(marker + " renamed", null, null), PageRequest.of(0, 50))));
+        assertTrue(ids(memoryEngine.search(criteria(marker + " license 1", null, null), PageRequest.of(0, 50)))
+                .stream().noneMatch(renamed::equals));
+        assertFalse(found.contains(deleted));
+        assertTrue(found.contains(added.getId()));
+        assertEquals(12, found.size());
+    }
+
+    private static AssetSearchCriteria criteria(String query, AssetStatus status, AssetType type) {
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(query);
+        criteria.setStatus(status);
+        criteria.setType(type);
+        return criteria;
+    }
+
+    private static List<Long> ids(Slice<AssetReadView> rows) {
+        return rows.map(AssetReadView::getId).getContent();
+    }
+}
@@ -0,0 +1,80 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Current values from {@link MethodAwareDepreciation} for every method, on a
+ * fixed clock, from the purchase year to past the useful life.
+ */
+class MethodAwareDepreciationTest {
+
+    private final Clock clock = Clock.fixed(
+            LocalDate.of(2026, 2, 28).atStartOfDay(ZoneId.of("UTC")).toInstant(), ZoneId.of("UTC"));
+    private final MethodAwareDepreciation calculator = new MethodAwareDepreciation(
+            new LinearDepreciation(clock), new DepreciationFactorTables(), clock);
+
+    @Test
+    void currentValuesFollowTheMethodOfEachAsset() {
+        List<Row> rows = List.of(
+                // Year 0: on the purchase date, and one day short of a full year
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2026, 2, 28), "1000.00"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2025, 3, 1), "1000.00"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2025, 2, 28), "640.00"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2024, 2, 28), "370.00"),
+                // The final year of the useful life, its end, and long after
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2023, 2, 28), "190.00"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2022, 2, 28), "100.00"),
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2001, 1, 1), "100.00"),
+                // Purchased in the future: valued at the full price
+                new Row(DepreciationMethod.SUM_OF_YEARS_DIGITS, 4, LocalDate.of(2028, 3, 1), "1000.00"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2026, 2, 28), "1000.00"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2025, 2, 28), "600.00"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2024, 2, 28), "360.00"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2023, 2, 28), "216.00"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2022, 2, 28), "129.60"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2021, 2, 28), "100.00"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2001, 1, 1), "100.00"),
+                new Row(DepreciationMethod.DECLINING_BALANCE, 5, LocalDate.of(2028, 3, 1), "1000.00"),
+                // Straight-line assets are delegated unchanged
+                new Row(DepreciationMethod.STRAIGHT_LINE, 4, LocalDate.of(2026, 2, 28), "1000.00"),
+                new Row(DepreciationMethod.STRAIGHT_LINE, 4, LocalDate.of(2024, 2, 28), "550.00"),
+                new Row(DepreciationMethod.STRAIGHT_LINE, 4, LocalDate.of(2023, 2, 28), "325.00"),
+                new Row(DepreciationMethod.STRAIGHT_LINE, 4, LocalDate.of(2022, 2, 28), "100.00"));
+
+        for (Row row : rows) {
+            HardwareAsset asset = new HardwareAsset("Laptop", new BigDecimal("1000.00"), row.purchaseDate(),
+                    AssetStatus.AVAILABLE, new BigDecimal("100.00"), row.usefulLifeYears(), "SN", "Office", null,
+                    null);
+            asset.setDepreciationMethod(row.method());
+
+            BigDecimal expected = new BigDecimal(row.value());
+            assertEquals(0, expected.compareTo(calculator.calculateCurrentValue(asset)), row.toString());
+            assertEquals(0, expected.compareTo(calculator.calculateValueAsOf(asset, LocalDate.now(clock))),
+                    row.toString());
+        }
+    }
+
+    @Test
+    void assetsWithoutPriceOrLifeAreWorthNothing() {
+        for (DepreciationMethod method : DepreciationMethod.values()) {
+            HardwareAsset asset = new HardwareAsset("Laptop", null, LocalDate.of(2025, 1, 1),
+                    AssetStatus.AVAILABLE, BigDecimal.ZERO, null, "SN", "Office", null, null);
+            asset.setDepreciationMethod(method);
+            assertEquals(0, BigDecimal.ZERO.compareTo(calculator.calculateCurrentValue(asset)), method.name());
+        }
+    }
+
+    private record Row(DepreciationMethod method, int usefulLifeYears, LocalDate purchaseDate, String value) {
+    }
+}
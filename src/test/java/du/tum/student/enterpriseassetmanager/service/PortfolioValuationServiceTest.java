@@ -0,0 +1,101 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetSearchCriteria;
+import du.tum.student.enterpriseassetmanager.controller.dto.AssetValuationDto;
+import du.tum.student.enterpriseassetmanager.controller.dto.PortfolioValuationDto;
+import du.tum.student.enterpriseassetmanager.domain.AssetStatus;
+import du.tum.student.enterpriseassetmanager.domain.DepreciationMethod;
+import du.tum.student.enterpriseassetmanager.domain.HardwareAsset;
+import du.tum.student.enterpriseassetmanager.support.PostgresIntegrationTest;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.math.BigDecimal;
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Point-in-time valuation by {@link PortfolioValuationService}.
+ */
+class PortfolioValuationServiceTest extends PostgresIntegrationTest {
+
+    @Autowired
+    private AssetService assetService;
+
+    @Autowired
+    private PortfolioValuationService valuationService;
+
+    @Autowired
+    private ChunkedAssetReader chunkedAssetReader;
+
+    @Autowired
+    private DepreciationCalculator depreciationCalculator;
+
+    @Autowired
+    private Clock clock;
+
+    @Test
+    void assetsPurchasedAfterTheValuationDateAreNotCounted() {
+        String marker = "valuation" + System.nanoTime();
+        HardwareAsset owned = assetService.createAsset(hardware(marker, LocalDate.of(2024, 1, 10)));
+        assetService.createAsset(hardware(marker, LocalDate.of(2025, 1, 10)));
+
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(marker);
+        List<AssetValuationDto> rows = new ArrayList<>();
+        PortfolioValuationDto valuation = valuationService.valuate(criteria, LocalDate.of(2024, 6, 1), rows::add);
+
+        assertEquals(1, valuation.getAssetCount());
+        assertEquals(List.of(owned.getId()), rows.stream().map(AssetValuationDto::getId).toList());
+        assertEquals(0, new BigDecimal("1000.00").compareTo(valuation.getTotalPurchaseValue()));
+        assertEquals(0, new BigDecimal("1000.00").compareTo(valuation.getTotalCurrentValue()));
+    }
+
+    @Test
+    void primitiveTotalsMatchTheBigDecimalTotals() {
+        String marker = "valuation" + System.nanoTime();
+        List<HardwareAsset> assets = List.of(
+                hardware(marker, "1000.00", "0.00", 4, LocalDate.of(2022, 1, 10)),
+                hardware(marker, "999.99", "0.01", 3, LocalDate.of(2023, 2, 28)),
+                hardware(marker, "1234.57", "100.00", 7, LocalDate.of(2016, 3, 1)),
+                hardware(marker, "80.00", "5.00", 1, LocalDate.of(2024, 5, 31)),
+                hardware(marker, "1500.00", "150.00", 5, LocalDate.of(2021, 7, 1)),
+                hardware(marker, "777.77", "77.77", 6, LocalDate.of(2020, 12, 31)));
+        assets.get(4).setDepreciationMethod(DepreciationMethod.DECLINING_BALANCE);
+        assets.get(5).setDepreciationMethod(DepreciationMethod.SUM_OF_YEARS_DIGITS);
+        assets.forEach(assetService::createAsset);
+
+        // Chunks of two, so the per-chunk buffers are reused
+        PortfolioValuationService primitive = new PortfolioValuationService(chunkedAssetReader,
+                depreciationCalculator, new FastLinearDepreciation(clock), 2);
+        AssetSearchCriteria criteria = new AssetSearchCriteria();
+        criteria.setQuery(marker);
+
+        for (LocalDate date : List.of(LocalDate.of(2024, 5, 31), LocalDate.of(2025, 3, 1), LocalDate.of(2040, 1, 1))) {
+            PortfolioValuationDto expected = valuationService.valuate(criteria, date, row -> {
+            });
+            PortfolioValuationDto actual = primitive.valuate(criteria, date);
+
+            assertEquals(expected.getAssetCount(), actual.getAssetCount(), date.toString());
+            assertEquals(0, expected.getTotalPurchaseValue().compareTo(actual.getTotalPurchaseValue()),
+                    date.toString());
+            assertEquals(0, expected.getTotalCurrentValue().compareTo(actual.getTotalCurrentValue()),
+                    date + ": " + expected.getTotalCurrentValue() + " vs " + actual.getTotalCurrentValue());
+        }
+    }
+
+    private static HardwareAsset hardware(String name, String price, String residual, int life,
+            LocalDate purchaseDate) {
+        return new HardwareAsset(name, new BigDecimal(price), purchaseDate, AssetStatus.AVAILABLE,
+                new BigDecimal(residual), life, name + "-" + price, "Office A", null, null);
+    }
+
+    private static HardwareAsset hardware(String name, LocalDate purchaseDate) {
+        return new HardwareAsset(name, new BigDecimal("1000.00"), purchaseDate, AssetStatus.AVAILABLE,
+                BigDecimal.ZERO, 4, name + "-" + purchaseDate, "Office A", null, null);
+    }
+}
@@ -0,0 +1,96 @@
+package du.tum.student.enterpriseassetmanager.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Stale-while-revalidate behaviour of {@link RefreshingSnapshot} after
+ * invalidation. Reloads are queued and run by the test, so it can read while
+ * they are still pending.
+ */
+class RefreshingSnapshotTest {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final List<Runnable> pending = new ArrayList<>();
+    private boolean runImmediately = true;
+
+    private final RefreshingSnapshot<Integer> snapshot = new RefreshingSnapshot<>("test", loads::incrementAndGet,
+            Duration.ofHours(1), task -> {
+                if (runImmediately) {
+                    task.run();
+                } else {
+                    pending.add(task);
+                }
+            }, new SimpleMeterRegistry());
+
+    @BeforeEach
+    void loadFirstValue() {
+        // Only the very first read waits for a load
+        assertEquals(1, snapshot.get());
+        runImmediately = false;
+    }
+
+    @Test
+    void invalidatedValuesAreServedWhileTheReloadRuns() {
+        snapshot.invalidate();
+        snapshot.invalidate();
+
+        assertEquals(1, snapshot.get());
+        assertEquals(1, snapshot.get());
+        // Both stale reads share one reload
+        assertEquals(1, pending.size());
+        runPending();
+
+        assertEquals(2, snapshot.get());
+        assertEquals(0, pending.size());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void loadsStartedBeforeAnInvalidationDoNotCountAsFresh() {
+        snapshot.invalidate();
+        assertEquals(1, snapshot.get());
+        Runnable reload = pending.remove(0);
+
+        // Another write commits while the reload is still running
+        snapshot.invalidate();
+        reload.run();
+
+        assertEquals(2, snapshot.get());
+        assertEquals(1, pending.size());
+        runPending();
+        assertEquals(3, snapshot.get());
+        assertEquals(0, pending.size());
+    }
+
+    @Test
+    void anOlderLoadNeverReplacesANewerValue() {
+        snapshot.invalidate();
+        snapshot.get();
+        Runnable older = pending.remove(0);
+        snapshot.invalidate();
+        snapshot.get();
+        Runnable newer = pending.remove(0);
+
+        newer.run();
+        older.run();
+
+        // The newer load ran first and produced 2; the older one's 3 is discarded
+        assertEquals(2, snapshot.get());
+        assertEquals(0, pending.size());
+    }
+
+    private void runPending() {
+        while (!pending.isEmpty()) {
+            pending.remove(0).run();
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package du.tum.student.enterpriseassetmanager.support;
+
+import du.tum.student.enterpriseassetmanager.domain.Role;
+import du.tum.student.enterpriseassetmanager.domain.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+/**
+ * Base class of the tests running the full application against PostgreSQL
+ * (see {@link PostgresTestConfiguration}).
+ * <p>
+ * Subclasses without further context customization share one cached context.
+ * Every test runs as an ADMIN auditor, since auditing requires a current user
+ * for {@code createdBy}.
+ * </p>
+ */
+@SpringBootTest(properties = {
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "application.security.jwt.secret-key=404E635266556A586E3272357538782F413F4428472B4B6250645367566B5970",
+        "application.security.jwt.expiration=86400000"
+})
+@Import(PostgresTestConfiguration.class)
+public abstract class PostgresIntegrationTest {
+
+    @BeforeEach
+    void authenticateAuditor() {
+        User auditor = User.builder().username("integration-test").role(Role.ADMIN).build();
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(auditor, null, auditor.getAuthorities()));
+    }
+
+    @AfterEach
+    void clearAuthentication() {
+        SecurityContextHolder.clearContext();
+    }
+}
@@ -0,0 +1,29 @@
+package du.tum.student.enterpriseassetmanager.support;
+
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.testcontainers.postgresql.PostgreSQLContainer;
+
+/**
+ * PostgreSQL container for integration tests.
+ * <p>
+ * Declared as a bean, the container lives as long as the application context.
+ * Test classes sharing a context configuration thus share one cached context
+ * and one container instead of starting their own.
+ * </p>
+ */
+@TestConfiguration(proxyBeanMethods = false)
+public class PostgresTestConfiguration {
+
+    /**
+     * The container the datasource connects to.
+     *
+     * @return the PostgreSQL 16 container
+     */
+    @Bean
+    @ServiceConnection
+    PostgreSQLContainer postgres() {
+        return new PostgreSQLContainer("postgres:16-alpine");
+    }
+}